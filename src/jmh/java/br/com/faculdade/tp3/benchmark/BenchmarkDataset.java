@@ -0,0 +1,94 @@
+package br.com.faculdade.tp3.benchmark;
+
+import br.com.faculdade.tp3.Tp3PerformanceCrudWebApplication;
+import br.com.faculdade.tp3.service.FuncionarioSearchIndex;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+final class BenchmarkDataset {
+
+    static final long PRIMEIRO_ID = 10_000_000L;
+
+    private static final int TAMANHO_BATCH = 5_000;
+    private static final String[] NOMES = {
+            "Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela", "Heitor", "Isabela", "João",
+            "Karina", "Lucas", "Mariana", "Nicolas", "Olívia", "Pedro", "Rafaela", "Samuel", "Talita", "Vinícius"
+    };
+    private static final String[] SOBRENOMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+            "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa",
+            "Rocha", "Dias", "Nascimento", "Andrade", "Conceição"
+    };
+    private static final String[] CARGOS = {"Analista", "Desenvolvedor", "Coordenador", "Assistente", "Gerente"};
+
+    private BenchmarkDataset() {
+    }
+
+    static ConfigurableApplicationContext iniciar(int tamanho) {
+        return iniciar(aplicacao().web(WebApplicationType.NONE), "benchmark" + tamanho, tamanho);
+    }
+
+    static SpringApplicationBuilder aplicacao() {
+        return new SpringApplicationBuilder(Tp3PerformanceCrudWebApplication.class);
+    }
+
+    static ConfigurableApplicationContext iniciar(SpringApplicationBuilder aplicacao, String banco, int tamanho) {
+        ConfigurableApplicationContext context = aplicacao
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:" + banco + ";DB_CLOSE_DELAY=-1",
+                        "--spring.h2.console.enabled=false"
+                );
+
+        popular(context.getBean(JdbcTemplate.class), tamanho);
+        context.getBean(FuncionarioSearchIndex.class).reconstruir();
+        return context;
+    }
+
+    private static void popular(JdbcTemplate jdbcTemplate, int tamanho) {
+        List<Long> departamentos = jdbcTemplate.queryForList("select id from departamentos order by id", Long.class);
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        Date admissao = Date.valueOf(LocalDate.now().minusYears(1));
+
+        List<Object[]> funcionarios = new ArrayList<>(TAMANHO_BATCH);
+        List<Object[]> salarios = new ArrayList<>(TAMANHO_BATCH);
+        for (int i = 0; i < tamanho; i++) {
+            long id = PRIMEIRO_ID + i;
+            String nome = NOMES[i % NOMES.length] + " " + SOBRENOMES[(i / NOMES.length) % SOBRENOMES.length];
+            funcionarios.add(new Object[]{
+                    id,
+                    nome,
+                    "bench" + i + "@empresa.com",
+                    String.format("9%010d", i),
+                    CARGOS[i % CARGOS.length],
+                    i % 10 == 0 ? "INATIVO" : "ATIVO",
+                    departamentos.get(i % departamentos.size()),
+                    admissao,
+                    agora,
+                    agora
+            });
+            salarios.add(new Object[]{id, id, BigDecimal.valueOf(2_000 + (i % 8_000), 0).setScale(2), agora});
+
+            if (funcionarios.size() == TAMANHO_BATCH || i == tamanho - 1) {
+                jdbcTemplate.batchUpdate("""
+                        insert into funcionarios
+                            (id, nome, email, cpf, cargo, status, departamento_id, data_admissao, criado_em, atualizado_em)
+                        values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        """, funcionarios);
+                jdbcTemplate.batchUpdate(
+                        "insert into salarios (id, funcionario_id, valor_atual, atualizado_em) values (?, ?, ?, ?)",
+                        salarios);
+                funcionarios.clear();
+                salarios.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.faculdade.tp3.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CargaHttpBenchmark {
+
+    private static final int FUNCIONARIOS = 10_000;
+
+    @Param({"plataforma", "virtual"})
+    private String modo;
+
+    @Param({"400"})
+    private int concorrencia;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clienteExecutor;
+    private HttpClient cliente;
+    private HttpRequest timeout;
+    private HttpRequest listagem;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        boolean virtual = "virtual".equals(modo);
+        if (virtual && Runtime.version().feature() < 21) {
+            System.err.println("Modo virtual requer Java 21; executando com threads de plataforma.");
+        }
+
+        context = BenchmarkDataset.iniciar(
+                BenchmarkDataset.aplicacao()
+                        .web(WebApplicationType.SERVLET)
+                        .profiles(virtual ? new String[]{"virtual-threads"} : new String[0])
+                        .properties("server.port=0"),
+                "carga-" + modo,
+                FUNCIONARIOS
+        );
+
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        clienteExecutor = Executors.newCachedThreadPool();
+        cliente = HttpClient.newBuilder()
+                .executor(clienteExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        timeout = HttpRequest.newBuilder(URI.create(base + "/api/rh/diagnostico/timeout?delayMs=50&timeoutMs=15000"))
+                .build();
+        listagem = HttpRequest.newBuilder(URI.create(base + "/api/rh/funcionarios?ativos=true&tamanho=50"))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        context.close();
+        clienteExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int timeoutSimulado(Falhas falhas) {
+        return disparar(timeout, falhas);
+    }
+
+    @Benchmark
+    public int listarFuncionarios(Falhas falhas) {
+        return disparar(listagem, falhas);
+    }
+
+    private int disparar(HttpRequest requisicao, Falhas falhas) {
+        List<CompletableFuture<HttpResponse<Void>>> respostas = new ArrayList<>(concorrencia);
+        for (int i = 0; i < concorrencia; i++) {
+            respostas.add(cliente.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding()));
+        }
+
+        int sucessos = 0;
+        for (CompletableFuture<HttpResponse<Void>> resposta : respostas) {
+            if (resposta.handle((r, erro) -> erro == null && r.statusCode() == 200).join()) {
+                sucessos++;
+            } else {
+                falhas.erros++;
+            }
+        }
+        return sucessos;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Falhas {
+
+        public long erros;
+
+        @Setup(Level.Iteration)
+        public void zerar() {
+            erros = 0;
+        }
+    }
+}
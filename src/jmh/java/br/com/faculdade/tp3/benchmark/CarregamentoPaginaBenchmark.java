@@ -0,0 +1,163 @@
+package br.com.faculdade.tp3.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Carrega /rh/funcionarios como um navegador: a página e, em paralelo, o CSS e o JS que ela referencia.
+// Na visita repetida recursos com Cache-Control imutável saem do cache local e os demais são revalidados.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CarregamentoPaginaBenchmark {
+
+    private static final int FUNCIONARIOS = 1_000;
+    private static final Pattern RECURSO = Pattern.compile("(?:href|src)=\"(/(?:css|js)/[^\"]+)\"");
+
+    @Param({"padrao", "prod"})
+    private String perfil;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient cliente;
+    private String base;
+    private final Map<String, String> validadores = new HashMap<>();
+    private final Set<String> imutaveis = new HashSet<>();
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        context = BenchmarkDataset.iniciar(
+                BenchmarkDataset.aplicacao()
+                        .web(WebApplicationType.SERVLET)
+                        .profiles("prod".equals(perfil) ? new String[]{"prod"} : new String[0])
+                        .properties("server.port=0"),
+                "pagina-" + perfil,
+                FUNCIONARIOS
+        );
+        base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        HttpResponse<byte[]> pagina = buscar("/rh/funcionarios", null);
+        for (String recurso : recursos(pagina)) {
+            HttpResponse<byte[]> resposta = buscar(recurso, null);
+            if (resposta.headers().firstValue("Cache-Control").orElse("").contains("immutable")) {
+                imutaveis.add(recurso);
+            }
+            resposta.headers().firstValue("Last-Modified").ifPresent(data -> validadores.put(recurso, data));
+        }
+        System.out.printf("perfil=%s bytes primeira visita=%d, visita repetida=%d, recursos imutáveis=%d%n",
+                perfil, primeiraVisita(), visitaRepetida(), imutaveis.size());
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        context.close();
+    }
+
+    @Benchmark
+    public long primeiraVisita() {
+        HttpResponse<byte[]> pagina = buscar("/rh/funcionarios", null);
+        List<CompletableFuture<HttpResponse<byte[]>>> recursos = new ArrayList<>();
+        for (String recurso : recursos(pagina)) {
+            recursos.add(cliente.sendAsync(requisicao(recurso, null), HttpResponse.BodyHandlers.ofByteArray()));
+        }
+
+        long bytes = pagina.body().length;
+        for (CompletableFuture<HttpResponse<byte[]>> futura : recursos) {
+            bytes += futura.join().body().length;
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public long visitaRepetida() {
+        HttpResponse<byte[]> pagina = buscar("/rh/funcionarios", null);
+        List<CompletableFuture<HttpResponse<byte[]>>> recursos = new ArrayList<>();
+        for (String recurso : recursos(pagina)) {
+            if (!imutaveis.contains(recurso)) {
+                recursos.add(cliente.sendAsync(
+                        requisicao(recurso, validadores.get(recurso)), HttpResponse.BodyHandlers.ofByteArray()));
+            }
+        }
+
+        long bytes = pagina.body().length;
+        for (CompletableFuture<HttpResponse<byte[]>> futura : recursos) {
+            bytes += futura.join().body().length;
+        }
+        return bytes;
+    }
+
+    private HttpResponse<byte[]> buscar(String caminho, String ultimaModificacao) {
+        try {
+            return cliente.send(requisicao(caminho, ultimaModificacao), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (Exception ex) {
+            throw new IllegalStateException("Falha ao buscar " + caminho, ex);
+        }
+    }
+
+    private HttpRequest requisicao(String caminho, String ultimaModificacao) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(base + caminho))
+                .header("Accept-Encoding", "br, gzip");
+        if (ultimaModificacao != null) {
+            builder.header("If-Modified-Since", ultimaModificacao);
+        }
+        return builder.build();
+    }
+
+    private static List<String> recursos(HttpResponse<byte[]> pagina) {
+        List<String> recursos = new ArrayList<>();
+        Matcher matcher = RECURSO.matcher(new String(descomprimir(pagina), StandardCharsets.ISO_8859_1));
+        while (matcher.find()) {
+            recursos.add(matcher.group(1));
+        }
+        return recursos;
+    }
+
+    private static byte[] descomprimir(HttpResponse<byte[]> resposta) {
+        if (!"gzip".equals(resposta.headers().firstValue("Content-Encoding").orElse(""))) {
+            return resposta.body();
+        }
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(resposta.body()))) {
+            return entrada.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.faculdade.tp3.benchmark;
+
+import br.com.faculdade.tp3.dto.PaginaResponse;
+import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.service.RhService;
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class RhServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int tamanho;
+
+    private final AtomicLong contratacoes = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private RhService rhService;
+    private Long departamentoId;
+    private AjusteSalarialPayload aumento;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        context = BenchmarkDataset.iniciar(tamanho);
+        rhService = context.getBean(RhService.class);
+        departamentoId = context.getBean(DepartamentoRepository.class).findAllByOrderByNomeAsc().get(0).getId();
+
+        aumento = new AjusteSalarialPayload();
+        aumento.setPercentual(new BigDecimal("0.01"));
+        aumento.setMotivo("Benchmark de aumento");
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        context.close();
+    }
+
+    @Benchmark
+    public Funcionario contratar() {
+        long sequencial = contratacoes.incrementAndGet();
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Contratação Benchmark");
+        payload.setEmail("contratacao" + sequencial + "@bench.com");
+        payload.setCpf(String.format("8%010d", sequencial));
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamentoId);
+        payload.setSalarioInicial(new BigDecimal("3500.00"));
+        return rhService.contratar(payload);
+    }
+
+    @Benchmark
+    public Funcionario aumentarSalario() {
+        int indice = ThreadLocalRandom.current().nextInt(tamanho);
+        if (indice % 10 == 0) {
+            indice++;
+        }
+        return rhService.aumentarSalario(BenchmarkDataset.PRIMEIRO_ID + indice, aumento);
+    }
+
+    @Benchmark
+    public PaginaResponse<FuncionarioResumo> listarFuncionarios() {
+        return rhService.listarFuncionarios(null, null, null, 50);
+    }
+
+    @Benchmark
+    public PaginaResponse<FuncionarioResumo> listarFuncionariosPorNome() {
+        return rhService.listarFuncionarios("silva", null, null, 50);
+    }
+}
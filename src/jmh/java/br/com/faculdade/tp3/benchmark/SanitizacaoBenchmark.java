@@ -0,0 +1,82 @@
+package br.com.faculdade.tp3.benchmark;
+
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import br.com.faculdade.tp3.fuzz.SanitizadorRegex;
+import br.com.faculdade.tp3.service.InputSanitizer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SanitizacaoBenchmark {
+
+    private static final String NOME = "  Maria Conceição de Andrade  ";
+    private static final String MOTIVO = "Reconhecimento pelo desempenho consistente nas entregas do trimestre, "
+            + "liderança técnica no projeto de migração e apoio aos novos integrantes da equipe de atendimento "
+            + "ao cliente durante o período de implantação do novo sistema de folha de pagamento.";
+    private static final String MALICIOSO = "Ajuste solicitado pelo gestor; drop table funcionarios";
+    private static final String EMAIL = "Maria.Andrade@Empresa.com.br";
+
+    private final InputSanitizer inputSanitizer = new InputSanitizer();
+    private final SanitizadorRegex sanitizadorRegex = new SanitizadorRegex();
+
+    @Benchmark
+    public String sanitizarTexto() {
+        return inputSanitizer.sanitizarTexto(MOTIVO, "Motivo", true, 5, 255);
+    }
+
+    @Benchmark
+    public String sanitizarTextoRegex() {
+        return sanitizadorRegex.sanitizarTexto(MOTIVO, "Motivo", true, 5, 255);
+    }
+
+    @Benchmark
+    public String sanitizarTextoHumano() {
+        return inputSanitizer.sanitizarTextoHumano(NOME, "Nome", true, 3, 120);
+    }
+
+    @Benchmark
+    public String sanitizarTextoHumanoRegex() {
+        return sanitizadorRegex.sanitizarTextoHumano(NOME, "Nome", true, 3, 120);
+    }
+
+    @Benchmark
+    public String sanitizarEmail() {
+        return inputSanitizer.sanitizarEmail(EMAIL);
+    }
+
+    @Benchmark
+    public String sanitizarEmailRegex() {
+        return sanitizadorRegex.sanitizarEmail(EMAIL);
+    }
+
+    @Benchmark
+    public String rejeitarTextoMalicioso() {
+        try {
+            return inputSanitizer.sanitizarTexto(MALICIOSO, "Motivo", true, 5, 255);
+        } catch (EntradaInvalidaException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String rejeitarTextoMaliciosoRegex() {
+        try {
+            return sanitizadorRegex.sanitizarTexto(MALICIOSO, "Motivo", true, 5, 255);
+        } catch (EntradaInvalidaException ex) {
+            return ex.getMessage();
+        }
+    }
+}
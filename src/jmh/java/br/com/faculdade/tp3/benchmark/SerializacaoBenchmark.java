@@ -0,0 +1,120 @@
+package br.com.faculdade.tp3.benchmark;
+
+import br.com.faculdade.tp3.dto.rh.FuncionarioResponse;
+import br.com.faculdade.tp3.dto.rh.MovimentacaoResponse;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.Salario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Antes: entidades JPA com o ObjectMapper padrão. Depois: records de resposta com o módulo Blackbird.
+// Rode com "-prof gc" para ver gc.alloc.rate.norm (bytes alocados por resposta).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    private static final int FUNCIONARIOS = 100;
+    private static final int MOVIMENTACOES = 50;
+
+    @Param({"entidade", "dto"})
+    private String modelo;
+
+    @Param({"padrao", "blackbird"})
+    private String mapeador;
+
+    private ObjectMapper objectMapper;
+    private List<?> funcionarios;
+    private List<?> movimentacoes;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("blackbird".equals(mapeador)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        Departamento departamento = new Departamento("Tecnologia", "TI");
+        departamento.setId(1L);
+        List<Funcionario> entidades = new ArrayList<>(FUNCIONARIOS);
+        for (long id = 1; id <= FUNCIONARIOS; id++) {
+            entidades.add(funcionario(id, departamento));
+        }
+        List<MovimentacaoRh> historico = new ArrayList<>(MOVIMENTACOES);
+        for (long id = 1; id <= MOVIMENTACOES; id++) {
+            historico.add(movimentacao(id));
+        }
+
+        boolean dto = "dto".equals(modelo);
+        funcionarios = dto ? entidades.stream().map(FuncionarioResponse::de).toList() : entidades;
+        movimentacoes = dto ? historico.stream().map(MovimentacaoResponse::de).toList() : historico;
+    }
+
+    @Benchmark
+    public byte[] listaFuncionarios() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(funcionarios);
+    }
+
+    @Benchmark
+    public byte[] historico() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(movimentacoes);
+    }
+
+    private static Funcionario funcionario(long id, Departamento departamento) {
+        Funcionario funcionario = new Funcionario();
+        funcionario.setId(id);
+        funcionario.setNome("Funcionário " + id);
+        funcionario.setEmail("funcionario" + id + "@empresa.com");
+        funcionario.setCpf(String.format("%011d", id));
+        funcionario.setCargo("Analista");
+        funcionario.setStatus(FuncionarioStatus.ATIVO);
+        funcionario.setDepartamento(departamento);
+        funcionario.setDataAdmissao(LocalDate.of(2024, 1, 1).plusDays(id));
+        funcionario.prePersist();
+        Salario salario = new Salario();
+        salario.setId(id);
+        salario.setValorAtual(BigDecimal.valueOf(300_000 + id, 2));
+        funcionario.definirSalario(salario);
+        return funcionario;
+    }
+
+    private static MovimentacaoRh movimentacao(long id) {
+        MovimentacaoRh movimentacao = new MovimentacaoRh();
+        movimentacao.setId(id);
+        movimentacao.setTipo(TipoMovimentacaoRh.AUMENTO_SALARIAL);
+        movimentacao.setDescricao("Aumento salarial: Mérito individual");
+        movimentacao.setSalarioAnterior(BigDecimal.valueOf(300_000 + id, 2));
+        movimentacao.setSalarioNovo(BigDecimal.valueOf(330_000 + id, 2));
+        movimentacao.setCargo("Analista");
+        movimentacao.setMovimentadoEm(LocalDateTime.of(2024, 1, 1, 9, 0).plusDays(id));
+        return movimentacao;
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.faculdade.tp3.benchmark;
+
+import br.com.faculdade.tp3.dto.rh.SimulacaoFolhaResponse;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.service.FolhaSalarial;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SimulacaoFolhaBenchmark {
+
+    private static final int DEPARTAMENTOS = 12;
+
+    @Param({"100000", "1000000"})
+    private int tamanho;
+
+    private FolhaSalarial folha;
+    private Map<Long, BigDecimal> regras;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        List<Departamento> departamentos = new ArrayList<>(DEPARTAMENTOS);
+        for (long id = 1; id <= DEPARTAMENTOS; id++) {
+            Departamento departamento = new Departamento("Departamento " + id, "D" + id);
+            departamento.setId(id);
+            departamentos.add(departamento);
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        FolhaSalarial.Construtor construtor = FolhaSalarial.construtor(departamentos);
+        for (int i = 0; i < tamanho; i++) {
+            construtor.adicionar(1 + random.nextInt(DEPARTAMENTOS), BigDecimal.valueOf(random.nextLong(150_000, 5_000_000), 2));
+        }
+        folha = construtor.construir(1, ForkJoinPool.commonPool());
+        regras = Map.of(1L, new BigDecimal("7.00"), 2L, new BigDecimal("12.50"));
+    }
+
+    @Benchmark
+    public SimulacaoFolhaResponse simular() {
+        return folha.simular(regras, new BigDecimal("3.00"));
+    }
+}
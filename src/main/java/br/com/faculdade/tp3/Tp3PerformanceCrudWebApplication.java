@@ -2,8 +2,10 @@ package br.com.faculdade.tp3;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class Tp3PerformanceCrudWebApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,41 @@
+package br.com.faculdade.tp3.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 3)
+public class CacheConfig {
+
+    public static final String DEPARTAMENTOS = "departamentos";
+    public static final String DEPARTAMENTO_POR_ID = "departamentoPorId";
+    public static final String FUNCIONARIOS = "funcionarios";
+
+    @Bean
+    CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(DEPARTAMENTOS, Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofHours(1))
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(DEPARTAMENTO_POR_ID, Caffeine.newBuilder()
+                .maximumSize(500)
+                .expireAfterWrite(Duration.ofHours(1))
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(FUNCIONARIOS, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.faculdade.tp3.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Troca a reflexão dos acessores por lambdas geradas via MethodHandles; o Spring Boot registra
+    // qualquer Module exposto como bean no ObjectMapper da aplicação.
+    @Bean
+    BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
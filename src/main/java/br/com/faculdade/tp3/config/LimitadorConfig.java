@@ -0,0 +1,25 @@
+package br.com.faculdade.tp3.config;
+
+import br.com.faculdade.tp3.controller.ApiExceptionHandler;
+import br.com.faculdade.tp3.controller.LimiteConcorrenciaFilter;
+import br.com.faculdade.tp3.service.LimitadorConcorrencia;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LimitadorConfig {
+
+    @Bean
+    FilterRegistrationBean<LimiteConcorrenciaFilter> limiteConcorrenciaFilter(
+            LimitadorConcorrencia limitador,
+            ApiExceptionHandler apiExceptionHandler,
+            ObjectMapper objectMapper
+    ) {
+        FilterRegistrationBean<LimiteConcorrenciaFilter> registro = new FilterRegistrationBean<>(
+                new LimiteConcorrenciaFilter(limitador, apiExceptionHandler, objectMapper));
+        registro.addUrlPatterns("/api/rh/*");
+        return registro;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.faculdade.tp3.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.time.Duration;
+import java.util.stream.Stream;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricasConfig {
+
+    private static final String REQUISICOES_HTTP = "http.server.requests";
+    private static final String PREFIXO_API_RH = "/api/rh";
+    private static final double[] FAIXAS_LATENCIA = Stream.of(5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000)
+            .mapToDouble(ms -> Duration.ofMillis(ms).toNanos())
+            .toArray();
+
+    @Bean
+    MeterFilter histogramaApiRh() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                String uri = id.getTag("uri");
+                if (!REQUISICOES_HTTP.equals(id.getName()) || uri == null || !uri.startsWith(PREFIXO_API_RH)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(FAIXAS_LATENCIA)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
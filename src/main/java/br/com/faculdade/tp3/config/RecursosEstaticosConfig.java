@@ -0,0 +1,45 @@
+package br.com.faculdade.tp3.config;
+
+import jakarta.servlet.DispatcherType;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+@Configuration
+@ConditionalOnProperty(name = "rh.web.recursos-versionados", havingValue = "true")
+public class RecursosEstaticosConfig implements WebMvcConfigurer {
+
+    private static final List<String> PASTAS = List.of("css", "js");
+
+    // A URL muda junto com o conteúdo, então o navegador pode guardar o arquivo sem revalidar.
+    private static final CacheControl IMUTAVEL = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String pasta : PASTAS) {
+            registry.addResourceHandler("/" + pasta + "/**")
+                    .addResourceLocations("classpath:/static/" + pasta + "/")
+                    .setCacheControl(IMUTAVEL)
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    @Bean
+    FilterRegistrationBean<ResourceUrlEncodingFilter> resourceUrlEncodingFilter() {
+        FilterRegistrationBean<ResourceUrlEncodingFilter> registro =
+                new FilterRegistrationBean<>(new ResourceUrlEncodingFilter());
+        registro.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ERROR);
+        return registro;
+    }
+}
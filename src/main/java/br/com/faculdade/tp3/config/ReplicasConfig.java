@@ -0,0 +1,74 @@
+package br.com.faculdade.tp3.config;
+
+import br.com.faculdade.tp3.controller.ConsistenciaLeituraFilter;
+import br.com.faculdade.tp3.service.ConsistenciaLeitura;
+import br.com.faculdade.tp3.service.ReplicasLeitura;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(name = "rh.replicas.habilitado", havingValue = "true")
+public class ReplicasConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource dataSourcePrimario(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "fechar")
+    ReplicasLeitura replicasLeitura(
+            HikariDataSource dataSourcePrimario,
+            DataSourceProperties properties,
+            ConsistenciaLeitura consistenciaLeitura,
+            MeterRegistry meterRegistry,
+            @Value("${rh.replicas.urls}") List<String> urls,
+            @Value("${rh.replicas.tamanho-pool:10}") int tamanhoPool
+    ) {
+        List<HikariDataSource> pools = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(urls.get(i).trim());
+            pool.setUsername(properties.determineUsername());
+            pool.setPassword(properties.determinePassword());
+            pool.setMaximumPoolSize(tamanhoPool);
+            pools.add(pool);
+        }
+        return new ReplicasLeitura(dataSourcePrimario, pools, consistenciaLeitura, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource dataSourcePrimario, ReplicasLeitura replicasLeitura) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(dataSourcePrimario);
+        dataSource.setReadOnlyDataSource(replicasLeitura);
+        return dataSource;
+    }
+
+    @Bean
+    FilterRegistrationBean<ConsistenciaLeituraFilter> consistenciaLeituraFilter(
+            ConsistenciaLeitura consistenciaLeitura
+    ) {
+        FilterRegistrationBean<ConsistenciaLeituraFilter> registro =
+                new FilterRegistrationBean<>(new ConsistenciaLeituraFilter(consistenciaLeitura));
+        registro.addUrlPatterns("/*");
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registro;
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.faculdade.tp3.config;
+
+import br.com.faculdade.tp3.exception.ConflitoConcorrenciaException;
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import br.com.faculdade.tp3.exception.RecursoDuplicadoException;
+import br.com.faculdade.tp3.exception.RecursoNaoEncontradoException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ResilienciaConfig {
+
+    public static final String LEITURA = "rhLeitura";
+    public static final String ESCRITA = "rhEscrita";
+
+    @Bean
+    CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.TIME_BASED)
+                .slidingWindowSize(30)
+                .minimumNumberOfCalls(20)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(Duration.ofSeconds(2))
+                .slowCallRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(10))
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .ignoreExceptions(
+                        EntradaInvalidaException.class,
+                        RecursoNaoEncontradoException.class,
+                        RecursoDuplicadoException.class,
+                        ConflitoConcorrenciaException.class,
+                        IllegalArgumentException.class
+                )
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        registry.circuitBreaker(LEITURA);
+        registry.circuitBreaker(ESCRITA);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    BulkheadRegistry bulkheadRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${rh.resiliencia.leitura.max-concorrencia:20}") int maxLeituras,
+            @Value("${rh.resiliencia.escrita.max-concorrencia:5}") int maxEscritas
+    ) {
+        BulkheadRegistry registry = BulkheadRegistry.of(Map.of(
+                LEITURA, BulkheadConfig.custom()
+                        .maxConcurrentCalls(maxLeituras)
+                        .maxWaitDuration(Duration.ofMillis(200))
+                        .build(),
+                ESCRITA, BulkheadConfig.custom()
+                        .maxConcurrentCalls(maxEscritas)
+                        .maxWaitDuration(Duration.ofMillis(50))
+                        .build()
+        ));
+        registry.bulkhead(LEITURA, LEITURA);
+        registry.bulkhead(ESCRITA, ESCRITA);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
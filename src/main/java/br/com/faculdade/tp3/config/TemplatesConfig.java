@@ -0,0 +1,52 @@
+package br.com.faculdade.tp3.config;
+
+import java.io.IOException;
+import java.io.Writer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.StringUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.TemplateSpec;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.engine.TemplateManager;
+import org.thymeleaf.exceptions.TemplateInputException;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+
+@Configuration
+@ConditionalOnProperty(name = "rh.web.pre-aquecer-templates", havingValue = "true")
+public class TemplatesConfig {
+
+    private static final String TEMPLATES_RH = "classpath:/templates/rh/*.html";
+
+    private final TemplateEngine templateEngine;
+    private final ResourcePatternResolver recursos;
+
+    public TemplatesConfig(TemplateEngine templateEngine, ResourcePatternResolver recursos) {
+        this.templateEngine = templateEngine;
+        this.recursos = recursos;
+    }
+
+    // Com o cache ligado, o Thymeleaf guarda o template já parseado antes de processá-lo. Sem uma requisição
+    // o processamento para nas expressões que dependem dela (links @{...}, modelo), mas o parse já ficou no
+    // cache; só erros de leitura ou de sintaxe do template interrompem a subida. O TemplateManager é chamado
+    // direto porque o TemplateEngine registraria como erro cada processamento interrompido.
+    @EventListener(ApplicationStartedEvent.class)
+    public void preAquecer() throws IOException {
+        TemplateManager templateManager = templateEngine.getConfiguration().getTemplateManager();
+        for (Resource recurso : recursos.getResources(TEMPLATES_RH)) {
+            String template = "rh/" + StringUtils.stripFilenameExtension(recurso.getFilename());
+            try {
+                templateManager.parseAndProcess(
+                        new TemplateSpec(template, null, (String) null, null), new Context(), Writer.nullWriter());
+            } catch (TemplateInputException ex) {
+                throw ex;
+            } catch (TemplateProcessingException ex) {
+                // Esperado fora de uma requisição.
+            }
+        }
+    }
+}
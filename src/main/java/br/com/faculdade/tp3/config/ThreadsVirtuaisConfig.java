@@ -0,0 +1,26 @@
+package br.com.faculdade.tp3.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("virtual-threads")
+public class ThreadsVirtuaisConfig {
+
+    private static final int VERSAO_MINIMA = 21;
+
+    // Abaixo do Java 21 o Spring Boot ignora spring.threads.virtual.enabled, e o pool JDBC e os bulkheads do profile
+    // ficariam valendo sobre threads de plataforma; a verificação roda antes de qualquer bean ser criado.
+    @Bean
+    static BeanFactoryPostProcessor verificarVersaoJava() {
+        return beanFactory -> {
+            int versao = Runtime.version().feature();
+            if (versao < VERSAO_MINIMA) {
+                throw new IllegalStateException("O profile virtual-threads requer Java " + VERSAO_MINIMA
+                        + " ou superior; em execução: Java " + versao + ".");
+            }
+        };
+    }
+}
@@ -2,12 +2,16 @@ package br.com.faculdade.tp3.controller;
 
 import br.com.faculdade.tp3.dto.ApiErrorResponse;
 import br.com.faculdade.tp3.controller.rh.DiagnosticoApiController;
+import br.com.faculdade.tp3.controller.rh.RelatorioApiController;
 import br.com.faculdade.tp3.controller.rh.RhApiController;
+import br.com.faculdade.tp3.exception.ConflitoConcorrenciaException;
 import br.com.faculdade.tp3.exception.EntradaInvalidaException;
 import br.com.faculdade.tp3.exception.RecursoDuplicadoException;
 import br.com.faculdade.tp3.exception.RecursoNaoEncontradoException;
 import br.com.faculdade.tp3.exception.SobrecargaSistemaException;
 import br.com.faculdade.tp3.exception.TimeoutServicoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
@@ -19,36 +23,48 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-@RestControllerAdvice(assignableTypes = {RhApiController.class, DiagnosticoApiController.class})
+@RestControllerAdvice(assignableTypes = {RhApiController.class, DiagnosticoApiController.class, RelatorioApiController.class})
 public class ApiExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    public ApiExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(RecursoNaoEncontradoException.class)
     public ResponseEntity<ApiErrorResponse> handleNotFound(RecursoNaoEncontradoException ex, HttpServletRequest request) {
-        return build(HttpStatus.NOT_FOUND, ex.getMessage(), request.getRequestURI());
+        return build(HttpStatus.NOT_FOUND, ex, ex.getMessage(), request.getRequestURI());
     }
 
     @ExceptionHandler(RecursoDuplicadoException.class)
     public ResponseEntity<ApiErrorResponse> handleConflict(RecursoDuplicadoException ex, HttpServletRequest request) {
-        return build(HttpStatus.CONFLICT, ex.getMessage(), request.getRequestURI());
+        return build(HttpStatus.CONFLICT, ex, ex.getMessage(), request.getRequestURI());
+    }
+
+    @ExceptionHandler(ConflitoConcorrenciaException.class)
+    public ResponseEntity<ApiErrorResponse> handleConcurrentUpdate(ConflitoConcorrenciaException ex, HttpServletRequest request) {
+        return build(HttpStatus.CONFLICT, ex, ex.getMessage(), request.getRequestURI());
     }
 
     @ExceptionHandler({EntradaInvalidaException.class, IllegalArgumentException.class})
     public ResponseEntity<ApiErrorResponse> handleBadRequest(RuntimeException ex, HttpServletRequest request) {
-        return build(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getRequestURI());
+        return build(HttpStatus.BAD_REQUEST, ex, ex.getMessage(), request.getRequestURI());
     }
 
     @ExceptionHandler(TimeoutServicoException.class)
     public ResponseEntity<ApiErrorResponse> handleTimeout(TimeoutServicoException ex, HttpServletRequest request) {
-        return build(HttpStatus.GATEWAY_TIMEOUT, ex.getMessage(), request.getRequestURI());
+        return build(HttpStatus.GATEWAY_TIMEOUT, ex, ex.getMessage(), request.getRequestURI());
     }
 
     @ExceptionHandler(SobrecargaSistemaException.class)
     public ResponseEntity<ApiErrorResponse> handleOverload(SobrecargaSistemaException ex, HttpServletRequest request) {
-        return build(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request.getRequestURI());
+        return build(HttpStatus.SERVICE_UNAVAILABLE, ex, ex.getMessage(), request.getRequestURI());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex, HttpServletRequest request) {
+        registrarErro(HttpStatus.BAD_REQUEST, ex);
         Map<String, String> errosCampos = new LinkedHashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
             String nomeCampo = ((FieldError) error).getField();
@@ -68,12 +84,13 @@ public class ApiExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleGeneric(Exception ex, HttpServletRequest request) {
-        return build(HttpStatus.INTERNAL_SERVER_ERROR,
+        return build(HttpStatus.INTERNAL_SERVER_ERROR, ex,
                 "Erro interno no servidor. Tente novamente mais tarde.",
                 request.getRequestURI());
     }
 
-    private ResponseEntity<ApiErrorResponse> build(HttpStatus status, String message, String path) {
+    private ResponseEntity<ApiErrorResponse> build(HttpStatus status, Exception ex, String message, String path) {
+        registrarErro(status, ex);
         ApiErrorResponse body = new ApiErrorResponse(
                 LocalDateTime.now(),
                 status.value(),
@@ -83,4 +100,13 @@ public class ApiExceptionHandler {
         );
         return ResponseEntity.status(status).body(body);
     }
+
+    private void registrarErro(HttpStatus status, Exception ex) {
+        Counter.builder("rh.api.erros")
+                .description("Respostas de erro da API de RH por status")
+                .tag("status", String.valueOf(status.value()))
+                .tag("excecao", ex.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
 }
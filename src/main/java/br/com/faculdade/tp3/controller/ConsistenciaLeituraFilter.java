@@ -0,0 +1,66 @@
+package br.com.faculdade.tp3.controller;
+
+import br.com.faculdade.tp3.service.ConsistenciaLeitura;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class ConsistenciaLeituraFilter extends OncePerRequestFilter {
+
+    public static final String CABECALHO_VERSAO = "X-Rh-Versao";
+    static final String ATRIBUTO_VERSAO = ConsistenciaLeituraFilter.class.getName() + ".versao";
+
+    private static final String PREFIXO_API = "/api/";
+
+    private final ConsistenciaLeitura consistenciaLeitura;
+
+    public ConsistenciaLeituraFilter(ConsistenciaLeitura consistenciaLeitura) {
+        this.consistenciaLeitura = consistenciaLeitura;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long versao = Math.max(versaoDoCabecalho(request), versaoDaSessao(request));
+        consistenciaLeitura.iniciar(versao, escrita -> lembrar(request, response, escrita));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            consistenciaLeitura.encerrar();
+        }
+    }
+
+    private static void lembrar(HttpServletRequest request, HttpServletResponse response, long versao) {
+        if (response.isCommitted()) {
+            return;
+        }
+        response.setHeader(CABECALHO_VERSAO, Long.toString(versao));
+
+        String caminho = request.getRequestURI().substring(request.getContextPath().length());
+        HttpSession sessao = request.getSession(!caminho.startsWith(PREFIXO_API));
+        if (sessao != null) {
+            sessao.setAttribute(ATRIBUTO_VERSAO, versao);
+        }
+    }
+
+    private static long versaoDoCabecalho(HttpServletRequest request) {
+        String valor = request.getHeader(CABECALHO_VERSAO);
+        if (valor == null || valor.isBlank()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(valor.trim()));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    private static long versaoDaSessao(HttpServletRequest request) {
+        HttpSession sessao = request.getSession(false);
+        return sessao != null && sessao.getAttribute(ATRIBUTO_VERSAO) instanceof Long versao ? versao : 0;
+    }
+}
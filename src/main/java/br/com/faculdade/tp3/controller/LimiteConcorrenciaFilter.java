@@ -0,0 +1,127 @@
+package br.com.faculdade.tp3.controller;
+
+import br.com.faculdade.tp3.dto.ApiErrorResponse;
+import br.com.faculdade.tp3.exception.SobrecargaSistemaException;
+import br.com.faculdade.tp3.service.LimitadorConcorrencia;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class LimiteConcorrenciaFilter extends OncePerRequestFilter {
+
+    private static final String PREFIXO_DIAGNOSTICO = "/api/rh/diagnostico/";
+    private static final String SUFIXO_EXPORTACAO = "/export";
+    private static final Set<String> LONGA_DURACAO = Set.of("/api/rh/funcionarios/lote", "/api/rh/simulacoes/folha");
+
+    private final LimitadorConcorrencia limitador;
+    private final ApiExceptionHandler apiExceptionHandler;
+    private final ObjectMapper objectMapper;
+
+    public LimiteConcorrenciaFilter(
+            LimitadorConcorrencia limitador,
+            ApiExceptionHandler apiExceptionHandler,
+            ObjectMapper objectMapper
+    ) {
+        this.limitador = limitador;
+        this.apiExceptionHandler = apiExceptionHandler;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return caminho(request).startsWith(PREFIXO_DIAGNOSTICO);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long inicio;
+        try {
+            inicio = limitador.adquirir();
+        } catch (SobrecargaSistemaException ex) {
+            rejeitar(ex, request, response);
+            return;
+        }
+
+        boolean amostrar = !longaDuracao(caminho(request));
+        boolean liberarAoFinal = true;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new LiberacaoAssincrona(inicio, amostrar));
+                liberarAoFinal = false;
+            }
+        } finally {
+            if (liberarAoFinal) {
+                limitador.liberar(inicio, amostrar);
+            }
+        }
+    }
+
+    private static String caminho(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean longaDuracao(String caminho) {
+        return caminho.endsWith(SUFIXO_EXPORTACAO) || LONGA_DURACAO.contains(caminho);
+    }
+
+    private void rejeitar(SobrecargaSistemaException ex, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ResponseEntity<ApiErrorResponse> erro = apiExceptionHandler.handleOverload(ex, request);
+        response.setStatus(erro.getStatusCode().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), erro.getBody());
+    }
+
+    private final class LiberacaoAssincrona implements AsyncListener {
+
+        private final long inicio;
+        private final boolean amostrar;
+        private boolean liberada;
+
+        private LiberacaoAssincrona(long inicio, boolean amostrar) {
+            this.inicio = inicio;
+            this.amostrar = amostrar;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            liberar();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private synchronized void liberar() {
+            if (!liberada) {
+                liberada = true;
+                limitador.liberar(inicio, amostrar);
+            }
+        }
+    }
+}
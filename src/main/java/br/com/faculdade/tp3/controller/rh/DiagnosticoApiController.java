@@ -1,9 +1,19 @@
 package br.com.faculdade.tp3.controller.rh;
 
+import br.com.faculdade.tp3.dto.CacheEstatisticaResponse;
+import br.com.faculdade.tp3.dto.LimitadorEstatisticaResponse;
+import br.com.faculdade.tp3.dto.ResilienciaEstatisticaResponse;
+import br.com.faculdade.tp3.dto.VerificacaoHistoricoResponse;
+import br.com.faculdade.tp3.service.CacheDiagnosticoService;
 import br.com.faculdade.tp3.service.FaultSimulationService;
+import br.com.faculdade.tp3.service.HistoricoSalarialService;
+import br.com.faculdade.tp3.service.LimitadorConcorrencia;
+import br.com.faculdade.tp3.service.ResilienciaDiagnosticoService;
+import java.util.List;
 import java.util.Map;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,9 +23,23 @@ import org.springframework.web.bind.annotation.RestController;
 public class DiagnosticoApiController {
 
     private final FaultSimulationService faultSimulationService;
+    private final CacheDiagnosticoService cacheDiagnosticoService;
+    private final LimitadorConcorrencia limitadorConcorrencia;
+    private final ResilienciaDiagnosticoService resilienciaDiagnosticoService;
+    private final HistoricoSalarialService historicoSalarialService;
 
-    public DiagnosticoApiController(FaultSimulationService faultSimulationService) {
+    public DiagnosticoApiController(
+            FaultSimulationService faultSimulationService,
+            CacheDiagnosticoService cacheDiagnosticoService,
+            LimitadorConcorrencia limitadorConcorrencia,
+            ResilienciaDiagnosticoService resilienciaDiagnosticoService,
+            HistoricoSalarialService historicoSalarialService
+    ) {
         this.faultSimulationService = faultSimulationService;
+        this.cacheDiagnosticoService = cacheDiagnosticoService;
+        this.limitadorConcorrencia = limitadorConcorrencia;
+        this.resilienciaDiagnosticoService = resilienciaDiagnosticoService;
+        this.historicoSalarialService = historicoSalarialService;
     }
 
     @GetMapping("/timeout")
@@ -32,4 +56,26 @@ public class DiagnosticoApiController {
         String status = faultSimulationService.simularSobrecarga(holdMs);
         return ResponseEntity.ok(Map.of("status", status));
     }
+
+    @GetMapping("/cache")
+    public ResponseEntity<List<CacheEstatisticaResponse>> cache() {
+        return ResponseEntity.ok(cacheDiagnosticoService.estatisticas());
+    }
+
+    @GetMapping("/limitador")
+    public ResponseEntity<LimitadorEstatisticaResponse> limitador() {
+        return ResponseEntity.ok(limitadorConcorrencia.estatisticas());
+    }
+
+    @GetMapping("/resiliencia")
+    public ResponseEntity<List<ResilienciaEstatisticaResponse>> resiliencia() {
+        return ResponseEntity.ok(resilienciaDiagnosticoService.estatisticas());
+    }
+
+    @PostMapping("/historico/verificacao")
+    public ResponseEntity<VerificacaoHistoricoResponse> verificarHistorico(
+            @RequestParam(defaultValue = "false") boolean corrigir
+    ) {
+        return ResponseEntity.ok(historicoSalarialService.verificar(corrigir));
+    }
 }
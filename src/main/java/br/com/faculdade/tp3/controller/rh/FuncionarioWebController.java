@@ -1,8 +1,10 @@
 package br.com.faculdade.tp3.controller.rh;
 
+import br.com.faculdade.tp3.dto.PaginaResponse;
 import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
 import br.com.faculdade.tp3.dto.rh.DemissaoPayload;
 import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
 import br.com.faculdade.tp3.dto.rh.PromocaoPayload;
 import br.com.faculdade.tp3.exception.EntradaInvalidaException;
 import br.com.faculdade.tp3.exception.RecursoDuplicadoException;
@@ -24,6 +26,8 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequestMapping("/rh/funcionarios")
 public class FuncionarioWebController {
 
+    private static final int TAMANHO_PAGINA = 20;
+
     private final RhService rhService;
 
     public FuncionarioWebController(RhService rhService) {
@@ -34,9 +38,13 @@ public class FuncionarioWebController {
     public String listar(
             @RequestParam(required = false) String nome,
             @RequestParam(required = false) Boolean ativos,
+            @RequestParam(required = false) String cursor,
             Model model
     ) {
-        model.addAttribute("funcionarios", rhService.listarFuncionarios(nome, ativos));
+        PaginaResponse<FuncionarioResumo> pagina = rhService.listarFuncionarios(nome, ativos, cursor, TAMANHO_PAGINA);
+        model.addAttribute("funcionarios", pagina.itens());
+        model.addAttribute("proximoCursor", pagina.next());
+        model.addAttribute("paginaInicial", cursor == null || cursor.isBlank());
         model.addAttribute("filtroNome", nome == null ? "" : nome);
         model.addAttribute("filtroAtivos", ativos);
         return "rh/lista";
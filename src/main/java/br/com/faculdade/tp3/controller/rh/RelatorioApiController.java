@@ -0,0 +1,36 @@
+package br.com.faculdade.tp3.controller.rh;
+
+import br.com.faculdade.tp3.dto.rh.RelatorioDepartamento;
+import br.com.faculdade.tp3.dto.rh.RelatorioMensal;
+import br.com.faculdade.tp3.service.RelatorioColunar;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/rh/relatorios")
+public class RelatorioApiController {
+
+    private final RelatorioColunar relatorioColunar;
+
+    public RelatorioApiController(RelatorioColunar relatorioColunar) {
+        this.relatorioColunar = relatorioColunar;
+    }
+
+    @GetMapping("/departamentos")
+    public ResponseEntity<List<RelatorioDepartamento>> porDepartamento() {
+        return ResponseEntity.ok(relatorioColunar.porDepartamento());
+    }
+
+    @GetMapping("/movimentacao-mensal")
+    public ResponseEntity<List<RelatorioMensal>> movimentacaoMensal(
+            @RequestParam(required = false) String de,
+            @RequestParam(required = false) String ate,
+            @RequestParam(required = false) Long departamentoId
+    ) {
+        return ResponseEntity.ok(relatorioColunar.movimentacaoMensal(de, ate, departamentoId));
+    }
+}
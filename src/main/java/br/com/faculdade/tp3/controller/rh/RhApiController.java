@@ -1,15 +1,36 @@
 package br.com.faculdade.tp3.controller.rh;
 
+import br.com.faculdade.tp3.dto.PaginaResponse;
 import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
 import br.com.faculdade.tp3.dto.rh.DemissaoPayload;
+import br.com.faculdade.tp3.dto.rh.DepartamentoResponse;
 import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResponse;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
+import br.com.faculdade.tp3.dto.rh.MovimentacaoResponse;
 import br.com.faculdade.tp3.dto.rh.PromocaoPayload;
-import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.dto.rh.ReajusteResponse;
+import br.com.faculdade.tp3.dto.rh.ResultadoContratacaoLote;
+import br.com.faculdade.tp3.dto.rh.SimulacaoFolhaPayload;
+import br.com.faculdade.tp3.dto.rh.SimulacaoFolhaResponse;
+import br.com.faculdade.tp3.dto.rh.TotaisDepartamento;
 import br.com.faculdade.tp3.model.Funcionario;
 import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.service.ContadoresDepartamento;
+import br.com.faculdade.tp3.service.ExportacaoService;
+import br.com.faculdade.tp3.service.FormatoExportacao;
 import br.com.faculdade.tp3.service.RhService;
+import br.com.faculdade.tp3.service.SimulacaoFolhaService;
+import br.com.faculdade.tp3.service.VersaoRecurso;
+import br.com.faculdade.tp3.service.Versionado;
+import br.com.faculdade.tp3.service.VersoesRecurso;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,68 +42,139 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/rh")
 public class RhApiController {
 
     private final RhService rhService;
+    private final ExportacaoService exportacaoService;
+    private final SimulacaoFolhaService simulacaoFolhaService;
+    private final ContadoresDepartamento contadoresDepartamento;
+    private final VersoesRecurso versoesRecurso;
 
-    public RhApiController(RhService rhService) {
+    public RhApiController(
+            RhService rhService,
+            ExportacaoService exportacaoService,
+            SimulacaoFolhaService simulacaoFolhaService,
+            ContadoresDepartamento contadoresDepartamento,
+            VersoesRecurso versoesRecurso
+    ) {
         this.rhService = rhService;
+        this.exportacaoService = exportacaoService;
+        this.simulacaoFolhaService = simulacaoFolhaService;
+        this.contadoresDepartamento = contadoresDepartamento;
+        this.versoesRecurso = versoesRecurso;
     }
 
     @GetMapping("/funcionarios")
-    public ResponseEntity<List<Funcionario>> listarFuncionarios(
+    public ResponseEntity<PaginaResponse<FuncionarioResumo>> listarFuncionarios(
             @RequestParam(required = false) String nome,
-            @RequestParam(required = false) Boolean ativos
+            @RequestParam(required = false) Boolean ativos,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            HttpServletRequest request
     ) {
-        return ResponseEntity.ok(rhService.listarFuncionarios(nome, ativos));
+        VersaoRecurso versao = versoesRecurso.listagem();
+        if (naoModificado(versao, request)) {
+            return naoModificado(versao);
+        }
+        Versionado<PaginaResponse<FuncionarioResumo>> pagina = versoesRecurso.lerListagem(
+                () -> rhService.listarFuncionarios(nome, ativos, cursor, tamanho));
+        return comVersao(pagina.versao(), pagina.valor());
+    }
+
+    @GetMapping("/funcionarios/export")
+    public ResponseEntity<StreamingResponseBody> exportarFuncionarios(
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        FormatoExportacao formato = FormatoExportacao.de(format);
+        return arquivo("funcionarios", formato, saida -> exportacaoService.exportarFuncionarios(formato, saida));
     }
 
     @GetMapping("/funcionarios/{id}")
-    public ResponseEntity<Funcionario> buscarFuncionario(@PathVariable Long id) {
-        return ResponseEntity.ok(rhService.buscarFuncionario(id));
+    public ResponseEntity<FuncionarioResponse> buscarFuncionario(@PathVariable Long id, HttpServletRequest request) {
+        Optional<VersaoRecurso> versao = versoesRecurso.funcionario(id);
+        if (versao.isPresent() && naoModificado(versao.get(), request)) {
+            return naoModificado(versao.get());
+        }
+        FuncionarioResponse funcionario = rhService.detalharFuncionario(id);
+        return comVersao(VersoesRecurso.funcionario(funcionario), funcionario);
     }
 
     @GetMapping("/funcionarios/{id}/movimentacoes")
-    public ResponseEntity<List<MovimentacaoRh>> listarMovimentacoes(@PathVariable Long id) {
-        return ResponseEntity.ok(rhService.listarMovimentacoes(id));
+    public ResponseEntity<List<MovimentacaoResponse>> listarMovimentacoes(
+            @PathVariable Long id,
+            HttpServletRequest request
+    ) {
+        Optional<VersaoRecurso> versao = versoesRecurso.movimentacoes(id);
+        if (versao.isPresent() && naoModificado(versao.get(), request)) {
+            return naoModificado(versao.get());
+        }
+        List<MovimentacaoRh> movimentacoes = rhService.listarMovimentacoes(id);
+        return comVersao(
+                VersoesRecurso.movimentacoes(id, movimentacoes),
+                movimentacoes.stream().map(MovimentacaoResponse::de).toList()
+        );
+    }
+
+    @GetMapping("/funcionarios/{id}/movimentacoes/export")
+    public ResponseEntity<StreamingResponseBody> exportarMovimentacoes(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        FormatoExportacao formato = FormatoExportacao.de(format);
+        rhService.detalharFuncionario(id);
+        return arquivo(
+                "movimentacoes-" + id,
+                formato,
+                saida -> exportacaoService.exportarMovimentacoes(id, formato, saida)
+        );
     }
 
     @PostMapping("/funcionarios")
-    public ResponseEntity<Funcionario> contratar(@Valid @RequestBody FuncionarioPayload payload) {
+    public ResponseEntity<FuncionarioResponse> contratar(@Valid @RequestBody FuncionarioPayload payload) {
         Funcionario funcionario = rhService.contratar(payload);
-        return ResponseEntity.status(HttpStatus.CREATED).body(funcionario);
+        return ResponseEntity.status(HttpStatus.CREATED).body(FuncionarioResponse.de(funcionario));
+    }
+
+    @PostMapping("/funcionarios/lote")
+    public ResponseEntity<ResultadoContratacaoLote> contratarEmLote(@RequestBody List<FuncionarioPayload> payloads) {
+        return ResponseEntity.ok(rhService.contratarEmLote(payloads));
     }
 
     @PutMapping("/funcionarios/{id}")
-    public ResponseEntity<Funcionario> atualizar(@PathVariable Long id, @Valid @RequestBody FuncionarioPayload payload) {
-        return ResponseEntity.ok(rhService.atualizarCadastro(id, payload));
+    public ResponseEntity<FuncionarioResponse> atualizar(
+            @PathVariable Long id,
+            @Valid @RequestBody FuncionarioPayload payload
+    ) {
+        return ResponseEntity.ok(FuncionarioResponse.de(rhService.atualizarCadastro(id, payload)));
     }
 
     @PostMapping("/funcionarios/{id}/aumento-salarial")
-    public ResponseEntity<Funcionario> aumentarSalario(
+    public ResponseEntity<FuncionarioResponse> aumentarSalario(
             @PathVariable Long id,
             @Valid @RequestBody AjusteSalarialPayload payload
     ) {
-        return ResponseEntity.ok(rhService.aumentarSalario(id, payload));
+        return ResponseEntity.ok(FuncionarioResponse.de(rhService.aumentarSalario(id, payload)));
     }
 
     @PostMapping("/funcionarios/{id}/promover")
-    public ResponseEntity<Funcionario> promover(
+    public ResponseEntity<FuncionarioResponse> promover(
             @PathVariable Long id,
             @Valid @RequestBody PromocaoPayload payload
     ) {
-        return ResponseEntity.ok(rhService.promover(id, payload));
+        return ResponseEntity.ok(FuncionarioResponse.de(rhService.promover(id, payload)));
     }
 
     @PostMapping("/funcionarios/{id}/demitir")
-    public ResponseEntity<Funcionario> demitir(
+    public ResponseEntity<FuncionarioResponse> demitir(
             @PathVariable Long id,
             @Valid @RequestBody DemissaoPayload payload
     ) {
-        return ResponseEntity.ok(rhService.demitir(id, payload));
+        return ResponseEntity.ok(FuncionarioResponse.de(rhService.demitir(id, payload)));
     }
 
     @DeleteMapping("/funcionarios/{id}")
@@ -92,7 +184,73 @@ public class RhApiController {
     }
 
     @GetMapping("/departamentos")
-    public ResponseEntity<List<Departamento>> listarDepartamentos() {
-        return ResponseEntity.ok(rhService.listarDepartamentos());
+    public ResponseEntity<List<DepartamentoResponse>> listarDepartamentos() {
+        return ResponseEntity.ok(rhService.listarDepartamentos().stream().map(DepartamentoResponse::de).toList());
+    }
+
+    @GetMapping("/departamentos/totais")
+    public ResponseEntity<List<TotaisDepartamento>> totaisDepartamentos() {
+        return ResponseEntity.ok(contadoresDepartamento.totais());
+    }
+
+    @PostMapping("/departamentos/{id}/reajuste")
+    public ResponseEntity<ReajusteResponse> reajustarDepartamento(
+            @PathVariable Long id,
+            @Valid @RequestBody AjusteSalarialPayload payload
+    ) {
+        ReajusteResponse reajuste = ReajusteResponse.de(rhService.iniciarReajuste(id, payload));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/rh/reajustes/" + reajuste.id()))
+                .body(reajuste);
+    }
+
+    @GetMapping("/reajustes/{id}")
+    public ResponseEntity<ReajusteResponse> buscarReajuste(@PathVariable Long id) {
+        return ResponseEntity.ok(ReajusteResponse.de(rhService.buscarReajuste(id)));
+    }
+
+    @PostMapping("/reajustes/{id}/retomar")
+    public ResponseEntity<ReajusteResponse> retomarReajuste(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(ReajusteResponse.de(rhService.retomarReajuste(id)));
+    }
+
+    @PostMapping("/simulacoes/folha")
+    public ResponseEntity<SimulacaoFolhaResponse> simularFolha(@Valid @RequestBody SimulacaoFolhaPayload payload) {
+        return ResponseEntity.ok(simulacaoFolhaService.simular(payload));
+    }
+
+    private ResponseEntity<StreamingResponseBody> arquivo(
+            String nome,
+            FormatoExportacao formato,
+            StreamingResponseBody corpo
+    ) {
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + nome + "." + formato.getExtensao() + "\"")
+                .body(corpo);
+    }
+
+    // Avalia If-None-Match/If-Modified-Since sem escrever na resposta; os cabeçalhos finais vêm do ResponseEntity.
+    private static boolean naoModificado(VersaoRecurso versao, HttpServletRequest request) {
+        return new ServletWebRequest(request).checkNotModified(versao.etag(), versao.ultimaModificacao());
+    }
+
+    private static <T> ResponseEntity<T> naoModificado(VersaoRecurso versao) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(cabecalhos(versao)).build();
+    }
+
+    private static <T> ResponseEntity<T> comVersao(VersaoRecurso versao, T corpo) {
+        return ResponseEntity.ok().headers(cabecalhos(versao)).body(corpo);
+    }
+
+    private static HttpHeaders cabecalhos(VersaoRecurso versao) {
+        HttpHeaders cabecalhos = new HttpHeaders();
+        cabecalhos.setETag(versao.etag());
+        if (versao.ultimaModificacao() != VersaoRecurso.SEM_DATA) {
+            cabecalhos.setLastModified(versao.ultimaModificacao());
+        }
+        cabecalhos.setCacheControl(CacheControl.noCache());
+        return cabecalhos;
     }
 }
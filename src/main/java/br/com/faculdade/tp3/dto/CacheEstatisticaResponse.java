@@ -0,0 +1,11 @@
+package br.com.faculdade.tp3.dto;
+
+public record CacheEstatisticaResponse(
+        String nome,
+        long tamanho,
+        long acertos,
+        long falhas,
+        double taxaAcerto,
+        long remocoes
+) {
+}
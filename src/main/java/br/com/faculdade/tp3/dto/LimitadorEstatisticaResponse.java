@@ -0,0 +1,10 @@
+package br.com.faculdade.tp3.dto;
+
+public record LimitadorEstatisticaResponse(
+        int limite,
+        int emVoo,
+        long aceitas,
+        long rejeitadas,
+        double taxaRejeicao
+) {
+}
@@ -0,0 +1,9 @@
+package br.com.faculdade.tp3.dto;
+
+import java.util.List;
+
+public record PaginaResponse<T>(
+        List<T> itens,
+        String next
+) {
+}
@@ -0,0 +1,12 @@
+package br.com.faculdade.tp3.dto;
+
+public record ResilienciaEstatisticaResponse(
+        String nome,
+        String estado,
+        float taxaFalhas,
+        float taxaChamadasLentas,
+        long chamadasRecusadas,
+        int chamadasSimultaneasDisponiveis,
+        int maxChamadasSimultaneas
+) {
+}
@@ -0,0 +1,14 @@
+package br.com.faculdade.tp3.dto;
+
+import java.util.List;
+
+public record VerificacaoHistoricoResponse(
+        long funcionarios,
+        long eventos,
+        long divergentes,
+        long corrigidos,
+        long snapshotsGravados,
+        List<Long> amostraDivergentes,
+        long duracaoMs
+) {
+}
@@ -0,0 +1,10 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import br.com.faculdade.tp3.model.Departamento;
+
+public record DepartamentoResponse(Long id, String nome, String sigla) {
+
+    public static DepartamentoResponse de(Departamento departamento) {
+        return new DepartamentoResponse(departamento.getId(), departamento.getNome(), departamento.getSigla());
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import java.math.BigDecimal;
+
+public record DepartamentoSimulado(
+        Long departamentoId,
+        String nome,
+        BigDecimal percentual,
+        long funcionarios,
+        BigDecimal folhaAtual,
+        BigDecimal folhaSimulada,
+        BigDecimal diferenca
+) {
+}
@@ -0,0 +1,15 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import java.math.BigDecimal;
+
+public record DistribuicaoSalarial(
+        BigDecimal minimo,
+        BigDecimal p10,
+        BigDecimal p25,
+        BigDecimal mediana,
+        BigDecimal p75,
+        BigDecimal p90,
+        BigDecimal maximo,
+        BigDecimal media
+) {
+}
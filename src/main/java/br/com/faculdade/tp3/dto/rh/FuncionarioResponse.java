@@ -0,0 +1,41 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record FuncionarioResponse(
+        Long id,
+        String nome,
+        String email,
+        String cpf,
+        String cargo,
+        FuncionarioStatus status,
+        DepartamentoResponse departamento,
+        SalarioResponse salario,
+        LocalDate dataAdmissao,
+        LocalDate dataDemissao,
+        LocalDateTime criadoEm,
+        LocalDateTime atualizadoEm,
+        Long versao
+) {
+
+    public static FuncionarioResponse de(Funcionario funcionario) {
+        return new FuncionarioResponse(
+                funcionario.getId(),
+                funcionario.getNome(),
+                funcionario.getEmail(),
+                funcionario.getCpf(),
+                funcionario.getCargo(),
+                funcionario.getStatus(),
+                funcionario.getDepartamento() == null ? null : DepartamentoResponse.de(funcionario.getDepartamento()),
+                funcionario.getSalario() == null ? null : SalarioResponse.de(funcionario.getSalario()),
+                funcionario.getDataAdmissao(),
+                funcionario.getDataDemissao(),
+                funcionario.getCriadoEm(),
+                funcionario.getAtualizadoEm(),
+                funcionario.getVersao()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import java.math.BigDecimal;
+
+public record FuncionarioResumo(
+        Long id,
+        String nome,
+        String cargo,
+        String sigla,
+        BigDecimal valorAtual,
+        FuncionarioStatus status
+) {
+}
@@ -0,0 +1,17 @@
+package br.com.faculdade.tp3.dto.rh;
+
+public record ItemContratacaoLote(
+        int indice,
+        boolean contratado,
+        Long funcionarioId,
+        String mensagem
+) {
+
+    public static ItemContratacaoLote contratado(int indice, Long funcionarioId) {
+        return new ItemContratacaoLote(indice, true, funcionarioId, "Contratação realizada");
+    }
+
+    public static ItemContratacaoLote rejeitado(int indice, String mensagem) {
+        return new ItemContratacaoLote(indice, false, null, mensagem);
+    }
+}
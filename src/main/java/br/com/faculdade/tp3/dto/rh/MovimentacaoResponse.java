@@ -0,0 +1,29 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record MovimentacaoResponse(
+        Long id,
+        TipoMovimentacaoRh tipo,
+        String descricao,
+        BigDecimal salarioAnterior,
+        BigDecimal salarioNovo,
+        String cargo,
+        LocalDateTime movimentadoEm
+) {
+
+    public static MovimentacaoResponse de(MovimentacaoRh movimentacao) {
+        return new MovimentacaoResponse(
+                movimentacao.getId(),
+                movimentacao.getTipo(),
+                movimentacao.getDescricao(),
+                movimentacao.getSalarioAnterior(),
+                movimentacao.getSalarioNovo(),
+                movimentacao.getCargo(),
+                movimentacao.getMovimentadoEm()
+        );
+    }
+}
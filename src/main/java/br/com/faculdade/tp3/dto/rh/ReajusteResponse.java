@@ -0,0 +1,37 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import br.com.faculdade.tp3.model.ReajusteSalarial;
+import br.com.faculdade.tp3.model.enums.StatusReajuste;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ReajusteResponse(
+        Long id,
+        Long departamentoId,
+        BigDecimal percentual,
+        StatusReajuste status,
+        long totalFuncionarios,
+        long processados,
+        long ultimoFuncionarioId,
+        String erro,
+        LocalDateTime criadoEm,
+        LocalDateTime atualizadoEm,
+        LocalDateTime concluidoEm
+) {
+
+    public static ReajusteResponse de(ReajusteSalarial reajuste) {
+        return new ReajusteResponse(
+                reajuste.getId(),
+                reajuste.getDepartamento().getId(),
+                reajuste.getPercentual(),
+                reajuste.getStatus(),
+                reajuste.getTotalFuncionarios(),
+                reajuste.getProcessados(),
+                reajuste.getUltimoFuncionarioId(),
+                reajuste.getErro(),
+                reajuste.getCriadoEm(),
+                reajuste.getAtualizadoEm(),
+                reajuste.getConcluidoEm()
+        );
+    }
+}
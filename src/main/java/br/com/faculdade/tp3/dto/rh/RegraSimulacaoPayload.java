@@ -0,0 +1,35 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+
+public class RegraSimulacaoPayload {
+
+    @NotNull(message = "Departamento é obrigatório")
+    private Long departamentoId;
+
+    @NotNull(message = "Percentual é obrigatório")
+    @DecimalMin(value = "0.00", message = "Percentual não pode ser negativo")
+    @DecimalMax(value = "300.00", message = "Percentual deve ser no máximo 300.00")
+    @Digits(integer = 4, fraction = 2, message = "Percentual inválido")
+    private BigDecimal percentual;
+
+    public Long getDepartamentoId() {
+        return departamentoId;
+    }
+
+    public void setDepartamentoId(Long departamentoId) {
+        this.departamentoId = departamentoId;
+    }
+
+    public BigDecimal getPercentual() {
+        return percentual;
+    }
+
+    public void setPercentual(BigDecimal percentual) {
+        this.percentual = percentual;
+    }
+}
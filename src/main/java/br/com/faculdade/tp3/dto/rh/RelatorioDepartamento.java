@@ -0,0 +1,15 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import java.math.BigDecimal;
+
+public record RelatorioDepartamento(
+        Long departamentoId,
+        String nome,
+        long ativos,
+        long inativos,
+        BigDecimal folha,
+        BigDecimal mediaSalarial,
+        BigDecimal menorSalario,
+        BigDecimal maiorSalario
+) {
+}
@@ -0,0 +1,10 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import java.time.YearMonth;
+
+public record RelatorioMensal(
+        YearMonth mes,
+        long admissoes,
+        long demissoes
+) {
+}
@@ -0,0 +1,11 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import java.util.List;
+
+public record ResultadoContratacaoLote(
+        int total,
+        int contratados,
+        int rejeitados,
+        List<ItemContratacaoLote> itens
+) {
+}
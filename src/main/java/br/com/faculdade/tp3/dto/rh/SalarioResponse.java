@@ -0,0 +1,12 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import br.com.faculdade.tp3.model.Salario;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record SalarioResponse(Long id, BigDecimal valorAtual, LocalDateTime atualizadoEm, Long versao) {
+
+    public static SalarioResponse de(Salario salario) {
+        return new SalarioResponse(salario.getId(), salario.getValorAtual(), salario.getAtualizadoEm(), salario.getVersao());
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimulacaoFolhaPayload {
+
+    @Valid
+    private List<RegraSimulacaoPayload> regras = new ArrayList<>();
+
+    @DecimalMin(value = "0.00", message = "Percentual não pode ser negativo")
+    @DecimalMax(value = "300.00", message = "Percentual deve ser no máximo 300.00")
+    @Digits(integer = 4, fraction = 2, message = "Percentual inválido")
+    private BigDecimal percentualDemais = BigDecimal.ZERO;
+
+    public List<RegraSimulacaoPayload> getRegras() {
+        return regras;
+    }
+
+    public void setRegras(List<RegraSimulacaoPayload> regras) {
+        this.regras = regras;
+    }
+
+    public BigDecimal getPercentualDemais() {
+        return percentualDemais;
+    }
+
+    public void setPercentualDemais(BigDecimal percentualDemais) {
+        this.percentualDemais = percentualDemais;
+    }
+}
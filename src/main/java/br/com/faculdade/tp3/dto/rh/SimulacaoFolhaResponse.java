@@ -0,0 +1,18 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record SimulacaoFolhaResponse(
+        long funcionarios,
+        BigDecimal folhaAtual,
+        BigDecimal folhaSimulada,
+        BigDecimal diferenca,
+        BigDecimal variacaoPercentual,
+        DistribuicaoSalarial distribuicaoAtual,
+        DistribuicaoSalarial distribuicaoSimulada,
+        List<DepartamentoSimulado> departamentos,
+        long versaoBase,
+        long duracaoMicros
+) {
+}
@@ -0,0 +1,12 @@
+package br.com.faculdade.tp3.dto.rh;
+
+import java.math.BigDecimal;
+
+public record TotaisDepartamento(
+        Long departamentoId,
+        long ativos,
+        BigDecimal folhaAtivos,
+        long inativos,
+        BigDecimal folhaInativos
+) {
+}
@@ -0,0 +1,8 @@
+package br.com.faculdade.tp3.exception;
+
+public class ConflitoConcorrenciaException extends RuntimeException {
+
+    public ConflitoConcorrenciaException(String mensagem, Throwable causa) {
+        super(mensagem, causa);
+    }
+}
@@ -5,4 +5,8 @@ public class SobrecargaSistemaException extends RuntimeException {
     public SobrecargaSistemaException(String mensagem) {
         super(mensagem);
     }
+
+    public SobrecargaSistemaException(String mensagem, Throwable causa) {
+        super(mensagem, causa);
+    }
 }
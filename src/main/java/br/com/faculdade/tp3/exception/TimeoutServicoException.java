@@ -5,4 +5,8 @@ public class TimeoutServicoException extends RuntimeException {
     public TimeoutServicoException(String mensagem) {
         super(mensagem);
     }
+
+    public TimeoutServicoException(String mensagem, Throwable causa) {
+        super(mensagem, causa);
+    }
 }
@@ -0,0 +1,4 @@
+package br.com.faculdade.tp3.model;
+
+public record ChaveFuncionario(String email, String cpf) {
+}
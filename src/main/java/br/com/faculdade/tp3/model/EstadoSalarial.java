@@ -0,0 +1,40 @@
+package br.com.faculdade.tp3.model;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public record EstadoSalarial(
+        Long funcionarioId,
+        BigDecimal salario,
+        String cargo,
+        long totalEventos,
+        long ultimoEventoId
+) {
+
+    public static EstadoSalarial inicial(Long funcionarioId) {
+        return new EstadoSalarial(funcionarioId, null, null, 0, 0);
+    }
+
+    public EstadoSalarial aplicar(EventoSalarial evento) {
+        return new EstadoSalarial(
+                funcionarioId,
+                evento.salarioNovo() != null ? evento.salarioNovo() : salario,
+                evento.cargo() != null ? evento.cargo() : cargo,
+                totalEventos + 1,
+                evento.id()
+        );
+    }
+
+    public boolean equivalente(EstadoSalarial outro) {
+        return totalEventos == outro.totalEventos
+                && ultimoEventoId == outro.ultimoEventoId
+                && equivalente(outro.salario, outro.cargo);
+    }
+
+    public boolean equivalente(BigDecimal outroSalario, String outroCargo) {
+        boolean mesmoSalario = salario == null || outroSalario == null
+                ? salario == outroSalario
+                : salario.compareTo(outroSalario) == 0;
+        return mesmoSalario && Objects.equals(cargo, outroCargo);
+    }
+}
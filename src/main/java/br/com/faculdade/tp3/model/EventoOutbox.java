@@ -0,0 +1,115 @@
+package br.com.faculdade.tp3.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_eventos")
+public class EventoOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_eventos_seq")
+    @SequenceGenerator(name = "outbox_eventos_seq", sequenceName = "outbox_eventos_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "funcionario_id", nullable = false)
+    private Long funcionarioId;
+
+    @Column(name = "movimentacao_id", nullable = false)
+    private Long movimentacaoId;
+
+    @Column(nullable = false, length = 40)
+    private String tipo;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private int tentativas;
+
+    @Column(name = "ultimo_erro", length = 255)
+    private String ultimoErro;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "proxima_tentativa_em")
+    private LocalDateTime proximaTentativaEm;
+
+    @Column(name = "publicado_em")
+    private LocalDateTime publicadoEm;
+
+    protected EventoOutbox() {
+    }
+
+    public EventoOutbox(Long funcionarioId, Long movimentacaoId, String tipo, String payload) {
+        this.funcionarioId = funcionarioId;
+        this.movimentacaoId = movimentacaoId;
+        this.tipo = tipo;
+        this.payload = payload;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        criadoEm = LocalDateTime.now();
+    }
+
+    public void marcarPublicado(LocalDateTime agora) {
+        publicadoEm = agora;
+        proximaTentativaEm = null;
+        ultimoErro = null;
+    }
+
+    public void registrarFalha(String erro, LocalDateTime proximaTentativa) {
+        tentativas++;
+        ultimoErro = erro == null || erro.length() <= 255 ? erro : erro.substring(0, 255);
+        proximaTentativaEm = proximaTentativa;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getFuncionarioId() {
+        return funcionarioId;
+    }
+
+    public Long getMovimentacaoId() {
+        return movimentacaoId;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public int getTentativas() {
+        return tentativas;
+    }
+
+    public String getUltimoErro() {
+        return ultimoErro;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    public LocalDateTime getProximaTentativaEm() {
+        return proximaTentativaEm;
+    }
+
+    public LocalDateTime getPublicadoEm() {
+        return publicadoEm;
+    }
+}
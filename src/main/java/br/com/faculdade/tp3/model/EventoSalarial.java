@@ -0,0 +1,13 @@
+package br.com.faculdade.tp3.model;
+
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import java.math.BigDecimal;
+
+public record EventoSalarial(
+        Long funcionarioId,
+        Long id,
+        TipoMovimentacaoRh tipo,
+        BigDecimal salarioNovo,
+        String cargo
+) {
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -22,7 +23,8 @@ import java.time.LocalDateTime;
 public class MovimentacaoRh {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movimentacoes_rh_seq")
+    @SequenceGenerator(name = "movimentacoes_rh_seq", sequenceName = "movimentacoes_rh_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -43,6 +45,9 @@ public class MovimentacaoRh {
     @Column(name = "salario_novo", precision = 12, scale = 2)
     private BigDecimal salarioNovo;
 
+    @Column(length = 100)
+    private String cargo;
+
     @Column(name = "movimentado_em", nullable = false)
     private LocalDateTime movimentadoEm;
 
@@ -55,6 +60,10 @@ public class MovimentacaoRh {
         return id;
     }
 
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public Funcionario getFuncionario() {
         return funcionario;
     }
@@ -95,7 +104,19 @@ public class MovimentacaoRh {
         this.salarioNovo = salarioNovo;
     }
 
+    public String getCargo() {
+        return cargo;
+    }
+
+    public void setCargo(String cargo) {
+        this.cargo = cargo;
+    }
+
     public LocalDateTime getMovimentadoEm() {
         return movimentadoEm;
     }
+
+    public void setMovimentadoEm(LocalDateTime movimentadoEm) {
+        this.movimentadoEm = movimentadoEm;
+    }
 }
@@ -0,0 +1,182 @@
+package br.com.faculdade.tp3.model;
+
+import br.com.faculdade.tp3.model.enums.StatusReajuste;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reajustes_salariais")
+public class ReajusteSalarial {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "departamento_id", nullable = false)
+    private Departamento departamento;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal percentual;
+
+    @Column(nullable = false, length = 255)
+    private String motivo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusReajuste status;
+
+    @Column(name = "total_funcionarios", nullable = false)
+    private long totalFuncionarios;
+
+    @Column(nullable = false)
+    private long processados;
+
+    @Column(name = "ultimo_funcionario_id", nullable = false)
+    private long ultimoFuncionarioId;
+
+    @Column(name = "limite_funcionario_id", nullable = false)
+    private long limiteFuncionarioId;
+
+    @Column(length = 255)
+    private String erro;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    @Column(name = "concluido_em")
+    private LocalDateTime concluidoEm;
+
+    @PrePersist
+    public void prePersist() {
+        LocalDateTime agora = LocalDateTime.now();
+        criadoEm = agora;
+        atualizadoEm = agora;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        atualizadoEm = LocalDateTime.now();
+    }
+
+    public void registrarBloco(int quantidade, long ultimoId) {
+        processados += quantidade;
+        ultimoFuncionarioId = ultimoId;
+    }
+
+    public void concluir() {
+        status = StatusReajuste.CONCLUIDO;
+        concluidoEm = LocalDateTime.now();
+        erro = null;
+    }
+
+    public void falhar(String mensagem) {
+        status = StatusReajuste.FALHOU;
+        erro = mensagem;
+    }
+
+    public void retomar() {
+        status = StatusReajuste.EM_ANDAMENTO;
+        erro = null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Departamento getDepartamento() {
+        return departamento;
+    }
+
+    public void setDepartamento(Departamento departamento) {
+        this.departamento = departamento;
+    }
+
+    public BigDecimal getPercentual() {
+        return percentual;
+    }
+
+    public void setPercentual(BigDecimal percentual) {
+        this.percentual = percentual;
+    }
+
+    public String getMotivo() {
+        return motivo;
+    }
+
+    public void setMotivo(String motivo) {
+        this.motivo = motivo;
+    }
+
+    public StatusReajuste getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusReajuste status) {
+        this.status = status;
+    }
+
+    public long getTotalFuncionarios() {
+        return totalFuncionarios;
+    }
+
+    public void setTotalFuncionarios(long totalFuncionarios) {
+        this.totalFuncionarios = totalFuncionarios;
+    }
+
+    public long getProcessados() {
+        return processados;
+    }
+
+    public long getUltimoFuncionarioId() {
+        return ultimoFuncionarioId;
+    }
+
+    public void setUltimoFuncionarioId(long ultimoFuncionarioId) {
+        this.ultimoFuncionarioId = ultimoFuncionarioId;
+    }
+
+    public long getLimiteFuncionarioId() {
+        return limiteFuncionarioId;
+    }
+
+    public void setLimiteFuncionarioId(long limiteFuncionarioId) {
+        this.limiteFuncionarioId = limiteFuncionarioId;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public LocalDateTime getConcluidoEm() {
+        return concluidoEm;
+    }
+}
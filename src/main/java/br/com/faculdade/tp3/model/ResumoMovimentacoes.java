@@ -0,0 +1,6 @@
+package br.com.faculdade.tp3.model;
+
+import java.time.LocalDateTime;
+
+public record ResumoMovimentacoes(long quantidade, LocalDateTime ultimaMovimentacao) {
+}
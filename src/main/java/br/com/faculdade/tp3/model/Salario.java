@@ -11,7 +11,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -21,7 +23,8 @@ import java.util.Objects;
 public class Salario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "salarios_seq")
+    @SequenceGenerator(name = "salarios_seq", sequenceName = "salarios_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -35,6 +38,10 @@ public class Salario {
     @Column(name = "atualizado_em", nullable = false)
     private LocalDateTime atualizadoEm;
 
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     @PrePersist
     @PreUpdate
     public void updateTimestamp() {
@@ -69,6 +76,10 @@ public class Salario {
         return atualizadoEm;
     }
 
+    public Long getVersao() {
+        return versao;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,6 @@
+package br.com.faculdade.tp3.model;
+
+import java.math.BigDecimal;
+
+public record SalarioVigente(Long funcionarioId, BigDecimal valorAtual) {
+}
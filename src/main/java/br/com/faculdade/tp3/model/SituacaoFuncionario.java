@@ -0,0 +1,32 @@
+package br.com.faculdade.tp3.model;
+
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record SituacaoFuncionario(
+        Long id,
+        String nome,
+        FuncionarioStatus status,
+        Long departamentoId,
+        BigDecimal salario,
+        LocalDate dataAdmissao,
+        LocalDate dataDemissao
+) {
+
+    public SituacaoFuncionario(Long id, String nome, FuncionarioStatus status) {
+        this(id, nome, status, null, null, null, null);
+    }
+
+    public static SituacaoFuncionario de(Funcionario funcionario) {
+        return new SituacaoFuncionario(
+                funcionario.getId(),
+                funcionario.getNome(),
+                funcionario.getStatus(),
+                funcionario.getDepartamento() == null ? null : funcionario.getDepartamento().getId(),
+                funcionario.getSalario() == null ? null : funcionario.getSalario().getValorAtual(),
+                funcionario.getDataAdmissao(),
+                funcionario.getDataDemissao()
+        );
+    }
+}
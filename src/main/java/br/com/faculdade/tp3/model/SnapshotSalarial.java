@@ -0,0 +1,75 @@
+package br.com.faculdade.tp3.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "snapshots_salariais")
+public class SnapshotSalarial {
+
+    @Id
+    @Column(name = "funcionario_id")
+    private Long funcionarioId;
+
+    @Column(precision = 12, scale = 2)
+    private BigDecimal salario;
+
+    @Column(length = 100)
+    private String cargo;
+
+    @Column(name = "total_eventos", nullable = false)
+    private long totalEventos;
+
+    @Column(name = "ultimo_evento_id", nullable = false)
+    private long ultimoEventoId;
+
+    @Column(name = "gerado_em", nullable = false)
+    private LocalDateTime geradoEm;
+
+    protected SnapshotSalarial() {
+    }
+
+    public SnapshotSalarial(Long funcionarioId) {
+        this.funcionarioId = funcionarioId;
+    }
+
+    public void atualizar(EstadoSalarial estado) {
+        salario = estado.salario();
+        cargo = estado.cargo();
+        totalEventos = estado.totalEventos();
+        ultimoEventoId = estado.ultimoEventoId();
+        geradoEm = LocalDateTime.now();
+    }
+
+    public EstadoSalarial estado() {
+        return new EstadoSalarial(funcionarioId, salario, cargo, totalEventos, ultimoEventoId);
+    }
+
+    public Long getFuncionarioId() {
+        return funcionarioId;
+    }
+
+    public BigDecimal getSalario() {
+        return salario;
+    }
+
+    public String getCargo() {
+        return cargo;
+    }
+
+    public long getTotalEventos() {
+        return totalEventos;
+    }
+
+    public long getUltimoEventoId() {
+        return ultimoEventoId;
+    }
+
+    public LocalDateTime getGeradoEm() {
+        return geradoEm;
+    }
+}
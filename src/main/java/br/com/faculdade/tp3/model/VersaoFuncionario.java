@@ -0,0 +1,11 @@
+package br.com.faculdade.tp3.model;
+
+import java.time.LocalDateTime;
+
+public record VersaoFuncionario(
+        Long versao,
+        Long versaoSalario,
+        LocalDateTime atualizadoEm,
+        LocalDateTime salarioAtualizadoEm
+) {
+}
@@ -0,0 +1,7 @@
+package br.com.faculdade.tp3.model.enums;
+
+public enum StatusReajuste {
+    EM_ANDAMENTO,
+    CONCLUIDO,
+    FALHOU
+}
@@ -1,10 +1,30 @@
 package br.com.faculdade.tp3.repository;
 
+import br.com.faculdade.tp3.config.CacheConfig;
 import br.com.faculdade.tp3.model.Departamento;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface DepartamentoRepository extends JpaRepository<Departamento, Long> {
 
     List<Departamento> findAllByOrderByNomeAsc();
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.DEPARTAMENTO_POR_ID, key = "#p0")
+    Optional<Departamento> findById(Long id);
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.DEPARTAMENTOS, CacheConfig.DEPARTAMENTO_POR_ID}, allEntries = true)
+    <S extends Departamento> S save(S departamento);
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.DEPARTAMENTOS, CacheConfig.DEPARTAMENTO_POR_ID}, allEntries = true)
+    void delete(Departamento departamento);
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.DEPARTAMENTOS, CacheConfig.DEPARTAMENTO_POR_ID}, allEntries = true)
+    void deleteAll();
 }
@@ -0,0 +1,36 @@
+package br.com.faculdade.tp3.repository;
+
+import br.com.faculdade.tp3.model.EventoOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EventoOutboxRepository extends JpaRepository<EventoOutbox, Long> {
+
+    @Query("""
+            select e from EventoOutbox e
+            where e.publicadoEm is null
+              and (e.proximaTentativaEm is null or e.proximaTentativaEm <= :agora)
+              and not exists (
+                  select 1 from EventoOutbox anterior
+                  where anterior.funcionarioId = e.funcionarioId
+                    and anterior.publicadoEm is null
+                    and anterior.id < e.id
+                    and anterior.proximaTentativaEm > :agora
+              )
+            order by e.id
+            """)
+    List<EventoOutbox> buscarPendentes(@Param("agora") LocalDateTime agora, Limit limite);
+
+    long countByPublicadoEmIsNull();
+
+    List<EventoOutbox> findByFuncionarioIdOrderByIdAsc(Long funcionarioId);
+
+    @Modifying
+    @Query("delete from EventoOutbox e where e.publicadoEm < :limite")
+    int removerPublicadosAntes(@Param("limite") LocalDateTime limite);
+}
@@ -1,22 +1,152 @@
 package br.com.faculdade.tp3.repository;
 
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
+import br.com.faculdade.tp3.model.ChaveFuncionario;
 import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
+import br.com.faculdade.tp3.model.VersaoFuncionario;
 import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface FuncionarioRepository extends JpaRepository<Funcionario, Long> {
 
-    List<Funcionario> findAllByOrderByNomeAsc();
+    Optional<Funcionario> findByEmail(String email);
 
-    List<Funcionario> findByNomeContainingIgnoreCaseOrderByNomeAsc(String nome);
+    Optional<Funcionario> findByCpf(String cpf);
 
-    List<Funcionario> findByStatusOrderByNomeAsc(FuncionarioStatus status);
+    @Query("""
+            select new br.com.faculdade.tp3.dto.rh.FuncionarioResumo(
+                f.id, f.nome, f.cargo, d.sigla, s.valorAtual, f.status
+            )
+            from Funcionario f
+            join f.departamento d
+            left join f.salario s
+            where f.nome > :nome or (f.nome = :nome and f.id > :id)
+            order by f.nome asc, f.id asc
+            """)
+    List<FuncionarioResumo> buscarPaginaApos(@Param("nome") String nome, @Param("id") Long id, Limit limite);
 
-    List<Funcionario> findByNomeContainingIgnoreCaseAndStatusOrderByNomeAsc(String nome, FuncionarioStatus status);
+    @Query("""
+            select new br.com.faculdade.tp3.dto.rh.FuncionarioResumo(
+                f.id, f.nome, f.cargo, d.sigla, s.valorAtual, f.status
+            )
+            from Funcionario f
+            join f.departamento d
+            left join f.salario s
+            where f.status = :status
+              and (f.nome > :nome or (f.nome = :nome and f.id > :id))
+            order by f.nome asc, f.id asc
+            """)
+    List<FuncionarioResumo> buscarPaginaPorStatusApos(
+            @Param("status") FuncionarioStatus status,
+            @Param("nome") String nome,
+            @Param("id") Long id,
+            Limit limite
+    );
 
-    Optional<Funcionario> findByEmailIgnoreCase(String email);
+    @Query("""
+            select new br.com.faculdade.tp3.dto.rh.FuncionarioResumo(
+                f.id, f.nome, f.cargo, d.sigla, s.valorAtual, f.status
+            )
+            from Funcionario f
+            join f.departamento d
+            left join f.salario s
+            where f.id in :ids
+            """)
+    List<FuncionarioResumo> buscarResumosPorIds(@Param("ids") Collection<Long> ids);
 
-    Optional<Funcionario> findByCpf(String cpf);
+    @Query("""
+            select count(f)
+            from Funcionario f
+            where f.departamento.id = :departamentoId
+              and f.status = :status
+            """)
+    long countByDepartamentoIdAndStatus(
+            @Param("departamentoId") Long departamentoId,
+            @Param("status") FuncionarioStatus status
+    );
+
+    @Query("select coalesce(max(f.id), 0) from Funcionario f")
+    long buscarMaiorId();
+
+    @Query("select f.id from Funcionario f order by f.id asc")
+    List<Long> buscarIds();
+
+    @Query("""
+            select f.id
+            from Funcionario f
+            where f.departamento.id = :departamentoId
+              and f.status = :status
+              and f.id > :aposId
+              and f.id <= :limiteId
+            order by f.id asc
+            """)
+    List<Long> buscarIdsParaReajuste(
+            @Param("departamentoId") Long departamentoId,
+            @Param("status") FuncionarioStatus status,
+            @Param("aposId") long aposId,
+            @Param("limiteId") long limiteId,
+            Limit limite
+    );
+
+    @Query("""
+            select new br.com.faculdade.tp3.model.ChaveFuncionario(f.email, f.cpf)
+            from Funcionario f
+            where f.email in :emails
+            union
+            select new br.com.faculdade.tp3.model.ChaveFuncionario(f.email, f.cpf)
+            from Funcionario f
+            where f.cpf in :cpfs
+            """)
+    List<ChaveFuncionario> buscarChavesExistentes(
+            @Param("emails") Collection<String> emails,
+            @Param("cpfs") Collection<String> cpfs
+    );
+
+    @Query("select new br.com.faculdade.tp3.model.SituacaoFuncionario(f.id, f.nome, f.status) from Funcionario f")
+    Stream<SituacaoFuncionario> streamSituacoes();
+
+    @Query("""
+            select f
+            from Funcionario f
+            join fetch f.departamento
+            left join fetch f.salario
+            order by f.id asc
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Funcionario> streamParaExportacao();
+
+    @Query("""
+            select new br.com.faculdade.tp3.model.SituacaoFuncionario(
+                f.id, f.nome, f.status, f.departamento.id, s.valorAtual, f.dataAdmissao, f.dataDemissao)
+            from Funcionario f
+            left join f.salario s
+            order by f.id asc
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<SituacaoFuncionario> streamSituacoesCompletas();
+
+    @Query("""
+            select new br.com.faculdade.tp3.model.VersaoFuncionario(f.versao, s.versao, f.atualizadoEm, s.atualizadoEm)
+            from Funcionario f
+            left join f.salario s
+            where f.id = :id
+            """)
+    Optional<VersaoFuncionario> buscarVersao(@Param("id") Long id);
 }
@@ -1,12 +1,99 @@
 package br.com.faculdade.tp3.repository;
 
+import br.com.faculdade.tp3.model.EventoSalarial;
 import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.ResumoMovimentacoes;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface MovimentacaoRhRepository extends JpaRepository<MovimentacaoRh, Long> {
 
-    List<MovimentacaoRh> findByFuncionarioIdOrderByMovimentadoEmDesc(Long funcionarioId);
+    @Query("""
+            select m
+            from MovimentacaoRh m
+            where m.funcionario.id = :funcionarioId
+            order by m.movimentadoEm desc
+            """)
+    List<MovimentacaoRh> findByFuncionarioIdOrderByMovimentadoEmDesc(@Param("funcionarioId") Long funcionarioId);
 
-    void deleteByFuncionarioId(Long funcionarioId);
+    @Query("""
+            select new br.com.faculdade.tp3.model.ResumoMovimentacoes(count(m), max(m.movimentadoEm))
+            from MovimentacaoRh m
+            where m.funcionario.id = :funcionarioId
+            """)
+    ResumoMovimentacoes resumirPorFuncionario(@Param("funcionarioId") Long funcionarioId);
+
+    @Query("""
+            select m
+            from MovimentacaoRh m
+            where m.funcionario.id = :funcionarioId
+            order by m.movimentadoEm desc, m.id desc
+            """)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<MovimentacaoRh> streamPorFuncionario(@Param("funcionarioId") Long funcionarioId);
+
+    @Query("select m from MovimentacaoRh m order by m.id asc")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<MovimentacaoRh> streamTodas();
+
+    Optional<MovimentacaoRh> findFirstByOrderByIdAsc();
+
+    // O H2 não percorre a chave primária de trás para frente; max(id) é resolvido direto no índice.
+    @Query("select m from MovimentacaoRh m where m.id = (select max(u.id) from MovimentacaoRh u)")
+    Optional<MovimentacaoRh> buscarUltima();
+
+    @Query("""
+            select new br.com.faculdade.tp3.model.EventoSalarial(
+                m.funcionario.id, m.id, m.tipo, m.salarioNovo, m.cargo
+            )
+            from MovimentacaoRh m
+            where m.funcionario.id = :funcionarioId
+              and m.id > :aposId
+            order by m.id asc
+            """)
+    List<EventoSalarial> buscarCauda(@Param("funcionarioId") Long funcionarioId, @Param("aposId") long aposId);
+
+    @Query("""
+            select new br.com.faculdade.tp3.model.EventoSalarial(
+                m.funcionario.id, m.id, m.tipo, m.salarioNovo, m.cargo
+            )
+            from MovimentacaoRh m
+            where m.funcionario.id in :funcionarioIds
+            order by m.funcionario.id asc, m.id asc
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    List<EventoSalarial> buscarHistorico(@Param("funcionarioIds") Collection<Long> funcionarioIds);
+
+    @Query("""
+            select m.funcionario.id
+            from MovimentacaoRh m
+            left join SnapshotSalarial s on s.funcionarioId = m.funcionario.id
+            where m.funcionario.id in :funcionarioIds
+              and m.id > coalesce(s.ultimoEventoId, 0)
+            group by m.funcionario.id
+            having count(m) >= :intervalo
+            """)
+    List<Long> buscarPendentesDeSnapshot(
+            @Param("funcionarioIds") Collection<Long> funcionarioIds,
+            @Param("intervalo") long intervalo
+    );
+
+    @Modifying
+    @Query("delete from MovimentacaoRh m where m.funcionario.id = :funcionarioId")
+    int deleteByFuncionarioId(@Param("funcionarioId") Long funcionarioId);
 }
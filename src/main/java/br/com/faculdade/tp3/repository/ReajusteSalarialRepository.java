@@ -0,0 +1,24 @@
+package br.com.faculdade.tp3.repository;
+
+import br.com.faculdade.tp3.model.ReajusteSalarial;
+import br.com.faculdade.tp3.model.enums.StatusReajuste;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReajusteSalarialRepository extends JpaRepository<ReajusteSalarial, Long> {
+
+    @Query("""
+            select case when count(r) > 0 then true else false end
+            from ReajusteSalarial r
+            where r.departamento.id = :departamentoId
+              and r.status = :status
+            """)
+    boolean existsByDepartamentoIdAndStatus(
+            @Param("departamentoId") Long departamentoId,
+            @Param("status") StatusReajuste status
+    );
+
+    List<ReajusteSalarial> findByStatus(StatusReajuste status);
+}
@@ -1,7 +1,38 @@
 package br.com.faculdade.tp3.repository;
 
 import br.com.faculdade.tp3.model.Salario;
+import br.com.faculdade.tp3.model.SalarioVigente;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SalarioRepository extends JpaRepository<Salario, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select new br.com.faculdade.tp3.model.SalarioVigente(s.funcionario.id, s.valorAtual)
+            from Salario s
+            where s.funcionario.id in :funcionarioIds
+            order by s.funcionario.id asc
+            """)
+    List<SalarioVigente> bloquearSalarios(@Param("funcionarioIds") Collection<Long> funcionarioIds);
+
+    @Modifying
+    @Query("""
+            update Salario s
+            set s.valorAtual = round(s.valorAtual * :multiplicador, 2), s.atualizadoEm = :agora, s.versao = s.versao + 1
+            where s.funcionario.id in :funcionarioIds
+            """)
+    int reajustar(
+            @Param("funcionarioIds") Collection<Long> funcionarioIds,
+            @Param("multiplicador") BigDecimal multiplicador,
+            @Param("agora") LocalDateTime agora
+    );
 }
@@ -0,0 +1,14 @@
+package br.com.faculdade.tp3.repository;
+
+import br.com.faculdade.tp3.model.SnapshotSalarial;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SnapshotSalarialRepository extends JpaRepository<SnapshotSalarial, Long> {
+
+    @Modifying
+    @Query("delete from SnapshotSalarial s where s.funcionarioId = :funcionarioId")
+    int removerPorFuncionario(@Param("funcionarioId") Long funcionarioId);
+}
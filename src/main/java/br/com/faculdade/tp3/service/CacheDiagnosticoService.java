@@ -0,0 +1,39 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.dto.CacheEstatisticaResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CacheDiagnosticoService {
+
+    private final CacheManager cacheManager;
+
+    public CacheDiagnosticoService(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public List<CacheEstatisticaResponse> estatisticas() {
+        List<CacheEstatisticaResponse> estatisticas = new ArrayList<>();
+        for (String nome : cacheManager.getCacheNames()) {
+            org.springframework.cache.Cache cache = cacheManager.getCache(nome);
+            if (cache != null && cache.getNativeCache() instanceof Cache<?, ?> caffeine) {
+                CacheStats stats = caffeine.stats();
+                estatisticas.add(new CacheEstatisticaResponse(
+                        nome,
+                        caffeine.estimatedSize(),
+                        stats.hitCount(),
+                        stats.missCount(),
+                        stats.hitRate(),
+                        stats.evictionCount()
+                ));
+            }
+        }
+        estatisticas.sort((a, b) -> a.nome().compareTo(b.nome()));
+        return estatisticas;
+    }
+}
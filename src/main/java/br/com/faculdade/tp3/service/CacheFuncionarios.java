@@ -0,0 +1,96 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.config.CacheConfig;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResponse;
+import br.com.faculdade.tp3.exception.RecursoNaoEncontradoException;
+import br.com.faculdade.tp3.model.SalarioVigente;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Guarda records imutáveis, nunca entidades, lidos do primário ou de réplica em dia. Cada invalidação
+// carimba a faixa do id com o contador de commits do primário; uma leitura só entra no cache se enxergou
+// uma versão posterior ao carimbo, então quem leu antes do commit não repõe o valor antigo depois dela.
+@Component
+public class CacheFuncionarios {
+
+    private static final int FAIXAS = 64;
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final ConsistenciaLeitura consistenciaLeitura;
+    private final TransactionTemplate leitura;
+    private final Cache<Long, FuncionarioResponse> cache;
+    private final AtomicLongArray invalidadoEm = new AtomicLongArray(FAIXAS);
+
+    @SuppressWarnings("unchecked")
+    public CacheFuncionarios(
+            FuncionarioRepository funcionarioRepository,
+            ConsistenciaLeitura consistenciaLeitura,
+            PlatformTransactionManager transactionManager,
+            CacheManager cacheManager
+    ) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.consistenciaLeitura = consistenciaLeitura;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+        this.cache = (Cache<Long, FuncionarioResponse>) cacheManager.getCache(CacheConfig.FUNCIONARIOS).getNativeCache();
+        for (int i = 0; i < FAIXAS; i++) {
+            invalidadoEm.set(i, -1);
+        }
+    }
+
+    public FuncionarioResponse buscar(Long id) {
+        FuncionarioResponse emCache = cache.getIfPresent(id);
+        if (emCache != null) {
+            return emCache;
+        }
+
+        long[] versaoLida = new long[1];
+        FuncionarioResponse carregado = consistenciaLeitura.lerAnotandoVersao(
+                () -> consistenciaLeitura.lerAtualizado(() -> leitura.execute(
+                        status -> funcionarioRepository.findById(id).map(FuncionarioResponse::de))),
+                versao -> versaoLida[0] = versao
+        ).orElseThrow(() -> new RecursoNaoEncontradoException("Funcionário não encontrado."));
+
+        cache.asMap().compute(id, (chave, atual) -> {
+            if (versaoLida[0] <= invalidadoEm.get(faixa(chave))) {
+                return atual;
+            }
+            return atual == null ? carregado : atual;
+        });
+        return carregado;
+    }
+
+    public void invalidar(Collection<Long> ids) {
+        ids.forEach(this::invalidar);
+    }
+
+    public void invalidar(Long id) {
+        cache.asMap().compute(id, (chave, atual) -> {
+            invalidadoEm.accumulateAndGet(faixa(chave), consistenciaLeitura.versaoPrimario(), Math::max);
+            return null;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarFuncionario(FuncionarioAlteradoEvent evento) {
+        invalidar(evento.funcionarioId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoReajustarSalarios(SalariosReajustadosEvent evento) {
+        for (SalarioVigente salario : evento.salarios()) {
+            invalidar(salario.funcionarioId());
+        }
+    }
+
+    private static int faixa(Long id) {
+        return Long.hashCode(id) & (FAIXAS - 1);
+    }
+}
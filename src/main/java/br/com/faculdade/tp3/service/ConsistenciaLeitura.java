@@ -0,0 +1,119 @@
+package br.com.faculdade.tp3.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+@Component
+public class ConsistenciaLeitura implements TransactionExecutionListener {
+
+    public static final String TRANSACAO_INTERNA = "interna:";
+
+    private final AtomicLong versaoPrimario = new AtomicLong();
+    private final ThreadLocal<Contexto> contexto = new ThreadLocal<>();
+    private final ThreadLocal<long[]> versaoLida = new ThreadLocal<>();
+
+    public long versaoPrimario() {
+        return versaoPrimario.get();
+    }
+
+    public long versaoExigida() {
+        Contexto atual = contexto.get();
+        return atual == null ? 0 : atual.versao;
+    }
+
+    public void iniciar(long versao, LongConsumer aoEscrever) {
+        contexto.set(new Contexto(versao, aoEscrever));
+    }
+
+    public void encerrar() {
+        contexto.remove();
+    }
+
+    public Contexto exigirVersaoAtual() {
+        Contexto anterior = contexto.get();
+        contexto.set(new Contexto(versaoPrimario.get(), anterior == null ? null : anterior.aoEscrever));
+        return anterior;
+    }
+
+    public void restaurar(Contexto anterior) {
+        Contexto atual = contexto.get();
+        if (anterior == null) {
+            contexto.remove();
+            return;
+        }
+        if (atual != null) {
+            anterior.versao = Math.max(anterior.versao, atual.versao);
+        }
+        contexto.set(anterior);
+    }
+
+    public <T> T lerAtualizado(Supplier<T> leitura) {
+        Contexto anterior = exigirVersaoAtual();
+        try {
+            return leitura.get();
+        } finally {
+            restaurar(anterior);
+        }
+    }
+
+    // Anota a versão mais antiga que a leitura enxergou: o primário vale o contador lido antes da consulta e
+    // cada réplica informa a versão da sua cópia ao emprestar a conexão.
+    public <T> T lerAnotandoVersao(Supplier<T> leitura, LongConsumer aoLer) {
+        long[] anterior = versaoLida.get();
+        long[] atual = {versaoPrimario.get()};
+        versaoLida.set(atual);
+        try {
+            T resultado = leitura.get();
+            aoLer.accept(atual[0]);
+            return resultado;
+        } finally {
+            if (anterior == null) {
+                versaoLida.remove();
+            } else {
+                versaoLida.set(anterior);
+            }
+        }
+    }
+
+    public void registrarVersaoLida(long versao) {
+        long[] atual = versaoLida.get();
+        if (atual != null && versao < atual[0]) {
+            atual[0] = versao;
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transacao, Throwable falha) {
+        if (falha != null || transacao.isReadOnly() || interna(transacao.getTransactionName())) {
+            return;
+        }
+
+        long versao = versaoPrimario.incrementAndGet();
+        Contexto atual = contexto.get();
+        if (atual != null) {
+            atual.versao = Math.max(atual.versao, versao);
+            if (atual.aoEscrever != null) {
+                atual.aoEscrever.accept(atual.versao);
+            }
+        }
+    }
+
+    private static boolean interna(String nome) {
+        return nome != null && nome.startsWith(TRANSACAO_INTERNA);
+    }
+
+    public static final class Contexto {
+
+        private long versao;
+        private final LongConsumer aoEscrever;
+
+        private Contexto(long versao, LongConsumer aoEscrever) {
+            this.versao = versao;
+            this.aoEscrever = aoEscrever;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.dto.rh.TotaisDepartamento;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.SalarioVigente;
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class ContadoresDepartamento {
+
+    private static final int ATIVO = FuncionarioStatus.ATIVO.ordinal();
+    private static final int INATIVO = FuncionarioStatus.INATIVO.ordinal();
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final DepartamentoRepository departamentoRepository;
+    private volatile Map<Long, Contadores> contadores = new ConcurrentHashMap<>();
+
+    public ContadoresDepartamento(
+            FuncionarioRepository funcionarioRepository,
+            DepartamentoRepository departamentoRepository
+    ) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.departamentoRepository = departamentoRepository;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public void reconstruir() {
+        Map<Long, Contadores> novos = new ConcurrentHashMap<>();
+        for (Departamento departamento : departamentoRepository.findAll()) {
+            novos.put(departamento.getId(), new Contadores());
+        }
+        try (Stream<SituacaoFuncionario> situacoes = funcionarioRepository.streamSituacoesCompletas()) {
+            situacoes.forEach(situacao -> aplicar(novos, situacao, 1));
+        }
+        contadores = novos;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarFuncionario(FuncionarioAlteradoEvent evento) {
+        Map<Long, Contadores> atuais = contadores;
+        aplicar(atuais, evento.anterior(), -1);
+        aplicar(atuais, evento.atual(), 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoReajustarSalarios(SalariosReajustadosEvent evento) {
+        long diferenca = 0;
+        for (SalarioVigente salario : evento.salarios()) {
+            diferenca += centavos(salario.valorAtual());
+        }
+        for (SalarioVigente salario : evento.anteriores()) {
+            diferenca -= centavos(salario.valorAtual());
+        }
+        contadores(contadores, evento.departamentoId()).centavos[ATIVO].add(diferenca);
+    }
+
+    public List<TotaisDepartamento> totais() {
+        List<TotaisDepartamento> totais = new ArrayList<>();
+        contadores.forEach((departamentoId, contador) -> totais.add(new TotaisDepartamento(
+                departamentoId,
+                contador.quantidade[ATIVO].sum(),
+                reais(contador.centavos[ATIVO].sum()),
+                contador.quantidade[INATIVO].sum(),
+                reais(contador.centavos[INATIVO].sum())
+        )));
+        totais.sort((a, b) -> Long.compare(a.departamentoId(), b.departamentoId()));
+        return totais;
+    }
+
+    private static void aplicar(Map<Long, Contadores> contadores, SituacaoFuncionario situacao, int sinal) {
+        if (situacao == null || situacao.departamentoId() == null || situacao.salario() == null) {
+            return;
+        }
+        Contadores contador = contadores(contadores, situacao.departamentoId());
+        int status = situacao.status().ordinal();
+        contador.quantidade[status].add(sinal);
+        contador.centavos[status].add(sinal * centavos(situacao.salario()));
+    }
+
+    private static Contadores contadores(Map<Long, Contadores> contadores, Long departamentoId) {
+        return contadores.computeIfAbsent(departamentoId, id -> new Contadores());
+    }
+
+    private static long centavos(BigDecimal valor) {
+        return valor.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal reais(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    private static final class Contadores {
+
+        private final LongAdder[] quantidade = novos();
+        private final LongAdder[] centavos = novos();
+
+        private static LongAdder[] novos() {
+            LongAdder[] adders = new LongAdder[FuncionarioStatus.values().length];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
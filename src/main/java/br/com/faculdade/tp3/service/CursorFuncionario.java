@@ -0,0 +1,49 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+record CursorFuncionario(int relevancia, String nome, long id) {
+
+    static final CursorFuncionario INICIO = new CursorFuncionario(-1, "", 0L);
+
+    private static final char SEPARADOR = ':';
+
+    CursorFuncionario(String nome, long id) {
+        this(0, nome, id);
+    }
+
+    static CursorFuncionario decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return INICIO;
+        }
+
+        try {
+            String conteudo = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int primeiroSeparador = conteudo.indexOf(SEPARADOR);
+            int segundoSeparador = conteudo.indexOf(SEPARADOR, primeiroSeparador + 1);
+            if (primeiroSeparador <= 0 || segundoSeparador <= primeiroSeparador + 1) {
+                throw new EntradaInvalidaException("Cursor de paginação inválido.");
+            }
+
+            int relevancia = Integer.parseInt(conteudo.substring(0, primeiroSeparador));
+            long id = Long.parseLong(conteudo.substring(primeiroSeparador + 1, segundoSeparador));
+            if (relevancia < 0 || id <= 0) {
+                throw new EntradaInvalidaException("Cursor de paginação inválido.");
+            }
+            return new CursorFuncionario(relevancia, conteudo.substring(segundoSeparador + 1), id);
+        } catch (IllegalArgumentException ex) {
+            throw new EntradaInvalidaException("Cursor de paginação inválido.");
+        }
+    }
+
+    FuncionarioSearchIndex.Candidato candidato() {
+        return new FuncionarioSearchIndex.Candidato(id, nome, relevancia);
+    }
+
+    String codificar() {
+        String conteudo = relevancia + String.valueOf(SEPARADOR) + id + SEPARADOR + nome;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
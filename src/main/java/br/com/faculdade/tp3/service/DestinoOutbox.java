@@ -0,0 +1,9 @@
+package br.com.faculdade.tp3.service;
+
+public interface DestinoOutbox {
+
+    void enviar(MensagemOutbox mensagem) throws Exception;
+
+    default void concluirLote() throws Exception {
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.faculdade.tp3.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "rh.outbox.destino", havingValue = "arquivo")
+public class DestinoOutboxArquivo implements DestinoOutbox {
+
+    private final Path arquivo;
+    private final List<String> pendentes = new ArrayList<>();
+
+    public DestinoOutboxArquivo(@Value("${rh.outbox.arquivo:outbox/movimentacoes.ndjson}") Path arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    @Override
+    public synchronized void enviar(MensagemOutbox mensagem) {
+        pendentes.add(mensagem.payload());
+    }
+
+    @Override
+    public synchronized void concluirLote() throws IOException {
+        if (pendentes.isEmpty()) {
+            return;
+        }
+
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        if (diretorio != null) {
+            Files.createDirectories(diretorio);
+        }
+        try (FileChannel canal = FileChannel.open(arquivo,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            OutputStream saida = Channels.newOutputStream(canal);
+            for (String linha : pendentes) {
+                saida.write(linha.getBytes(StandardCharsets.UTF_8));
+                saida.write('\n');
+            }
+            canal.force(false);
+        } finally {
+            pendentes.clear();
+        }
+    }
+}
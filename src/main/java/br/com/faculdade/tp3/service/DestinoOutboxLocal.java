@@ -0,0 +1,21 @@
+package br.com.faculdade.tp3.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "rh.outbox.destino", havingValue = "local", matchIfMissing = true)
+public class DestinoOutboxLocal implements DestinoOutbox {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DestinoOutboxLocal(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void enviar(MensagemOutbox mensagem) {
+        eventPublisher.publishEvent(mensagem);
+    }
+}
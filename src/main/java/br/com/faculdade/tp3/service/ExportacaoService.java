@@ -0,0 +1,191 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ExportacaoService {
+
+    private static final int INTERVALO_LIMPEZA = 500;
+
+    private static final String[] CABECALHO_FUNCIONARIOS = {
+            "id", "nome", "email", "cpf", "cargo", "departamento", "salario", "status", "dataAdmissao", "dataDemissao"
+    };
+    private static final String[] CABECALHO_MOVIMENTACOES = {
+            "id", "funcionarioId", "tipo", "descricao", "salarioAnterior", "salarioNovo", "movimentadoEm"
+    };
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final MovimentacaoRhRepository movimentacaoRhRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public ExportacaoService(
+            FuncionarioRepository funcionarioRepository,
+            MovimentacaoRhRepository movimentacaoRhRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper
+    ) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.movimentacaoRhRepository = movimentacaoRhRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportarFuncionarios(FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<Funcionario> funcionarios = funcionarioRepository.streamParaExportacao()) {
+            exportar(funcionarios, LinhaFuncionario::de, CABECALHO_FUNCIONARIOS, formato, saida);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportarMovimentacoes(Long funcionarioId, FormatoExportacao formato, OutputStream saida)
+            throws IOException {
+        try (Stream<MovimentacaoRh> movimentacoes = movimentacaoRhRepository.streamPorFuncionario(funcionarioId)) {
+            exportar(movimentacoes, LinhaMovimentacao::de, CABECALHO_MOVIMENTACOES, formato, saida);
+        }
+    }
+
+    private <T> void exportar(
+            Stream<T> entidades,
+            Function<T, Linha> mapeador,
+            String[] cabecalho,
+            FormatoExportacao formato,
+            OutputStream saida
+    ) throws IOException {
+        Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        if (formato == FormatoExportacao.CSV) {
+            escreverCsv(escritor, cabecalho);
+        }
+
+        int escritas = 0;
+        Iterator<T> iterador = entidades.iterator();
+        while (iterador.hasNext()) {
+            Linha linha = mapeador.apply(iterador.next());
+            if (formato == FormatoExportacao.CSV) {
+                escreverCsv(escritor, linha.colunas());
+            } else {
+                escritor.write(objectMapper.writeValueAsString(linha));
+                escritor.write('\n');
+            }
+
+            if (++escritas % INTERVALO_LIMPEZA == 0) {
+                entityManager.clear();
+            }
+        }
+        escritor.flush();
+    }
+
+    private static void escreverCsv(Writer escritor, Object[] colunas) throws IOException {
+        for (int i = 0; i < colunas.length; i++) {
+            if (i > 0) {
+                escritor.write(',');
+            }
+            escritor.write(celulaCsv(colunas[i]));
+        }
+        escritor.write("\r\n");
+    }
+
+    static String celulaCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+
+        String texto = valor instanceof BigDecimal decimal ? decimal.toPlainString() : valor.toString();
+        if (!texto.isEmpty() && "=+-@".indexOf(texto.charAt(0)) >= 0 && !(valor instanceof BigDecimal)) {
+            texto = "'" + texto;
+        }
+        if (texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0 || texto.indexOf('\n') >= 0 || texto.indexOf('\r') >= 0) {
+            return '"' + texto.replace("\"", "\"\"") + '"';
+        }
+        return texto;
+    }
+
+    private interface Linha {
+
+        Object[] colunas();
+    }
+
+    record LinhaFuncionario(
+            Long id,
+            String nome,
+            String email,
+            String cpf,
+            String cargo,
+            String departamento,
+            BigDecimal salario,
+            FuncionarioStatus status,
+            LocalDate dataAdmissao,
+            LocalDate dataDemissao
+    ) implements Linha {
+
+        static LinhaFuncionario de(Funcionario funcionario) {
+            return new LinhaFuncionario(
+                    funcionario.getId(),
+                    funcionario.getNome(),
+                    funcionario.getEmail(),
+                    funcionario.getCpf(),
+                    funcionario.getCargo(),
+                    funcionario.getDepartamento().getSigla(),
+                    funcionario.getSalario() == null ? null : funcionario.getSalario().getValorAtual(),
+                    funcionario.getStatus(),
+                    funcionario.getDataAdmissao(),
+                    funcionario.getDataDemissao()
+            );
+        }
+
+        @Override
+        public Object[] colunas() {
+            return new Object[]{id, nome, email, cpf, cargo, departamento, salario, status, dataAdmissao, dataDemissao};
+        }
+    }
+
+    record LinhaMovimentacao(
+            Long id,
+            Long funcionarioId,
+            TipoMovimentacaoRh tipo,
+            String descricao,
+            BigDecimal salarioAnterior,
+            BigDecimal salarioNovo,
+            LocalDateTime movimentadoEm
+    ) implements Linha {
+
+        static LinhaMovimentacao de(MovimentacaoRh movimentacao) {
+            return new LinhaMovimentacao(
+                    movimentacao.getId(),
+                    movimentacao.getFuncionario().getId(),
+                    movimentacao.getTipo(),
+                    movimentacao.getDescricao(),
+                    movimentacao.getSalarioAnterior(),
+                    movimentacao.getSalarioNovo(),
+                    movimentacao.getMovimentadoEm()
+            );
+        }
+
+        @Override
+        public Object[] colunas() {
+            return new Object[]{id, funcionarioId, tipo, descricao, salarioAnterior, salarioNovo, movimentadoEm};
+        }
+    }
+}
@@ -1,29 +1,46 @@
 package br.com.faculdade.tp3.service;
 
 import br.com.faculdade.tp3.exception.EntradaInvalidaException;
-import br.com.faculdade.tp3.exception.SobrecargaSistemaException;
 import br.com.faculdade.tp3.exception.TimeoutServicoException;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Service
 public class FaultSimulationService {
 
     private static final long MAX_DELAY_MS = 15_000;
-    private final Semaphore overloadGuard = new Semaphore(1);
+    private final Executor executor;
+    private final LimitadorConcorrencia limitador;
+
+    public FaultSimulationService(LimitadorConcorrencia limitador) {
+        this(ForkJoinPool.commonPool(), limitador);
+    }
+
+    @Autowired
+    public FaultSimulationService(
+            @Qualifier("applicationTaskExecutor") Executor executor,
+            LimitadorConcorrencia limitador
+    ) {
+        this.executor = executor;
+        this.limitador = limitador;
+    }
 
     public String simularTimeout(long delayMs, long timeoutMs) {
         validarDelay(delayMs);
         validarTimeout(timeoutMs);
 
-        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+        FutureTask<String> future = new FutureTask<>(() -> {
             sleep(delayMs);
             return "Processamento finalizado";
         });
+        executor.execute(future);
 
         try {
             return future.get(timeoutMs, TimeUnit.MILLISECONDS);
@@ -38,19 +55,17 @@ public class FaultSimulationService {
         }
     }
 
+    // O diagnóstico fica fora do filtro, mas ocupa uma vaga do mesmo limitador das rotas de RH: chamadas
+    // concorrentes acima do limite recebem a rejeição real, e o tempo artificial não entra na amostra de RTT.
     public String simularSobrecarga(long holdMs) {
         validarDelay(holdMs);
 
-        boolean acquired = overloadGuard.tryAcquire();
-        if (!acquired) {
-            throw new SobrecargaSistemaException("Sistema temporariamente sobrecarregado. Tente novamente em instantes.");
-        }
-
+        long inicio = limitador.adquirir();
         try {
             sleep(holdMs);
             return "Requisição processada com sucesso";
         } finally {
-            overloadGuard.release();
+            limitador.liberar(inicio, false);
         }
     }
 
@@ -0,0 +1,437 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.dto.rh.DepartamentoSimulado;
+import br.com.faculdade.tp3.dto.rh.DistribuicaoSalarial;
+import br.com.faculdade.tp3.dto.rh.SimulacaoFolhaResponse;
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import br.com.faculdade.tp3.exception.RecursoNaoEncontradoException;
+import br.com.faculdade.tp3.model.Departamento;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class FolhaSalarial {
+
+    static final int LIMIAR_PARALELO = 1 << 14;
+
+    private static final long ESCALA_FATOR = 1_000_000L;
+    private static final long METADE_FATOR = ESCALA_FATOR / 2;
+    private static final BigDecimal CEM = BigDecimal.valueOf(100);
+    private static final int[] PERCENTIS = {10, 25, 50, 75, 90};
+
+    private final long versao;
+    private final long[] departamentoIds;
+    private final String[] nomes;
+    private final long[][] fatias;
+    private final int[] inicio;
+    private final ForkJoinPool pool;
+
+    // Uma fatia ordenada por departamento; versões seguintes compartilham as fatias que não mudaram.
+    private FolhaSalarial(
+            long versao,
+            long[] departamentoIds,
+            String[] nomes,
+            long[][] fatias,
+            ForkJoinPool pool
+    ) {
+        this.versao = versao;
+        this.departamentoIds = departamentoIds;
+        this.nomes = nomes;
+        this.fatias = fatias;
+        this.inicio = new int[fatias.length + 1];
+        for (int d = 0; d < fatias.length; d++) {
+            inicio[d + 1] = inicio[d] + fatias[d].length;
+        }
+        this.pool = pool;
+    }
+
+    public static Construtor construtor(List<Departamento> departamentos) {
+        return new Construtor(departamentos);
+    }
+
+    public long versao() {
+        return versao;
+    }
+
+    public int funcionarios() {
+        return inicio[fatias.length];
+    }
+
+    public Alteracao alterar() {
+        return new Alteracao();
+    }
+
+    public SimulacaoFolhaResponse simular(Map<Long, BigDecimal> percentuais, BigDecimal percentualDemais) {
+        long inicioNanos = System.nanoTime();
+        int total = departamentoIds.length;
+
+        BigDecimal[] aplicados = new BigDecimal[total];
+        long[] multiplicadores = new long[total];
+        Arrays.fill(aplicados, percentualDemais);
+        for (Map.Entry<Long, BigDecimal> regra : percentuais.entrySet()) {
+            int indice = Arrays.binarySearch(departamentoIds, regra.getKey());
+            if (indice < 0) {
+                throw new RecursoNaoEncontradoException("Departamento " + regra.getKey() + " não encontrado.");
+            }
+            aplicados[indice] = regra.getValue();
+        }
+        for (int d = 0; d < total; d++) {
+            multiplicadores[d] = multiplicador(aplicados[d]);
+        }
+
+        long[] identidade = new long[total];
+        Arrays.fill(identidade, ESCALA_FATOR);
+        long[] atual;
+        long[] simulada;
+        long folhaAtual = 0;
+        long folhaSimulada = 0;
+        try {
+            atual = somar(identidade);
+            simulada = somar(multiplicadores);
+            for (int d = 0; d < total; d++) {
+                folhaAtual = Math.addExact(folhaAtual, atual[d]);
+                folhaSimulada = Math.addExact(folhaSimulada, simulada[d]);
+            }
+        } catch (ArithmeticException ex) {
+            throw new EntradaInvalidaException("Cenário excede o limite de valores suportado pela simulação.");
+        }
+
+        List<DepartamentoSimulado> departamentos = new ArrayList<>(total);
+        for (int d = 0; d < total; d++) {
+            departamentos.add(new DepartamentoSimulado(
+                    departamentoIds[d],
+                    nomes[d],
+                    aplicados[d],
+                    fatias[d].length,
+                    reais(atual[d]),
+                    reais(simulada[d]),
+                    reais(simulada[d] - atual[d])
+            ));
+        }
+
+        BigDecimal variacao = folhaAtual == 0
+                ? BigDecimal.ZERO.setScale(2)
+                : BigDecimal.valueOf(folhaSimulada - folhaAtual)
+                .multiply(CEM)
+                .divide(BigDecimal.valueOf(folhaAtual), 2, RoundingMode.HALF_UP);
+
+        return new SimulacaoFolhaResponse(
+                funcionarios(),
+                reais(folhaAtual),
+                reais(folhaSimulada),
+                reais(folhaSimulada - folhaAtual),
+                variacao,
+                distribuicao(identidade, folhaAtual),
+                distribuicao(multiplicadores, folhaSimulada),
+                departamentos,
+                versao,
+                (System.nanoTime() - inicioNanos) / 1_000
+        );
+    }
+
+    static long multiplicador(BigDecimal percentual) {
+        BigDecimal fator = percentual.divide(CEM, 6, RoundingMode.HALF_UP);
+        return ESCALA_FATOR + fator.unscaledValue().longValueExact();
+    }
+
+    static long aplicar(long centavos, long multiplicador) {
+        return Math.addExact(Math.multiplyExact(centavos, multiplicador), METADE_FATOR) / ESCALA_FATOR;
+    }
+
+    static long centavos(BigDecimal salario) {
+        return salario.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private long[] somar(long[] multiplicadores) {
+        if (funcionarios() == 0) {
+            return new long[departamentoIds.length];
+        }
+        return pool.invoke(new SomaDepartamentos(multiplicadores, 0, funcionarios()));
+    }
+
+    private DistribuicaoSalarial distribuicao(long[] multiplicadores, long folha) {
+        long n = funcionarios();
+        if (n == 0) {
+            return null;
+        }
+
+        long minimo = Long.MAX_VALUE;
+        long maximo = Long.MIN_VALUE;
+        for (int d = 0; d < departamentoIds.length; d++) {
+            long[] fatia = fatias[d];
+            if (fatia.length > 0) {
+                minimo = Math.min(minimo, aplicar(fatia[0], multiplicadores[d]));
+                maximo = Math.max(maximo, aplicar(fatia[fatia.length - 1], multiplicadores[d]));
+            }
+        }
+
+        BigDecimal[] quantis = new BigDecimal[PERCENTIS.length];
+        for (int q = 0; q < PERCENTIS.length; q++) {
+            long posicao = Math.max(1, (PERCENTIS[q] * n + 99) / 100);
+            quantis[q] = reais(quantil(multiplicadores, posicao, minimo, maximo));
+        }
+
+        return new DistribuicaoSalarial(
+                reais(minimo),
+                quantis[0],
+                quantis[1],
+                quantis[2],
+                quantis[3],
+                quantis[4],
+                reais(maximo),
+                BigDecimal.valueOf(folha).divide(BigDecimal.valueOf(n * 100), 2, RoundingMode.HALF_UP)
+        );
+    }
+
+    // Cada fatia de departamento está ordenada e o reajuste é monótono, então o menor valor com
+    // "posicao" salários abaixo ou iguais sai por busca binária sem materializar a folha simulada.
+    private long quantil(long[] multiplicadores, long posicao, long minimo, long maximo) {
+        long baixo = minimo;
+        long alto = maximo;
+        while (baixo < alto) {
+            long meio = baixo + (alto - baixo) / 2;
+            if (contarAte(multiplicadores, meio) >= posicao) {
+                alto = meio;
+            } else {
+                baixo = meio + 1;
+            }
+        }
+        return baixo;
+    }
+
+    private long contarAte(long[] multiplicadores, long limite) {
+        long total = 0;
+        for (int d = 0; d < departamentoIds.length; d++) {
+            long[] fatia = fatias[d];
+            int baixo = 0;
+            int alto = fatia.length;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (aplicar(fatia[meio], multiplicadores[d]) <= limite) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            total += baixo;
+        }
+        return total;
+    }
+
+    private static BigDecimal reais(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    private final class SomaDepartamentos extends RecursiveTask<long[]> {
+
+        private final long[] multiplicadores;
+        private final int de;
+        private final int ate;
+
+        private SomaDepartamentos(long[] multiplicadores, int de, int ate) {
+            this.multiplicadores = multiplicadores;
+            this.de = de;
+            this.ate = ate;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (ate - de <= LIMIAR_PARALELO) {
+                return somarSequencial();
+            }
+
+            int meio = (de + ate) >>> 1;
+            SomaDepartamentos esquerda = new SomaDepartamentos(multiplicadores, de, meio);
+            esquerda.fork();
+            long[] soma = new SomaDepartamentos(multiplicadores, meio, ate).compute();
+            long[] parcial = esquerda.join();
+            for (int d = 0; d < soma.length; d++) {
+                soma[d] = Math.addExact(soma[d], parcial[d]);
+            }
+            return soma;
+        }
+
+        private long[] somarSequencial() {
+            long[] soma = new long[departamentoIds.length];
+            for (int d = departamentoDe(de); d < fatias.length && inicio[d] < ate; d++) {
+                long[] fatia = fatias[d];
+                int fim = Math.min(ate, inicio[d + 1]) - inicio[d];
+                for (int i = Math.max(de, inicio[d]) - inicio[d]; i < fim; i++) {
+                    soma[d] = Math.addExact(soma[d], aplicar(fatia[i], multiplicadores[d]));
+                }
+            }
+            return soma;
+        }
+
+        private int departamentoDe(int posicao) {
+            int baixo = 0;
+            int alto = departamentoIds.length - 1;
+            while (baixo < alto) {
+                int meio = (baixo + alto + 1) >>> 1;
+                if (inicio[meio] <= posicao) {
+                    baixo = meio;
+                } else {
+                    alto = meio - 1;
+                }
+            }
+            return baixo;
+        }
+    }
+
+    public static final class Construtor {
+
+        private final long[] departamentoIds;
+        private final String[] nomes;
+        private long[] departamentos = new long[1024];
+        private long[] valores = new long[1024];
+        private int tamanho;
+
+        private Construtor(List<Departamento> lista) {
+            List<Departamento> ordenados = new ArrayList<>(lista);
+            ordenados.sort(Comparator.comparing(Departamento::getId));
+            this.departamentoIds = new long[ordenados.size()];
+            this.nomes = new String[ordenados.size()];
+            for (int d = 0; d < ordenados.size(); d++) {
+                departamentoIds[d] = ordenados.get(d).getId();
+                nomes[d] = ordenados.get(d).getNome();
+            }
+        }
+
+        public Construtor adicionar(long departamentoId, BigDecimal salario) {
+            if (tamanho == valores.length) {
+                departamentos = Arrays.copyOf(departamentos, tamanho * 2);
+                valores = Arrays.copyOf(valores, tamanho * 2);
+            }
+            departamentos[tamanho] = departamentoId;
+            valores[tamanho] = centavos(salario);
+            tamanho++;
+            return this;
+        }
+
+        public FolhaSalarial construir(long versao, ForkJoinPool pool) {
+            int total = departamentoIds.length;
+            int[] indices = new int[tamanho];
+            int[] quantidades = new int[total];
+            for (int i = 0; i < tamanho; i++) {
+                int indice = Arrays.binarySearch(departamentoIds, departamentos[i]);
+                if (indice < 0) {
+                    throw new IllegalStateException("Salário de departamento desconhecido: " + departamentos[i]);
+                }
+                indices[i] = indice;
+                quantidades[indice]++;
+            }
+
+            long[][] fatias = new long[total][];
+            for (int d = 0; d < total; d++) {
+                fatias[d] = new long[quantidades[d]];
+                quantidades[d] = 0;
+            }
+            for (int i = 0; i < tamanho; i++) {
+                fatias[indices[i]][quantidades[indices[i]]++] = valores[i];
+            }
+            for (long[] fatia : fatias) {
+                Arrays.parallelSort(fatia);
+            }
+            return new FolhaSalarial(versao, departamentoIds, nomes, fatias, pool);
+        }
+    }
+
+    // Acumula saídas e entradas por departamento e as funde de uma vez na fatia ordenada, copiando só os
+    // departamentos tocados; um departamento que não estava na carga invalida a alteração inteira.
+    public final class Alteracao {
+
+        private final long[][] removidos = new long[fatias.length][];
+        private final long[][] incluidos = new long[fatias.length][];
+        private final int[] totalRemovidos = new int[fatias.length];
+        private final int[] totalIncluidos = new int[fatias.length];
+        private boolean valida = true;
+
+        private Alteracao() {
+        }
+
+        public Alteracao remover(long departamentoId, long centavos) {
+            int d = indice(departamentoId);
+            if (d >= 0) {
+                removidos[d] = acrescentar(removidos[d], totalRemovidos[d]++, centavos);
+            }
+            return this;
+        }
+
+        public Alteracao incluir(long departamentoId, long centavos) {
+            int d = indice(departamentoId);
+            if (d >= 0) {
+                incluidos[d] = acrescentar(incluidos[d], totalIncluidos[d]++, centavos);
+            }
+            return this;
+        }
+
+        public FolhaSalarial aplicar(long novaVersao) {
+            if (!valida) {
+                return null;
+            }
+            long[][] novas = fatias.clone();
+            for (int d = 0; d < novas.length; d++) {
+                if (totalRemovidos[d] > 0 || totalIncluidos[d] > 0) {
+                    novas[d] = fundir(novas[d], removidos[d], totalRemovidos[d], incluidos[d], totalIncluidos[d]);
+                }
+            }
+            return new FolhaSalarial(novaVersao, departamentoIds, nomes, novas, pool);
+        }
+
+        private int indice(long departamentoId) {
+            int d = Arrays.binarySearch(departamentoIds, departamentoId);
+            if (d < 0) {
+                valida = false;
+            }
+            return d;
+        }
+
+        private static long[] acrescentar(long[] valores, int posicao, long valor) {
+            if (valores == null) {
+                valores = new long[8];
+            } else if (posicao == valores.length) {
+                valores = Arrays.copyOf(valores, posicao * 2);
+            }
+            valores[posicao] = valor;
+            return valores;
+        }
+
+        private static long[] fundir(long[] fatia, long[] removidos, int totalRemovidos,
+                                     long[] incluidos, int totalIncluidos) {
+            if (totalRemovidos > 0) {
+                Arrays.sort(removidos, 0, totalRemovidos);
+            }
+            if (totalIncluidos > 0) {
+                Arrays.sort(incluidos, 0, totalIncluidos);
+            }
+
+            // Uma saída pode se referir a uma entrada do mesmo lote (contratado e demitido antes da próxima
+            // simulação), então as entradas são fundidas antes de descontar as saídas.
+            long[] resultado = new long[fatia.length + totalIncluidos];
+            int tamanho = 0;
+            int f = 0;
+            int n = 0;
+            int r = 0;
+            while (f < fatia.length || n < totalIncluidos) {
+                long valor = n == totalIncluidos || (f < fatia.length && fatia[f] <= incluidos[n])
+                        ? fatia[f++]
+                        : incluidos[n++];
+                while (r < totalRemovidos && removidos[r] < valor) {
+                    r++;
+                }
+                if (r < totalRemovidos && removidos[r] == valor) {
+                    r++;
+                } else {
+                    resultado[tamanho++] = valor;
+                }
+            }
+            return tamanho == resultado.length ? resultado : Arrays.copyOf(resultado, tamanho);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import org.springframework.http.MediaType;
+
+public enum FormatoExportacao {
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson"));
+
+    private final String extensao;
+    private final MediaType mediaType;
+
+    FormatoExportacao(String extensao, MediaType mediaType) {
+        this.extensao = extensao;
+        this.mediaType = mediaType;
+    }
+
+    public static FormatoExportacao de(String valor) {
+        if (valor != null) {
+            for (FormatoExportacao formato : values()) {
+                if (formato.extensao.equals(valor.trim().toLowerCase(Locale.ROOT))) {
+                    return formato;
+                }
+            }
+        }
+        throw new EntradaInvalidaException("Formato de exportação inválido. Use csv ou ndjson.");
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
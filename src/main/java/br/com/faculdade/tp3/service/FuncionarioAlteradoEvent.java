@@ -0,0 +1,22 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
+
+public record FuncionarioAlteradoEvent(
+        Long funcionarioId,
+        SituacaoFuncionario anterior,
+        SituacaoFuncionario atual
+) {
+
+    public static FuncionarioAlteradoEvent contratado(SituacaoFuncionario atual) {
+        return new FuncionarioAlteradoEvent(atual.id(), null, atual);
+    }
+
+    public static FuncionarioAlteradoEvent excluido(SituacaoFuncionario anterior) {
+        return new FuncionarioAlteradoEvent(anterior.id(), anterior, null);
+    }
+
+    public boolean exclusao() {
+        return atual == null;
+    }
+}
@@ -0,0 +1,206 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class FuncionarioSearchIndex {
+
+    private static final int TAMANHO_TRIGRAMA = 3;
+    private static final int RELEVANCIA_PREFIXO = 0;
+    private static final int RELEVANCIA_INICIO_PALAVRA = 1;
+    private static final int RELEVANCIA_TRECHO = 2;
+
+    private static final Comparator<Candidato> ORDEM = Comparator
+            .comparingInt(Candidato::relevancia)
+            .thenComparing(Candidato::nome)
+            .thenComparingLong(Candidato::id);
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final ConcurrentHashMap<Long, Entrada> entradas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Long>> trigramas = new ConcurrentHashMap<>();
+    private final Object escrita = new Object();
+
+    public FuncionarioSearchIndex(FuncionarioRepository funcionarioRepository) {
+        this.funcionarioRepository = funcionarioRepository;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public void reconstruir() {
+        synchronized (escrita) {
+            entradas.clear();
+            trigramas.clear();
+            try (Stream<SituacaoFuncionario> situacoes = funcionarioRepository.streamSituacoes()) {
+                situacoes.forEach(this::indexar);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarFuncionario(FuncionarioAlteradoEvent evento) {
+        if (evento.exclusao()) {
+            remover(evento.funcionarioId());
+        } else {
+            indexar(evento.atual());
+        }
+    }
+
+    public void indexar(SituacaoFuncionario situacao) {
+        Entrada nova = new Entrada(situacao.id(), situacao.nome(), normalizar(situacao.nome()), situacao.status());
+        synchronized (escrita) {
+            Entrada anterior = entradas.put(nova.id(), nova);
+            if (anterior != null && anterior.nomeNormalizado().equals(nova.nomeNormalizado())) {
+                return;
+            }
+            if (anterior != null) {
+                desindexarTrigramas(anterior);
+            }
+            for (long trigrama : extrairTrigramas(nova.nomeNormalizado())) {
+                trigramas.computeIfAbsent(trigrama, chave -> ConcurrentHashMap.newKeySet()).add(nova.id());
+            }
+        }
+    }
+
+    public void remover(Long id) {
+        synchronized (escrita) {
+            Entrada anterior = entradas.remove(id);
+            if (anterior != null) {
+                desindexarTrigramas(anterior);
+            }
+        }
+    }
+
+    public int tamanho() {
+        return entradas.size();
+    }
+
+    public List<Candidato> buscar(String termo, FuncionarioStatus status, Candidato apos, int limite) {
+        String normalizado = normalizar(termo);
+        if (normalizado.isEmpty()) {
+            return List.of();
+        }
+
+        PriorityQueue<Candidato> melhores = new PriorityQueue<>(limite + 1, ORDEM.reversed());
+
+        for (Long id : candidatos(normalizado)) {
+            Entrada entrada = entradas.get(id);
+            if (entrada == null || (status != null && entrada.status() != status)) {
+                continue;
+            }
+
+            int inicio = entrada.nomeNormalizado().indexOf(normalizado);
+            if (inicio < 0) {
+                continue;
+            }
+
+            Candidato candidato = new Candidato(id, entrada.nome(), relevancia(entrada.nomeNormalizado(), inicio));
+            if (apos != null && ORDEM.compare(candidato, apos) <= 0) {
+                continue;
+            }
+
+            melhores.offer(candidato);
+            if (melhores.size() > limite) {
+                melhores.poll();
+            }
+        }
+
+        List<Candidato> resultado = new ArrayList<>(melhores);
+        resultado.sort(ORDEM);
+        return resultado;
+    }
+
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+
+        String decomposto = Normalizer.normalize(texto.trim(), Normalizer.Form.NFD);
+        StringBuilder normalizado = new StringBuilder(decomposto.length());
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                normalizado.append(c);
+            }
+        }
+        return normalizado.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private Collection<Long> candidatos(String normalizado) {
+        if (normalizado.length() < TAMANHO_TRIGRAMA) {
+            return entradas.keySet();
+        }
+
+        Set<Long> menor = null;
+        for (long trigrama : extrairTrigramas(normalizado)) {
+            Set<Long> ids = trigramas.get(trigrama);
+            if (ids == null) {
+                return List.of();
+            }
+            if (menor == null || ids.size() < menor.size()) {
+                menor = ids;
+            }
+        }
+        return menor == null ? List.of() : menor;
+    }
+
+    private void desindexarTrigramas(Entrada entrada) {
+        for (long trigrama : extrairTrigramas(entrada.nomeNormalizado())) {
+            trigramas.computeIfPresent(trigrama, (chave, ids) -> {
+                ids.remove(entrada.id());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static long[] extrairTrigramas(String normalizado) {
+        int total = normalizado.length() - TAMANHO_TRIGRAMA + 1;
+        if (total <= 0) {
+            return new long[0];
+        }
+
+        long[] resultado = new long[total];
+        for (int i = 0; i < total; i++) {
+            resultado[i] = ((long) normalizado.charAt(i) << 32)
+                    | ((long) normalizado.charAt(i + 1) << 16)
+                    | normalizado.charAt(i + 2);
+        }
+        return resultado;
+    }
+
+    private static int relevancia(String nomeNormalizado, int inicio) {
+        if (inicio == 0) {
+            return RELEVANCIA_PREFIXO;
+        }
+        if (!Character.isLetterOrDigit(nomeNormalizado.charAt(inicio - 1))) {
+            return RELEVANCIA_INICIO_PALAVRA;
+        }
+        return RELEVANCIA_TRECHO;
+    }
+
+    public record Candidato(Long id, String nome, int relevancia) {
+
+        CursorFuncionario cursor() {
+            return new CursorFuncionario(relevancia, nome, id);
+        }
+    }
+
+    private record Entrada(Long id, String nome, String nomeNormalizado, FuncionarioStatus status) {
+    }
+}
@@ -0,0 +1,260 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.dto.VerificacaoHistoricoResponse;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
+import br.com.faculdade.tp3.model.EstadoSalarial;
+import br.com.faculdade.tp3.model.EventoSalarial;
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
+import br.com.faculdade.tp3.model.SnapshotSalarial;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.repository.SnapshotSalarialRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class HistoricoSalarialService {
+
+    private static final int TAMANHO_BLOCO_VERIFICACAO = 500;
+    private static final int AMOSTRA_DIVERGENTES = 20;
+
+    private final MovimentacaoRhRepository movimentacaoRhRepository;
+    private final SnapshotSalarialRepository snapshotSalarialRepository;
+    private final FuncionarioRepository funcionarioRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate transacaoSnapshot;
+    private final Executor executor;
+    private final boolean fonteEventos;
+    private final int intervaloSnapshot;
+
+    public HistoricoSalarialService(
+            MovimentacaoRhRepository movimentacaoRhRepository,
+            SnapshotSalarialRepository snapshotSalarialRepository,
+            FuncionarioRepository funcionarioRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("applicationTaskExecutor") Executor executor,
+            @Value("${rh.historico.fonte-eventos:false}") boolean fonteEventos,
+            @Value("${rh.historico.intervalo-snapshot:50}") int intervaloSnapshot
+    ) {
+        if (intervaloSnapshot < 2) {
+            throw new IllegalArgumentException("rh.historico.intervalo-snapshot deve ser ao menos 2.");
+        }
+        this.movimentacaoRhRepository = movimentacaoRhRepository;
+        this.snapshotSalarialRepository = snapshotSalarialRepository;
+        this.funcionarioRepository = funcionarioRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transacaoSnapshot = new TransactionTemplate(transactionManager);
+        this.transacaoSnapshot.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transacaoSnapshot.setName(ConsistenciaLeitura.TRANSACAO_INTERNA + "historico-snapshot");
+        this.executor = executor;
+        this.fonteEventos = fonteEventos;
+        this.intervaloSnapshot = intervaloSnapshot;
+    }
+
+    public boolean fonteEventos() {
+        return fonteEventos;
+    }
+
+    @Transactional(readOnly = true)
+    public EstadoSalarial reconstruir(Long funcionarioId) {
+        EstadoSalarial estado = snapshotSalarialRepository.findById(funcionarioId)
+                .map(SnapshotSalarial::estado)
+                .orElseGet(() -> EstadoSalarial.inicial(funcionarioId));
+        for (EventoSalarial evento : movimentacaoRhRepository.buscarCauda(funcionarioId, estado.ultimoEventoId())) {
+            estado = estado.aplicar(evento);
+        }
+        return estado;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Collection<MovimentacaoRh> movimentacoes) {
+        if (!fonteEventos) {
+            return;
+        }
+        Set<Long> funcionarioIds = new HashSet<>();
+        for (MovimentacaoRh movimentacao : movimentacoes) {
+            if (movimentacao.getTipo() != TipoMovimentacaoRh.CONTRATACAO) {
+                funcionarioIds.add(movimentacao.getFuncionario().getId());
+            }
+        }
+        if (funcionarioIds.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                atualizarSnapshots(funcionarioIds);
+            }
+        });
+    }
+
+    private void atualizarSnapshots(Set<Long> funcionarioIds) {
+        try {
+            transacaoSnapshot.executeWithoutResult(status -> {
+                for (Long funcionarioId : movimentacaoRhRepository.buscarPendentesDeSnapshot(funcionarioIds, intervaloSnapshot)) {
+                    gravarSnapshot(reconstruir(funcionarioId));
+                }
+            });
+        } catch (RuntimeException ex) {
+            // O snapshot é só um atalho da reconstrução: o próximo registro ou a verificação o recompõe.
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void descartar(Long funcionarioId) {
+        snapshotSalarialRepository.removerPorFuncionario(funcionarioId);
+    }
+
+    public VerificacaoHistoricoResponse verificar(boolean corrigir) {
+        long inicio = System.nanoTime();
+        List<Long> ids = funcionarioRepository.buscarIds();
+
+        List<CompletableFuture<ResultadoBloco>> blocos = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += TAMANHO_BLOCO_VERIFICACAO) {
+            List<Long> bloco = ids.subList(i, Math.min(i + TAMANHO_BLOCO_VERIFICACAO, ids.size()));
+            blocos.add(CompletableFuture.supplyAsync(
+                    () -> transactionTemplate.execute(status -> verificarBloco(bloco, corrigir)), executor));
+        }
+
+        ResultadoBloco total = new ResultadoBloco();
+        for (CompletableFuture<ResultadoBloco> bloco : blocos) {
+            total.somar(bloco.join());
+        }
+
+        return new VerificacaoHistoricoResponse(
+                ids.size(),
+                total.eventos,
+                total.divergentes.size(),
+                total.corrigidosIds.size(),
+                total.snapshotsGravados,
+                total.divergentes.stream().sorted().limit(AMOSTRA_DIVERGENTES).toList(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)
+        );
+    }
+
+    private ResultadoBloco verificarBloco(List<Long> funcionarioIds, boolean corrigir) {
+        ResultadoBloco resultado = new ResultadoBloco();
+        Map<Long, SnapshotSalarial> snapshots = new HashMap<>();
+        snapshotSalarialRepository.findAllById(funcionarioIds)
+                .forEach(snapshot -> snapshots.put(snapshot.getFuncionarioId(), snapshot));
+
+        Map<Long, EstadoSalarial> estados = new HashMap<>();
+        Set<Long> snapshotsInvalidos = new HashSet<>();
+        for (EventoSalarial evento : movimentacaoRhRepository.buscarHistorico(funcionarioIds)) {
+            EstadoSalarial estado = estados.getOrDefault(evento.funcionarioId(), EstadoSalarial.inicial(evento.funcionarioId()))
+                    .aplicar(evento);
+            estados.put(evento.funcionarioId(), estado);
+            resultado.eventos++;
+
+            SnapshotSalarial snapshot = snapshots.get(evento.funcionarioId());
+            if (snapshot != null && snapshot.getUltimoEventoId() == evento.id() && !snapshot.estado().equivalente(estado)) {
+                snapshotsInvalidos.add(evento.funcionarioId());
+            }
+        }
+
+        List<Long> divergentes = new ArrayList<>();
+        for (FuncionarioResumo projecao : funcionarioRepository.buscarResumosPorIds(funcionarioIds)) {
+            EstadoSalarial estado = estados.get(projecao.id());
+            SnapshotSalarial snapshot = snapshots.get(projecao.id());
+            boolean snapshotOrfao = snapshot != null
+                    && (estado == null || snapshot.getUltimoEventoId() > estado.ultimoEventoId());
+            if (estado == null || !estado.equivalente(projecao.valorAtual(), projecao.cargo())
+                    || snapshotsInvalidos.contains(projecao.id()) || snapshotOrfao) {
+                divergentes.add(projecao.id());
+            }
+        }
+        resultado.divergentes.addAll(divergentes);
+
+        if (corrigir) {
+            corrigir(divergentes, estados, snapshots, resultado);
+        }
+        return resultado;
+    }
+
+    private void corrigir(
+            List<Long> divergentes,
+            Map<Long, EstadoSalarial> estados,
+            Map<Long, SnapshotSalarial> snapshots,
+            ResultadoBloco resultado
+    ) {
+        for (Funcionario funcionario : funcionarioRepository.findAllById(divergentes)) {
+            EstadoSalarial estado = estados.get(funcionario.getId());
+            if (estado == null || estado.salario() == null) {
+                continue;
+            }
+            SituacaoFuncionario anterior = SituacaoFuncionario.de(funcionario);
+            funcionario.getSalario().setValorAtual(estado.salario());
+            if (estado.cargo() != null) {
+                funcionario.setCargo(estado.cargo());
+            }
+            eventPublisher.publishEvent(new FuncionarioAlteradoEvent(
+                    funcionario.getId(), anterior, SituacaoFuncionario.de(funcionario)));
+            resultado.corrigidosIds.add(funcionario.getId());
+        }
+
+        for (EstadoSalarial estado : estados.values()) {
+            SnapshotSalarial snapshot = snapshots.get(estado.funcionarioId());
+            if (estado.totalEventos() >= intervaloSnapshot) {
+                if (snapshot == null || !snapshot.estado().equivalente(estado)) {
+                    gravarSnapshot(estado);
+                    resultado.snapshotsGravados++;
+                }
+            } else if (snapshot != null) {
+                snapshotSalarialRepository.delete(snapshot);
+            }
+        }
+        for (SnapshotSalarial snapshot : snapshots.values()) {
+            if (!estados.containsKey(snapshot.getFuncionarioId())) {
+                snapshotSalarialRepository.delete(snapshot);
+            }
+        }
+    }
+
+    private void gravarSnapshot(EstadoSalarial estado) {
+        SnapshotSalarial snapshot = snapshotSalarialRepository.findById(estado.funcionarioId())
+                .orElseGet(() -> new SnapshotSalarial(estado.funcionarioId()));
+        snapshot.atualizar(estado);
+        snapshotSalarialRepository.save(snapshot);
+    }
+
+    private static final class ResultadoBloco {
+
+        private long eventos;
+        private long snapshotsGravados;
+        private final List<Long> divergentes = new ArrayList<>();
+        private final List<Long> corrigidosIds = new ArrayList<>();
+
+        void somar(ResultadoBloco outro) {
+            eventos += outro.eventos;
+            snapshotsGravados += outro.snapshotsGravados;
+            divergentes.addAll(outro.divergentes);
+            corrigidosIds.addAll(outro.corrigidosIds);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Queue;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InputSanitizer {
+
+    private static final String[] TRECHOS_PROIBIDOS = {"<", ">", "{", "}", "${", "--", ";", "/*", "*/"};
+    private static final String[] PALAVRAS_PROIBIDAS = {"select", "insert", "delete", "drop"};
+    private static final Automato AUTOMATO = Automato.construir(TRECHOS_PROIBIDOS, PALAVRAS_PROIBIDAS);
+
+    public String sanitizarTexto(String valor, String campo, boolean obrigatorio, int min, int max) {
+        String normalizado = normalizar(valor, campo, obrigatorio, min, max);
+        verificar(normalizado, campo, false);
+        return normalizado;
+    }
+
+    public String sanitizarTextoHumano(String valor, String campo, boolean obrigatorio, int min, int max) {
+        String normalizado = normalizar(valor, campo, obrigatorio, min, max);
+        verificar(normalizado, campo, true);
+        return normalizado;
+    }
+
+    public String sanitizarEmail(String email) {
+        String normalizado = sanitizarTexto(email, "Email", true, 5, 160).toLowerCase(Locale.ROOT);
+        if (normalizado.indexOf('@') < 0 || normalizado.charAt(0) == '@'
+                || normalizado.charAt(normalizado.length() - 1) == '@') {
+            throw new EntradaInvalidaException("Email inválido.");
+        }
+        return normalizado;
+    }
+
+    public String sanitizarCpf(String cpf) {
+        String normalizado = sanitizarTexto(cpf, "CPF", true, 11, 11);
+        for (int i = 0; i < normalizado.length(); i++) {
+            char c = normalizado.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new EntradaInvalidaException("CPF deve conter exatamente 11 dígitos.");
+            }
+        }
+        return normalizado;
+    }
+
+    private static String normalizar(String valor, String campo, boolean obrigatorio, int min, int max) {
+        if (valor == null) {
+            if (obrigatorio) {
+                throw new EntradaInvalidaException(campo + " é obrigatório.");
+            }
+            return "";
+        }
+
+        String normalizado = valor.trim();
+        if (obrigatorio && normalizado.isEmpty()) {
+            throw new EntradaInvalidaException(campo + " é obrigatório.");
+        }
+
+        if (!normalizado.isEmpty() && (normalizado.length() < min || normalizado.length() > max)) {
+            throw new EntradaInvalidaException(campo + " deve ter entre " + min + " e " + max + " caracteres.");
+        }
+        return normalizado;
+    }
+
+    private static void verificar(String texto, String campo, boolean humano) {
+        int estado = 0;
+        boolean malicioso = false;
+        boolean humanoValido = true;
+
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (controle(c)) {
+                throw new EntradaInvalidaException(campo + " contém caracteres inválidos.");
+            }
+
+            if (!malicioso) {
+                estado = AUTOMATO.avancar(estado, c);
+                malicioso = AUTOMATO.casou(estado, texto, i);
+            }
+
+            if (humano && humanoValido) {
+                humanoValido = permitidoEmTextoHumano(texto, i, c);
+            }
+        }
+
+        if (malicioso) {
+            throw new EntradaInvalidaException(campo + " contém conteúdo potencialmente malicioso.");
+        }
+        if (!humanoValido) {
+            throw new EntradaInvalidaException(campo + " contém caracteres não permitidos.");
+        }
+    }
+
+    private static boolean controle(char c) {
+        return (c < 0x20 && c != '\r' && c != '\n' && c != '\t') || c == 0x7F;
+    }
+
+    private static boolean permitidoEmTextoHumano(String texto, int indice, char c) {
+        if ((c >= '0' && c <= '9') || c == ' ' || c == '.' || c == ',' || c == '\'' || c == '-') {
+            return true;
+        }
+        if (Character.isLowSurrogate(c) && indice > 0 && Character.isHighSurrogate(texto.charAt(indice - 1))) {
+            return true;
+        }
+        return Character.isLetter(texto.codePointAt(indice));
+    }
+
+    private static final class Automato {
+
+        private static final int ALFABETO = 128;
+
+        private final int[] transicoes;
+        private final int[] saidas;
+        private final int[] tamanhos;
+        private final boolean[] exigeLimite;
+
+        private Automato(int[] transicoes, int[] saidas, int[] tamanhos, boolean[] exigeLimite) {
+            this.transicoes = transicoes;
+            this.saidas = saidas;
+            this.tamanhos = tamanhos;
+            this.exigeLimite = exigeLimite;
+        }
+
+        static Automato construir(String[] trechos, String[] palavras) {
+            int totalPadroes = trechos.length + palavras.length;
+            String[] padroes = new String[totalPadroes];
+            boolean[] exigeLimite = new boolean[totalPadroes];
+            int[] tamanhos = new int[totalPadroes];
+            int maximoEstados = 1;
+            for (int p = 0; p < totalPadroes; p++) {
+                padroes[p] = p < trechos.length ? trechos[p] : palavras[p - trechos.length];
+                exigeLimite[p] = p >= trechos.length;
+                tamanhos[p] = padroes[p].length();
+                maximoEstados += tamanhos[p];
+            }
+
+            int[] transicoes = new int[maximoEstados * ALFABETO];
+            Arrays.fill(transicoes, -1);
+            int[] saidas = new int[maximoEstados];
+            int estados = 1;
+
+            for (int p = 0; p < totalPadroes; p++) {
+                int estado = 0;
+                for (int i = 0; i < padroes[p].length(); i++) {
+                    int posicao = estado * ALFABETO + padroes[p].charAt(i);
+                    if (transicoes[posicao] < 0) {
+                        transicoes[posicao] = estados++;
+                    }
+                    estado = transicoes[posicao];
+                }
+                saidas[estado] |= 1 << p;
+            }
+
+            int[] falhas = new int[estados];
+            Queue<Integer> fila = new ArrayDeque<>();
+            for (int c = 0; c < ALFABETO; c++) {
+                if (transicoes[c] < 0) {
+                    transicoes[c] = 0;
+                } else {
+                    falhas[transicoes[c]] = 0;
+                    fila.add(transicoes[c]);
+                }
+            }
+
+            while (!fila.isEmpty()) {
+                int estado = fila.remove();
+                saidas[estado] |= saidas[falhas[estado]];
+                for (int c = 0; c < ALFABETO; c++) {
+                    int posicao = estado * ALFABETO + c;
+                    int proximo = transicoes[posicao];
+                    if (proximo < 0) {
+                        transicoes[posicao] = transicoes[falhas[estado] * ALFABETO + c];
+                    } else {
+                        falhas[proximo] = transicoes[falhas[estado] * ALFABETO + c];
+                        fila.add(proximo);
+                    }
+                }
+            }
+
+            return new Automato(Arrays.copyOf(transicoes, estados * ALFABETO), Arrays.copyOf(saidas, estados),
+                    tamanhos, exigeLimite);
+        }
+
+        int avancar(int estado, char c) {
+            if (c >= ALFABETO) {
+                return 0;
+            }
+            char minusculo = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            return transicoes[estado * ALFABETO + minusculo];
+        }
+
+        boolean casou(int estado, String texto, int fim) {
+            int pendentes = saidas[estado];
+            while (pendentes != 0) {
+                int padrao = Integer.numberOfTrailingZeros(pendentes);
+                pendentes &= pendentes - 1;
+                if (!exigeLimite[padrao]
+                        || (limiteDePalavra(texto, fim - tamanhos[padrao] + 1) && limiteDePalavra(texto, fim + 1))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean limiteDePalavra(String texto, int indice) {
+            boolean esquerda = indice > 0
+                    && caractereDePalavra(texto, Character.codePointBefore(texto, indice), indice - 1);
+            boolean direita = indice < texto.length()
+                    && caractereDePalavra(texto, Character.codePointAt(texto, indice), indice);
+            return esquerda != direita;
+        }
+
+        private static boolean caractereDePalavra(String texto, int codePoint, int indice) {
+            if (codePoint == '_' || Character.isLetterOrDigit(codePoint)) {
+                return true;
+            }
+            return Character.getType(codePoint) == Character.NON_SPACING_MARK && possuiCaractereBase(texto, indice);
+        }
+
+        private static boolean possuiCaractereBase(String texto, int indice) {
+            for (int i = indice; i >= 0; i--) {
+                int codePoint = Character.codePointAt(texto, i);
+                if (Character.isLetterOrDigit(codePoint)) {
+                    return true;
+                }
+                if (Character.getType(codePoint) != Character.NON_SPACING_MARK) {
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,621 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.ResumoMovimentacoes;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+@Component
+public class JournalMovimentacoes {
+
+    private static final int TAMANHO_REGISTRO = 64;
+    private static final int TENTATIVAS_RECONCILIACAO = 3;
+
+    private static final int MARCADOR = 0x4A524831;
+    private static final int TIPO_REMOCAO = -1;
+    private static final long SEM_VALOR = Long.MIN_VALUE;
+    private static final TipoMovimentacaoRh[] TIPOS = TipoMovimentacaoRh.values();
+    private static final ZoneId ZONA = ZoneId.systemDefault();
+
+    private static final int POS_MARCADOR = 0;
+    private static final int POS_TIPO = 4;
+    private static final int POS_MOVIMENTACAO = 8;
+    private static final int POS_FUNCIONARIO = 16;
+    private static final int POS_ANTES = 24;
+    private static final int POS_DEPOIS = 32;
+    private static final int POS_EPOCH = 40;
+    private static final int POS_DADOS = 48;
+    private static final int POS_TAMANHO_DADOS = 56;
+    private static final int POS_CRC = 60;
+
+    private final MovimentacaoRhRepository movimentacaoRhRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean habilitado;
+    private final Path diretorio;
+    private final int registrosPorSegmento;
+    private final int bytesDadosPorSegmento;
+    private final Counter registrosGravados;
+    private final Counter falhas;
+
+    private final Object escrita = new Object();
+    private final Object reconciliacao = new Object();
+    private volatile Estado estado = new Estado();
+    private volatile boolean consistente;
+    private volatile boolean iniciado;
+    private boolean descartados;
+    private long maiorIdReconciliado;
+    private int pendentesSincronizacao;
+
+    public JournalMovimentacoes(
+            MovimentacaoRhRepository movimentacaoRhRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${rh.journal.habilitado:false}") boolean habilitado,
+            @Value("${rh.journal.diretorio:journal}") Path diretorio,
+            @Value("${rh.journal.tamanho-segmento:16MB}") DataSize tamanhoSegmento
+    ) {
+        if (tamanhoSegmento.toBytes() < TAMANHO_REGISTRO || tamanhoSegmento.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("rh.journal.tamanho-segmento fora do intervalo suportado.");
+        }
+        this.movimentacaoRhRepository = movimentacaoRhRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.habilitado = habilitado;
+        this.diretorio = diretorio;
+        this.registrosPorSegmento = (int) (tamanhoSegmento.toBytes() / TAMANHO_REGISTRO);
+        this.bytesDadosPorSegmento = (int) tamanhoSegmento.toBytes();
+        this.registrosGravados = Counter.builder("rh.journal.registros")
+                .description("Registros anexados ao journal de movimentações")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("rh.journal.falhas")
+                .description("Falhas ao anexar ao journal; leituras voltam para a tabela até a próxima reconciliação")
+                .register(meterRegistry);
+    }
+
+    public boolean disponivel() {
+        return habilitado && consistente;
+    }
+
+    // Anexos que chegam enquanto o journal está inconsistente são descartados e forçam outra tentativa; os que
+    // chegam depois de um commit já incluído na reconstrução são ignorados pelo id. Segmentos e índice são montados
+    // à parte e trocados de uma vez, então uma leitura concorrente vê o estado anterior inteiro ou o novo inteiro.
+    @EventListener(ApplicationStartedEvent.class)
+    public void reconciliar() {
+        if (!habilitado) {
+            return;
+        }
+
+        synchronized (reconciliacao) {
+            iniciado = true;
+            for (int tentativa = 0; tentativa < TENTATIVAS_RECONCILIACAO; tentativa++) {
+                synchronized (escrita) {
+                    consistente = false;
+                    descartados = false;
+                    maiorIdReconciliado = 0;
+                }
+                Estado aberto;
+                try {
+                    aberto = abrir();
+                    if (!confere(aberto)) {
+                        aberto = reconstruir(aberto);
+                    }
+                } catch (IOException ex) {
+                    falhas.increment();
+                    throw new UncheckedIOException("Falha ao abrir o journal de movimentações.", ex);
+                }
+                Registro[] extremos = aberto.extremos();
+                synchronized (escrita) {
+                    if (!descartados) {
+                        estado = aberto;
+                        maiorIdReconciliado = extremos == null ? 0 : extremos[1].movimentacaoId();
+                        consistente = true;
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rh.journal.intervalo-reconciliacao-ms:5000}")
+    public void reconciliarAposFalha() {
+        if (!habilitado || !iniciado || consistente) {
+            return;
+        }
+        try {
+            reconciliar();
+        } catch (RuntimeException ex) {
+            falhas.increment();
+        }
+    }
+
+    public void registrar(Collection<MovimentacaoRh> movimentacoes) {
+        if (!habilitado || movimentacoes.isEmpty()) {
+            return;
+        }
+
+        List<Registro> registros = new ArrayList<>(movimentacoes.size());
+        for (MovimentacaoRh movimentacao : movimentacoes) {
+            registros.add(Registro.de(movimentacao));
+        }
+        aposCommit(registros);
+    }
+
+    public void descartar(Long funcionarioId) {
+        if (!habilitado) {
+            return;
+        }
+        aposCommit(List.of(Registro.remocao(funcionarioId)));
+    }
+
+    public List<MovimentacaoRh> listar(Long funcionarioId) {
+        Estado atual = estado;
+        long[] posicoes = atual.indice.get(funcionarioId);
+        if (posicoes == null) {
+            return List.of();
+        }
+
+        List<MovimentacaoRh> resultado = new ArrayList<>(posicoes.length);
+        for (int i = posicoes.length - 1; i >= 0; i--) {
+            resultado.add(atual.ler(posicoes[i]).paraMovimentacao());
+        }
+        return resultado;
+    }
+
+    // Quantidade e última data saem do índice e do campo de data do registro, sem decodificar o histórico.
+    public ResumoMovimentacoes resumir(Long funcionarioId) {
+        Estado atual = estado;
+        long[] posicoes = atual.indice.get(funcionarioId);
+        if (posicoes == null) {
+            return new ResumoMovimentacoes(0, null);
+        }
+
+        long ultima = Long.MIN_VALUE;
+        for (long posicao : posicoes) {
+            ultima = Math.max(ultima, atual.epochMillis(posicao));
+        }
+        return new ResumoMovimentacoes(posicoes.length, LocalDateTime.ofInstant(Instant.ofEpochMilli(ultima), ZONA));
+    }
+
+    @Scheduled(fixedDelayString = "${rh.journal.intervalo-fsync-ms:50}")
+    public void sincronizar() {
+        if (!habilitado) {
+            return;
+        }
+        synchronized (escrita) {
+            List<Segmento> segmentos = estado.segmentos;
+            if (pendentesSincronizacao == 0 || segmentos.isEmpty()) {
+                return;
+            }
+            segmentos.get(segmentos.size() - 1).sincronizar();
+            pendentesSincronizacao = 0;
+        }
+    }
+
+    @PreDestroy
+    public void fechar() {
+        sincronizar();
+    }
+
+    // Uma base recriada (H2 em memória, por exemplo) pode ter a mesma contagem de um journal antigo; a primeira e a
+    // última movimentação por id, comparadas campo a campo, identificam a base sem varrer a tabela.
+    private boolean confere(Estado candidato) {
+        Registro[] extremos = candidato.extremos();
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (movimentacaoRhRepository.count() != candidato.total()) {
+                return false;
+            }
+            if (extremos == null) {
+                return true;
+            }
+            return movimentacaoRhRepository.findFirstByOrderByIdAsc().map(Registro::de)
+                    .filter(extremos[0]::equals).isPresent()
+                    && movimentacaoRhRepository.buscarUltima().map(Registro::de)
+                    .filter(extremos[1]::equals).isPresent();
+        }));
+    }
+
+    private void aposCommit(List<Registro> registros) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            anexarComTratamento(registros);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                anexarComTratamento(registros);
+            }
+        });
+    }
+
+    private void anexarComTratamento(List<Registro> registros) {
+        try {
+            synchronized (escrita) {
+                if (!consistente) {
+                    descartados = true;
+                    return;
+                }
+                Estado atual = estado;
+                for (Registro registro : registros) {
+                    if (registro.tipo() == TIPO_REMOCAO
+                            || registro.movimentacaoId() > maiorIdReconciliado
+                            || !atual.indexado(registro)) {
+                        anexar(atual, registro);
+                    }
+                }
+                pendentesSincronizacao += registros.size();
+            }
+            registrosGravados.increment(registros.size());
+        } catch (IOException | RuntimeException ex) {
+            consistente = false;
+            falhas.increment();
+        }
+    }
+
+    private void anexar(Estado alvo, Registro registro) throws IOException {
+        List<Segmento> segmentos = alvo.segmentos;
+        byte[] dados = registro.dados();
+        Segmento atual = segmentos.isEmpty() ? null : segmentos.get(segmentos.size() - 1);
+        if (atual == null || !atual.comporta(dados.length)) {
+            if (atual != null) {
+                atual.sincronizar();
+            }
+            atual = Segmento.criar(diretorio, segmentos.size(), registrosPorSegmento, bytesDadosPorSegmento);
+            segmentos.add(atual);
+        }
+
+        int posicao = atual.escrever(registro, dados);
+        alvo.indexar(registro, ((long) (segmentos.size() - 1) << 32) | posicao);
+    }
+
+    private Estado abrir() throws IOException {
+        Files.createDirectories(diretorio);
+        Estado aberto = new Estado();
+        for (int numero = 0; Files.exists(Segmento.arquivoRegistros(diretorio, numero)); numero++) {
+            Segmento segmento = Segmento.abrir(diretorio, numero, registrosPorSegmento, bytesDadosPorSegmento);
+            aberto.segmentos.add(segmento);
+            for (int i = 0; i < segmento.registros(); i++) {
+                aberto.indexar(segmento.ler(i), ((long) numero << 32) | i);
+            }
+        }
+        return aberto;
+    }
+
+    // Os arquivos antigos saem do diretório, mas continuam mapeados pelo estado publicado até a troca.
+    private Estado reconstruir(Estado descartado) throws IOException {
+        for (int numero = 0; numero < descartado.segmentos.size(); numero++) {
+            Files.deleteIfExists(Segmento.arquivoRegistros(diretorio, numero));
+            Files.deleteIfExists(Segmento.arquivoDados(diretorio, numero));
+        }
+
+        Estado reconstruido = new Estado();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<MovimentacaoRh> movimentacoes = movimentacaoRhRepository.streamTodas()) {
+                movimentacoes.forEach(movimentacao -> {
+                    try {
+                        anexar(reconstruido, Registro.de(movimentacao));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        });
+        if (!reconstruido.segmentos.isEmpty()) {
+            reconstruido.segmentos.get(reconstruido.segmentos.size() - 1).sincronizar();
+        }
+        return reconstruido;
+    }
+
+    private static final class Estado {
+
+        private final List<Segmento> segmentos = new CopyOnWriteArrayList<>();
+        private final Map<Long, long[]> indice = new ConcurrentHashMap<>();
+
+        Registro ler(long posicao) {
+            return segmentos.get((int) (posicao >>> 32)).ler((int) posicao);
+        }
+
+        long movimentacaoId(long posicao) {
+            return segmentos.get((int) (posicao >>> 32)).movimentacaoId((int) posicao);
+        }
+
+        long epochMillis(long posicao) {
+            return segmentos.get((int) (posicao >>> 32)).epochMillis((int) posicao);
+        }
+
+        void indexar(Registro registro, long posicao) {
+            if (registro.tipo() == TIPO_REMOCAO) {
+                indice.remove(registro.funcionarioId());
+                return;
+            }
+            indice.compute(registro.funcionarioId(), (id, atuais) -> {
+                if (atuais == null) {
+                    return new long[] {posicao};
+                }
+                long[] novas = Arrays.copyOf(atuais, atuais.length + 1);
+                novas[atuais.length] = posicao;
+                return novas;
+            });
+        }
+
+        boolean indexado(Registro registro) {
+            long[] posicoes = indice.get(registro.funcionarioId());
+            if (posicoes == null) {
+                return false;
+            }
+            for (int i = posicoes.length - 1; i >= 0; i--) {
+                if (movimentacaoId(posicoes[i]) == registro.movimentacaoId()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Registro[] extremos() {
+            long menor = -1;
+            long maior = -1;
+            long menorId = Long.MAX_VALUE;
+            long maiorId = Long.MIN_VALUE;
+            for (long[] posicoes : indice.values()) {
+                for (long posicao : posicoes) {
+                    long id = movimentacaoId(posicao);
+                    if (id < menorId) {
+                        menorId = id;
+                        menor = posicao;
+                    }
+                    if (id > maiorId) {
+                        maiorId = id;
+                        maior = posicao;
+                    }
+                }
+            }
+            return menor < 0 ? null : new Registro[] {ler(menor), ler(maior)};
+        }
+
+        int total() {
+            int total = 0;
+            for (long[] posicoes : indice.values()) {
+                total += posicoes.length;
+            }
+            return total;
+        }
+    }
+
+    private record Registro(
+            long movimentacaoId,
+            long funcionarioId,
+            int tipo,
+            long centavosAntes,
+            long centavosDepois,
+            long epochMillis,
+            String descricao,
+            String cargo
+    ) {
+
+        static Registro de(MovimentacaoRh movimentacao) {
+            return new Registro(
+                    movimentacao.getId(),
+                    movimentacao.getFuncionario().getId(),
+                    movimentacao.getTipo().ordinal(),
+                    centavos(movimentacao.getSalarioAnterior()),
+                    centavos(movimentacao.getSalarioNovo()),
+                    movimentacao.getMovimentadoEm().atZone(ZONA).toInstant().toEpochMilli(),
+                    movimentacao.getDescricao(),
+                    movimentacao.getCargo()
+            );
+        }
+
+        static Registro remocao(Long funcionarioId) {
+            return new Registro(0, funcionarioId, TIPO_REMOCAO, SEM_VALOR, SEM_VALOR, 0, null, null);
+        }
+
+        byte[] dados() {
+            byte[] texto = descricao == null ? new byte[0] : descricao.getBytes(StandardCharsets.UTF_8);
+            byte[] cargoBytes = cargo == null ? null : cargo.getBytes(StandardCharsets.UTF_8);
+            int tamanhoCargo = cargoBytes == null ? 0 : cargoBytes.length;
+            byte[] dados = new byte[4 + texto.length + 4 + tamanhoCargo];
+            escreverInt(dados, 0, texto.length);
+            System.arraycopy(texto, 0, dados, 4, texto.length);
+            escreverInt(dados, 4 + texto.length, cargoBytes == null ? -1 : tamanhoCargo);
+            if (cargoBytes != null) {
+                System.arraycopy(cargoBytes, 0, dados, 8 + texto.length, tamanhoCargo);
+            }
+            return dados;
+        }
+
+        MovimentacaoRh paraMovimentacao() {
+            MovimentacaoRh movimentacao = new MovimentacaoRh();
+            movimentacao.setId(movimentacaoId);
+            movimentacao.setTipo(TIPOS[tipo]);
+            movimentacao.setDescricao(descricao);
+            movimentacao.setCargo(cargo);
+            movimentacao.setSalarioAnterior(valor(centavosAntes));
+            movimentacao.setSalarioNovo(valor(centavosDepois));
+            movimentacao.setMovimentadoEm(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONA));
+            return movimentacao;
+        }
+
+        private static long centavos(BigDecimal valor) {
+            return valor == null ? SEM_VALOR : valor.movePointRight(2).longValueExact();
+        }
+
+        private static BigDecimal valor(long centavos) {
+            return centavos == SEM_VALOR ? null : BigDecimal.valueOf(centavos, 2);
+        }
+
+        private static void escreverInt(byte[] destino, int posicao, int valor) {
+            destino[posicao] = (byte) (valor >>> 24);
+            destino[posicao + 1] = (byte) (valor >>> 16);
+            destino[posicao + 2] = (byte) (valor >>> 8);
+            destino[posicao + 3] = (byte) valor;
+        }
+    }
+
+    private static final class Segmento {
+
+        private final MappedByteBuffer registrosMapeados;
+        private final MappedByteBuffer dadosMapeados;
+        private final int capacidadeRegistros;
+        private final int capacidadeDados;
+        private int registros;
+        private int bytesDados;
+
+        private Segmento(MappedByteBuffer registrosMapeados, MappedByteBuffer dadosMapeados,
+                         int capacidadeRegistros, int capacidadeDados) {
+            this.registrosMapeados = registrosMapeados;
+            this.dadosMapeados = dadosMapeados;
+            this.capacidadeRegistros = capacidadeRegistros;
+            this.capacidadeDados = capacidadeDados;
+        }
+
+        static Path arquivoRegistros(Path diretorio, int numero) {
+            return diretorio.resolve(String.format("segmento-%06d.reg", numero));
+        }
+
+        static Path arquivoDados(Path diretorio, int numero) {
+            return diretorio.resolve(String.format("segmento-%06d.dat", numero));
+        }
+
+        static Segmento criar(Path diretorio, int numero, int capacidadeRegistros, int capacidadeDados)
+                throws IOException {
+            Files.createDirectories(diretorio);
+            return abrir(diretorio, numero, capacidadeRegistros, capacidadeDados);
+        }
+
+        static Segmento abrir(Path diretorio, int numero, int capacidadeRegistros, int capacidadeDados)
+                throws IOException {
+            Segmento segmento = new Segmento(
+                    mapear(arquivoRegistros(diretorio, numero), (long) capacidadeRegistros * TAMANHO_REGISTRO),
+                    mapear(arquivoDados(diretorio, numero), capacidadeDados),
+                    capacidadeRegistros,
+                    capacidadeDados
+            );
+            segmento.recuperar();
+            return segmento;
+        }
+
+        private static MappedByteBuffer mapear(Path arquivo, long tamanho) throws IOException {
+            try (FileChannel canal = FileChannel.open(arquivo,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+            }
+        }
+
+        int registros() {
+            return registros;
+        }
+
+        boolean comporta(int tamanhoDados) {
+            return registros < capacidadeRegistros && bytesDados + tamanhoDados <= capacidadeDados;
+        }
+
+        int escrever(Registro registro, byte[] dados) {
+            int base = registros * TAMANHO_REGISTRO;
+            dadosMapeados.put(bytesDados, dados);
+
+            registrosMapeados.putInt(base + POS_TIPO, registro.tipo());
+            registrosMapeados.putLong(base + POS_MOVIMENTACAO, registro.movimentacaoId());
+            registrosMapeados.putLong(base + POS_FUNCIONARIO, registro.funcionarioId());
+            registrosMapeados.putLong(base + POS_ANTES, registro.centavosAntes());
+            registrosMapeados.putLong(base + POS_DEPOIS, registro.centavosDepois());
+            registrosMapeados.putLong(base + POS_EPOCH, registro.epochMillis());
+            registrosMapeados.putLong(base + POS_DADOS, bytesDados);
+            registrosMapeados.putInt(base + POS_TAMANHO_DADOS, dados.length);
+            registrosMapeados.putInt(base + POS_CRC, crc(base));
+            registrosMapeados.putInt(base + POS_MARCADOR, MARCADOR);
+
+            bytesDados += dados.length;
+            return registros++;
+        }
+
+        long movimentacaoId(int posicao) {
+            return registrosMapeados.getLong(posicao * TAMANHO_REGISTRO + POS_MOVIMENTACAO);
+        }
+
+        long epochMillis(int posicao) {
+            return registrosMapeados.getLong(posicao * TAMANHO_REGISTRO + POS_EPOCH);
+        }
+
+        Registro ler(int posicao) {
+            int base = posicao * TAMANHO_REGISTRO;
+            int inicioDados = (int) registrosMapeados.getLong(base + POS_DADOS);
+            int tamanhoDescricao = dadosMapeados.getInt(inicioDados);
+            int tamanhoCargo = dadosMapeados.getInt(inicioDados + 4 + tamanhoDescricao);
+            return new Registro(
+                    registrosMapeados.getLong(base + POS_MOVIMENTACAO),
+                    registrosMapeados.getLong(base + POS_FUNCIONARIO),
+                    registrosMapeados.getInt(base + POS_TIPO),
+                    registrosMapeados.getLong(base + POS_ANTES),
+                    registrosMapeados.getLong(base + POS_DEPOIS),
+                    registrosMapeados.getLong(base + POS_EPOCH),
+                    texto(inicioDados + 4, tamanhoDescricao),
+                    tamanhoCargo < 0 ? null : texto(inicioDados + 8 + tamanhoDescricao, tamanhoCargo)
+            );
+        }
+
+        void sincronizar() {
+            dadosMapeados.force();
+            registrosMapeados.force();
+        }
+
+        private void recuperar() {
+            while (registros < capacidadeRegistros) {
+                int base = registros * TAMANHO_REGISTRO;
+                if (registrosMapeados.getInt(base + POS_MARCADOR) != MARCADOR
+                        || registrosMapeados.getInt(base + POS_CRC) != crc(base)) {
+                    break;
+                }
+                bytesDados = (int) registrosMapeados.getLong(base + POS_DADOS)
+                        + registrosMapeados.getInt(base + POS_TAMANHO_DADOS);
+                registros++;
+            }
+        }
+
+        private int crc(int base) {
+            byte[] campos = new byte[POS_CRC - POS_TIPO];
+            registrosMapeados.get(base + POS_TIPO, campos);
+            CRC32 crc = new CRC32();
+            crc.update(campos);
+            return (int) crc.getValue();
+        }
+
+        private String texto(int inicio, int tamanho) {
+            byte[] bytes = new byte[tamanho];
+            dadosMapeados.get(inicio, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.faculdade.tp3.service;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class LeituraCompartilhadaAspect {
+
+    private final ConsistenciaLeitura consistenciaLeitura;
+
+    public LeituraCompartilhadaAspect(ConsistenciaLeitura consistenciaLeitura) {
+        this.consistenciaLeitura = consistenciaLeitura;
+    }
+
+    @Around("@annotation(org.springframework.cache.annotation.Cacheable)")
+    public Object exigirVersaoAtual(ProceedingJoinPoint joinPoint) throws Throwable {
+        ConsistenciaLeitura.Contexto anterior = consistenciaLeitura.exigirVersaoAtual();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            consistenciaLeitura.restaurar(anterior);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.dto.LimitadorEstatisticaResponse;
+import br.com.faculdade.tp3.exception.SobrecargaSistemaException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LimitadorConcorrencia {
+
+    private static final double TOLERANCIA = 1.5;
+    private static final double SUAVIZACAO = 0.2;
+    private static final double JANELA_CURTA = 10;
+    private static final double JANELA_LONGA = 600;
+
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final AtomicInteger emVoo = new AtomicInteger();
+    private final LongAdder aceitas = new LongAdder();
+    private final LongAdder rejeitadas = new LongAdder();
+    private final Counter contadorRejeicoes;
+
+    private volatile int limite;
+    private double limiteEstimado;
+    private double rttCurto;
+    private double rttLongo;
+
+    public LimitadorConcorrencia(
+            MeterRegistry meterRegistry,
+            @Value("${rh.limitador.limite-inicial:20}") int limiteInicial,
+            @Value("${rh.limitador.limite-minimo:4}") int limiteMinimo,
+            @Value("${rh.limitador.limite-maximo:200}") int limiteMaximo
+    ) {
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.limite = Math.max(limiteMinimo, Math.min(limiteMaximo, limiteInicial));
+        this.limiteEstimado = limite;
+
+        Gauge.builder("rh.limitador.limite", this, LimitadorConcorrencia::getLimite)
+                .description("Limite de concorrência atual da API de RH")
+                .register(meterRegistry);
+        Gauge.builder("rh.limitador.em.voo", emVoo, AtomicInteger::get)
+                .description("Requisições em processamento na API de RH")
+                .register(meterRegistry);
+        contadorRejeicoes = Counter.builder("rh.limitador.rejeicoes")
+                .description("Requisições rejeitadas pelo limitador de concorrência")
+                .register(meterRegistry);
+    }
+
+    public long adquirir() {
+        while (true) {
+            int atual = emVoo.get();
+            if (atual >= limite) {
+                rejeitadas.increment();
+                contadorRejeicoes.increment();
+                throw new SobrecargaSistemaException("Sistema temporariamente sobrecarregado. Tente novamente em instantes.");
+            }
+            if (emVoo.compareAndSet(atual, atual + 1)) {
+                aceitas.increment();
+                return System.nanoTime();
+            }
+        }
+    }
+
+    public void liberar(long inicioNanos) {
+        liberar(inicioNanos, true);
+    }
+
+    // Requisições de longa duração ocupam vaga, mas seu RTT não diz nada sobre a fila e deslocaria a média curta.
+    public void liberar(long inicioNanos, boolean amostrar) {
+        int emVooNoTermino = emVoo.getAndDecrement();
+        if (amostrar) {
+            registrarAmostra(System.nanoTime() - inicioNanos, emVooNoTermino);
+        }
+    }
+
+    synchronized void registrarAmostra(long rttNanos, int emVooNaAmostra) {
+        if (rttCurto == 0) {
+            rttCurto = rttNanos;
+            rttLongo = rttNanos;
+            return;
+        }
+
+        rttCurto += (rttNanos - rttCurto) / JANELA_CURTA;
+        rttLongo += (rttNanos - rttLongo) / JANELA_LONGA;
+        if (rttLongo / rttCurto > 2) {
+            rttLongo *= 0.95;
+        }
+
+        if (emVooNaAmostra < limiteEstimado / 2) {
+            return;
+        }
+
+        double gradiente = Math.max(0.5, Math.min(1.0, TOLERANCIA * rttLongo / rttCurto));
+        double novoLimite = limiteEstimado * gradiente + Math.sqrt(limiteEstimado);
+        novoLimite = limiteEstimado * (1 - SUAVIZACAO) + novoLimite * SUAVIZACAO;
+        limiteEstimado = Math.max(limiteMinimo, Math.min(limiteMaximo, novoLimite));
+        limite = (int) limiteEstimado;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public int getEmVoo() {
+        return emVoo.get();
+    }
+
+    public LimitadorEstatisticaResponse estatisticas() {
+        long totalAceitas = aceitas.sum();
+        long totalRejeitadas = rejeitadas.sum();
+        long total = totalAceitas + totalRejeitadas;
+        return new LimitadorEstatisticaResponse(
+                limite,
+                emVoo.get(),
+                totalAceitas,
+                totalRejeitadas,
+                total == 0 ? 0 : (double) totalRejeitadas / total
+        );
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.faculdade.tp3.service;
+
+public record MensagemOutbox(Long eventoId, Long funcionarioId, String tipo, String payload) {
+}
@@ -0,0 +1,29 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record MovimentacaoPublicada(
+        Long movimentacaoId,
+        Long funcionarioId,
+        TipoMovimentacaoRh tipo,
+        String descricao,
+        BigDecimal salarioAnterior,
+        BigDecimal salarioNovo,
+        LocalDateTime movimentadoEm
+) {
+
+    public static MovimentacaoPublicada de(MovimentacaoRh movimentacao) {
+        return new MovimentacaoPublicada(
+                movimentacao.getId(),
+                movimentacao.getFuncionario().getId(),
+                movimentacao.getTipo(),
+                movimentacao.getDescricao(),
+                movimentacao.getSalarioAnterior(),
+                movimentacao.getSalarioNovo(),
+                movimentacao.getMovimentadoEm()
+        );
+    }
+}
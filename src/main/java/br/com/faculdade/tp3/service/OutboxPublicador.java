@@ -0,0 +1,107 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.model.EventoOutbox;
+import br.com.faculdade.tp3.repository.EventoOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class OutboxPublicador {
+
+    private static final long ESPERA_MAXIMA_SEGUNDOS = 300;
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final DestinoOutbox destino;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final Duration retencao;
+    private final Counter publicados;
+    private final Counter falhas;
+
+    public OutboxPublicador(
+            EventoOutboxRepository eventoOutboxRepository,
+            DestinoOutbox destino,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${rh.outbox.tamanho-lote:200}") int tamanhoLote,
+            @Value("${rh.outbox.retencao:24h}") Duration retencao
+    ) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.destino = destino;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setName(ConsistenciaLeitura.TRANSACAO_INTERNA + "outbox");
+        this.tamanhoLote = tamanhoLote;
+        this.retencao = retencao;
+        this.publicados = Counter.builder("rh.outbox.publicados")
+                .description("Eventos do outbox entregues ao destino")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("rh.outbox.falhas")
+                .description("Tentativas de entrega do outbox que falharam")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${rh.outbox.intervalo-ms:1000}")
+    public void publicarPendentes() {
+        drenar();
+        transactionTemplate.executeWithoutResult(status ->
+                eventoOutboxRepository.removerPublicadosAntes(LocalDateTime.now().minus(retencao)));
+    }
+
+    public synchronized int drenar() {
+        int total = 0;
+        int processados;
+        do {
+            processados = transactionTemplate.execute(status -> publicarLote());
+            total += processados;
+        } while (processados == tamanhoLote);
+        return total;
+    }
+
+    private int publicarLote() {
+        LocalDateTime agora = LocalDateTime.now();
+        List<EventoOutbox> eventos = eventoOutboxRepository.buscarPendentes(agora, Limit.of(tamanhoLote));
+        Set<Long> funcionariosBloqueados = new HashSet<>();
+        List<EventoOutbox> enviados = new ArrayList<>(eventos.size());
+
+        for (EventoOutbox evento : eventos) {
+            if (funcionariosBloqueados.contains(evento.getFuncionarioId())) {
+                continue;
+            }
+            try {
+                destino.enviar(new MensagemOutbox(
+                        evento.getId(), evento.getFuncionarioId(), evento.getTipo(), evento.getPayload()));
+                enviados.add(evento);
+            } catch (Exception ex) {
+                funcionariosBloqueados.add(evento.getFuncionarioId());
+                falhar(evento, ex, agora);
+            }
+        }
+
+        try {
+            destino.concluirLote();
+            enviados.forEach(evento -> evento.marcarPublicado(agora));
+            publicados.increment(enviados.size());
+        } catch (Exception ex) {
+            enviados.forEach(evento -> falhar(evento, ex, agora));
+        }
+        return eventos.size();
+    }
+
+    private void falhar(EventoOutbox evento, Exception ex, LocalDateTime agora) {
+        long espera = Math.min(ESPERA_MAXIMA_SEGUNDOS, 1L << Math.min(evento.getTentativas(), 16));
+        evento.registrarFalha(ex.getClass().getSimpleName() + ": " + ex.getMessage(), agora.plusSeconds(espera));
+        falhas.increment();
+    }
+}
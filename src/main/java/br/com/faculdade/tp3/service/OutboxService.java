@@ -0,0 +1,48 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.model.EventoOutbox;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.repository.EventoOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class OutboxService {
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(EventoOutboxRepository eventoOutboxRepository, ObjectMapper objectMapper) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(Collection<MovimentacaoRh> movimentacoes) {
+        List<EventoOutbox> eventos = new ArrayList<>(movimentacoes.size());
+        for (MovimentacaoRh movimentacao : movimentacoes) {
+            MovimentacaoPublicada publicada = MovimentacaoPublicada.de(movimentacao);
+            eventos.add(new EventoOutbox(
+                    publicada.funcionarioId(),
+                    publicada.movimentacaoId(),
+                    publicada.tipo().name(),
+                    serializar(publicada)
+            ));
+        }
+        eventoOutboxRepository.saveAll(eventos);
+    }
+
+    private String serializar(MovimentacaoPublicada publicada) {
+        try {
+            return objectMapper.writeValueAsString(publicada);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Falha ao serializar movimentação para o outbox.", ex);
+        }
+    }
+}
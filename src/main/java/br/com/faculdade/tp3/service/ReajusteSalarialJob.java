@@ -0,0 +1,171 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.ReajusteSalarial;
+import br.com.faculdade.tp3.model.SalarioVigente;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.model.enums.StatusReajuste;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.repository.ReajusteSalarialRepository;
+import br.com.faculdade.tp3.repository.SalarioRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ReajusteSalarialJob {
+
+    private final ReajusteSalarialRepository reajusteSalarialRepository;
+    private final FuncionarioRepository funcionarioRepository;
+    private final SalarioRepository salarioRepository;
+    private final MovimentacaoRhRepository movimentacaoRhRepository;
+    private final OutboxService outboxService;
+    private final HistoricoSalarialService historicoSalarialService;
+    private final JournalMovimentacoes journalMovimentacoes;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final int tamanhoBloco;
+    private final Set<Long> emExecucao = ConcurrentHashMap.newKeySet();
+
+    public ReajusteSalarialJob(
+            ReajusteSalarialRepository reajusteSalarialRepository,
+            FuncionarioRepository funcionarioRepository,
+            SalarioRepository salarioRepository,
+            MovimentacaoRhRepository movimentacaoRhRepository,
+            OutboxService outboxService,
+            HistoricoSalarialService historicoSalarialService,
+            JournalMovimentacoes journalMovimentacoes,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            TaskExecutor taskExecutor,
+            @Value("${rh.reajuste.tamanho-bloco:500}") int tamanhoBloco
+    ) {
+        this.reajusteSalarialRepository = reajusteSalarialRepository;
+        this.funcionarioRepository = funcionarioRepository;
+        this.salarioRepository = salarioRepository;
+        this.movimentacaoRhRepository = movimentacaoRhRepository;
+        this.outboxService = outboxService;
+        this.historicoSalarialService = historicoSalarialService;
+        this.journalMovimentacoes = journalMovimentacoes;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.tamanhoBloco = tamanhoBloco;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoSolicitarReajuste(ReajusteSolicitadoEvent evento) {
+        agendar(evento.reajusteId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarPendentes() {
+        for (ReajusteSalarial reajuste : reajusteSalarialRepository.findByStatus(StatusReajuste.EM_ANDAMENTO)) {
+            agendar(reajuste.getId());
+        }
+    }
+
+    public boolean emExecucao(Long reajusteId) {
+        return emExecucao.contains(reajusteId);
+    }
+
+    void agendar(Long reajusteId) {
+        if (!emExecucao.add(reajusteId)) {
+            return;
+        }
+
+        taskExecutor.execute(() -> {
+            try {
+                executar(reajusteId);
+            } finally {
+                emExecucao.remove(reajusteId);
+            }
+        });
+    }
+
+    public void executar(Long reajusteId) {
+        try {
+            boolean pendente = true;
+            while (pendente) {
+                pendente = Boolean.TRUE.equals(transactionTemplate.execute(status -> processarBloco(reajusteId)));
+            }
+        } catch (RuntimeException ex) {
+            transactionTemplate.executeWithoutResult(status -> reajusteSalarialRepository.findById(reajusteId)
+                    .ifPresent(reajuste -> reajuste.falhar("Falha ao processar bloco do reajuste: "
+                            + ex.getClass().getSimpleName())));
+        }
+    }
+
+    private boolean processarBloco(Long reajusteId) {
+        ReajusteSalarial reajuste = reajusteSalarialRepository.findById(reajusteId).orElse(null);
+        if (reajuste == null || reajuste.getStatus() != StatusReajuste.EM_ANDAMENTO) {
+            return false;
+        }
+
+        List<Long> funcionarioIds = funcionarioRepository.buscarIdsParaReajuste(
+                reajuste.getDepartamento().getId(),
+                FuncionarioStatus.ATIVO,
+                reajuste.getUltimoFuncionarioId(),
+                reajuste.getLimiteFuncionarioId(),
+                Limit.of(tamanhoBloco)
+        );
+        if (funcionarioIds.isEmpty()) {
+            reajuste.concluir();
+            return false;
+        }
+
+        BigDecimal fator = reajuste.getPercentual().divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
+        BigDecimal multiplicador = BigDecimal.ONE.add(fator);
+
+        List<SalarioVigente> vigentes = salarioRepository.bloquearSalarios(funcionarioIds);
+        salarioRepository.reajustar(funcionarioIds, multiplicador, LocalDateTime.now());
+        Map<Long, String> cargos = new HashMap<>();
+        for (FuncionarioResumo resumo : funcionarioRepository.buscarResumosPorIds(funcionarioIds)) {
+            cargos.put(resumo.id(), resumo.cargo());
+        }
+
+        List<MovimentacaoRh> movimentacoes = new ArrayList<>(vigentes.size());
+        List<SalarioVigente> reajustados = new ArrayList<>(vigentes.size());
+        for (SalarioVigente vigente : vigentes) {
+            BigDecimal salarioNovo = vigente.valorAtual().multiply(multiplicador).setScale(2, RoundingMode.HALF_UP);
+            MovimentacaoRh movimentacao = new MovimentacaoRh();
+            movimentacao.setFuncionario(funcionarioRepository.getReferenceById(vigente.funcionarioId()));
+            movimentacao.setTipo(TipoMovimentacaoRh.AUMENTO_SALARIAL);
+            movimentacao.setDescricao("Aumento salarial: " + reajuste.getMotivo());
+            movimentacao.setSalarioAnterior(vigente.valorAtual());
+            movimentacao.setSalarioNovo(salarioNovo);
+            movimentacao.setCargo(cargos.get(vigente.funcionarioId()));
+            movimentacoes.add(movimentacao);
+            reajustados.add(new SalarioVigente(vigente.funcionarioId(), salarioNovo));
+        }
+        movimentacaoRhRepository.saveAll(movimentacoes);
+        outboxService.registrar(movimentacoes);
+        historicoSalarialService.registrar(movimentacoes);
+        journalMovimentacoes.registrar(movimentacoes);
+        eventPublisher.publishEvent(
+                new SalariosReajustadosEvent(reajuste.getDepartamento().getId(), vigentes, reajustados));
+
+        reajuste.registrarBloco(funcionarioIds.size(), funcionarioIds.get(funcionarioIds.size() - 1));
+        return true;
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.faculdade.tp3.service;
+
+public record ReajusteSolicitadoEvent(Long reajusteId) {
+}
@@ -0,0 +1,328 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.dto.rh.RelatorioDepartamento;
+import br.com.faculdade.tp3.dto.rh.RelatorioMensal;
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import br.com.faculdade.tp3.exception.RecursoNaoEncontradoException;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.SalarioVigente;
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class RelatorioColunar {
+
+    static final int MESES_MAXIMOS = 240;
+
+    private static final int SEM_DATA = Integer.MIN_VALUE;
+    private static final int CAPACIDADE_INICIAL = 1024;
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final DepartamentoRepository departamentoRepository;
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> linhas = new HashMap<>();
+    private long[] ids = new long[CAPACIDADE_INICIAL];
+    private int[] departamentos = new int[CAPACIDADE_INICIAL];
+    private byte[] ativos = new byte[CAPACIDADE_INICIAL];
+    private long[] centavos = new long[CAPACIDADE_INICIAL];
+    private int[] admissoes = new int[CAPACIDADE_INICIAL];
+    private int[] demissoes = new int[CAPACIDADE_INICIAL];
+    private int tamanho;
+
+    private final Map<Long, Integer> indiceDepartamentos = new HashMap<>();
+    private final List<Long> departamentoIds = new ArrayList<>();
+    private final List<String> nomesDepartamentos = new ArrayList<>();
+
+    public RelatorioColunar(FuncionarioRepository funcionarioRepository, DepartamentoRepository departamentoRepository) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.departamentoRepository = departamentoRepository;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public void reconstruir() {
+        trava.writeLock().lock();
+        try {
+            linhas.clear();
+            tamanho = 0;
+            indiceDepartamentos.clear();
+            departamentoIds.clear();
+            nomesDepartamentos.clear();
+            for (Departamento departamento : departamentoRepository.findAll()) {
+                registrarDepartamento(departamento.getId(), departamento.getNome());
+            }
+            try (Stream<SituacaoFuncionario> situacoes = funcionarioRepository.streamSituacoesCompletas()) {
+                situacoes.forEach(this::gravar);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarFuncionario(FuncionarioAlteradoEvent evento) {
+        if (evento.exclusao()) {
+            remover(evento.funcionarioId());
+        } else {
+            atualizar(evento.atual());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoReajustarSalarios(SalariosReajustadosEvent evento) {
+        trava.writeLock().lock();
+        try {
+            for (SalarioVigente salario : evento.salarios()) {
+                Integer linha = linhas.get(salario.funcionarioId());
+                if (linha != null) {
+                    centavos[linha] = centavos(salario.valorAtual());
+                }
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    public void atualizar(SituacaoFuncionario situacao) {
+        trava.writeLock().lock();
+        try {
+            gravar(situacao);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    public void remover(Long funcionarioId) {
+        trava.writeLock().lock();
+        try {
+            Integer linha = linhas.remove(funcionarioId);
+            if (linha == null) {
+                return;
+            }
+            int ultima = --tamanho;
+            if (linha != ultima) {
+                ids[linha] = ids[ultima];
+                departamentos[linha] = departamentos[ultima];
+                ativos[linha] = ativos[ultima];
+                centavos[linha] = centavos[ultima];
+                admissoes[linha] = admissoes[ultima];
+                demissoes[linha] = demissoes[ultima];
+                linhas.put(ids[linha], linha);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    public int funcionarios() {
+        trava.readLock().lock();
+        try {
+            return tamanho;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    public List<RelatorioDepartamento> porDepartamento() {
+        trava.readLock().lock();
+        try {
+            int total = departamentoIds.size();
+            long[] quantidadeAtivos = new long[total];
+            long[] quantidadeTotal = new long[total];
+            long[] folha = new long[total];
+            long[] menor = new long[total];
+            long[] maior = new long[total];
+            Arrays.fill(menor, Long.MAX_VALUE);
+            Arrays.fill(maior, Long.MIN_VALUE);
+
+            // Sem desvios por linha: inativos somam zero e não alteram mínimo nem máximo.
+            for (int i = 0; i < tamanho; i++) {
+                int d = departamentos[i];
+                long ativo = ativos[i];
+                long valor = centavos[i];
+                quantidadeTotal[d]++;
+                quantidadeAtivos[d] += ativo;
+                folha[d] += valor * ativo;
+                menor[d] = Math.min(menor[d], valor | ((ativo - 1) & Long.MAX_VALUE));
+                maior[d] = Math.max(maior[d], valor & -ativo);
+            }
+
+            List<RelatorioDepartamento> relatorio = new ArrayList<>(total);
+            for (int d : ordemPorId()) {
+                long quantidade = quantidadeAtivos[d];
+                relatorio.add(new RelatorioDepartamento(
+                        departamentoIds.get(d),
+                        nomesDepartamentos.get(d),
+                        quantidade,
+                        quantidadeTotal[d] - quantidade,
+                        reais(folha[d]),
+                        quantidade == 0 ? null : BigDecimal.valueOf(folha[d])
+                                .divide(BigDecimal.valueOf(quantidade * 100), 2, RoundingMode.HALF_UP),
+                        quantidade == 0 ? null : reais(menor[d]),
+                        quantidade == 0 ? null : reais(maior[d])
+                ));
+            }
+            return relatorio;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    public List<RelatorioMensal> movimentacaoMensal(String de, String ate, Long departamentoId) {
+        YearMonth fim = ate == null || ate.isBlank() ? YearMonth.now() : mes(ate);
+        YearMonth inicio = de == null || de.isBlank() ? fim.minusMonths(11) : mes(de);
+        if (inicio.isAfter(fim)) {
+            throw new EntradaInvalidaException("Mês inicial deve ser anterior ou igual ao mês final.");
+        }
+        long meses = ChronoUnit.MONTHS.between(inicio, fim) + 1;
+        if (meses > MESES_MAXIMOS) {
+            throw new EntradaInvalidaException("Período do relatório deve ter no máximo " + MESES_MAXIMOS + " meses.");
+        }
+
+        trava.readLock().lock();
+        try {
+            int filtro = -1;
+            if (departamentoId != null) {
+                Integer indice = indiceDepartamentos.get(departamentoId);
+                if (indice == null) {
+                    throw new RecursoNaoEncontradoException("Departamento " + departamentoId + " não encontrado.");
+                }
+                filtro = indice;
+            }
+
+            int base = indiceMes(inicio);
+            int quantidade = (int) meses;
+            long[] admitidos = new long[quantidade];
+            long[] demitidos = new long[quantidade];
+            for (int i = 0; i < tamanho; i++) {
+                if (filtro >= 0 && departamentos[i] != filtro) {
+                    continue;
+                }
+                int admissao = mesDoDia(admissoes[i]) - base;
+                if (admissao >= 0 && admissao < quantidade) {
+                    admitidos[admissao]++;
+                }
+                int demissao = demissoes[i];
+                if (demissao != SEM_DATA) {
+                    int posicao = mesDoDia(demissao) - base;
+                    if (posicao >= 0 && posicao < quantidade) {
+                        demitidos[posicao]++;
+                    }
+                }
+            }
+
+            List<RelatorioMensal> relatorio = new ArrayList<>(quantidade);
+            for (int m = 0; m < quantidade; m++) {
+                relatorio.add(new RelatorioMensal(inicio.plusMonths(m), admitidos[m], demitidos[m]));
+            }
+            return relatorio;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    // Conversão de dia epoch para ano * 12 + mês - 1 só com aritmética inteira (algoritmo civil de H. Hinnant),
+    // evitando criar um LocalDate por linha no laço de agregação.
+    public static int mesDoDia(int diaEpoch) {
+        int z = diaEpoch + 719_468;
+        int era = Math.floorDiv(z, 146_097);
+        int diaDaEra = z - era * 146_097;
+        int anoDaEra = (diaDaEra - diaDaEra / 1_460 + diaDaEra / 36_524 - diaDaEra / 146_096) / 365;
+        int diaDoAno = diaDaEra - (365 * anoDaEra + anoDaEra / 4 - anoDaEra / 100);
+        int mesDeslocado = (5 * diaDoAno + 2) / 153;
+        int mes = mesDeslocado < 10 ? mesDeslocado + 3 : mesDeslocado - 9;
+        int ano = anoDaEra + era * 400 + (mes <= 2 ? 1 : 0);
+        return ano * 12 + mes - 1;
+    }
+
+    private static int indiceMes(YearMonth mes) {
+        return mes.getYear() * 12 + mes.getMonthValue() - 1;
+    }
+
+    private void gravar(SituacaoFuncionario situacao) {
+        if (situacao.departamentoId() == null || situacao.salario() == null || situacao.dataAdmissao() == null) {
+            return;
+        }
+
+        Integer linha = linhas.get(situacao.id());
+        if (linha == null) {
+            if (tamanho == ids.length) {
+                crescer();
+            }
+            linha = tamanho++;
+            linhas.put(situacao.id(), linha);
+        }
+        ids[linha] = situacao.id();
+        departamentos[linha] = registrarDepartamento(situacao.departamentoId(), null);
+        ativos[linha] = (byte) (situacao.status() == FuncionarioStatus.ATIVO ? 1 : 0);
+        centavos[linha] = centavos(situacao.salario());
+        admissoes[linha] = (int) situacao.dataAdmissao().toEpochDay();
+        demissoes[linha] = situacao.dataDemissao() == null ? SEM_DATA : (int) situacao.dataDemissao().toEpochDay();
+    }
+
+    private int registrarDepartamento(Long id, String nome) {
+        Integer indice = indiceDepartamentos.get(id);
+        if (indice == null) {
+            indice = departamentoIds.size();
+            indiceDepartamentos.put(id, indice);
+            departamentoIds.add(id);
+            nomesDepartamentos.add(nome);
+        }
+        return indice;
+    }
+
+    private List<Integer> ordemPorId() {
+        List<Integer> ordem = new ArrayList<>(departamentoIds.size());
+        for (int d = 0; d < departamentoIds.size(); d++) {
+            ordem.add(d);
+        }
+        ordem.sort((a, b) -> Long.compare(departamentoIds.get(a), departamentoIds.get(b)));
+        return ordem;
+    }
+
+    private void crescer() {
+        int capacidade = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacidade);
+        departamentos = Arrays.copyOf(departamentos, capacidade);
+        ativos = Arrays.copyOf(ativos, capacidade);
+        centavos = Arrays.copyOf(centavos, capacidade);
+        admissoes = Arrays.copyOf(admissoes, capacidade);
+        demissoes = Arrays.copyOf(demissoes, capacidade);
+    }
+
+    private static YearMonth mes(String valor) {
+        try {
+            return YearMonth.parse(valor.trim());
+        } catch (DateTimeParseException ex) {
+            throw new EntradaInvalidaException("Mês deve estar no formato AAAA-MM.");
+        }
+    }
+
+    private static long centavos(BigDecimal valor) {
+        return valor.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal reais(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+}
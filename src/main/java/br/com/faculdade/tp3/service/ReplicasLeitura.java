@@ -0,0 +1,180 @@
+package br.com.faculdade.tp3.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicasLeitura extends AbstractDataSource {
+
+    private static final long ESPERA_DRENAGEM_MS = 5000;
+
+    private final DataSource primario;
+    private final List<Replica> replicas;
+    private final ConsistenciaLeitura consistenciaLeitura;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final Counter leiturasReplica;
+    private final Counter leiturasPrimario;
+    private final Counter falhasCopia;
+
+    public ReplicasLeitura(
+            DataSource primario,
+            List<HikariDataSource> pools,
+            ConsistenciaLeitura consistenciaLeitura,
+            MeterRegistry meterRegistry
+    ) {
+        this.primario = primario;
+        this.consistenciaLeitura = consistenciaLeitura;
+        this.replicas = new ArrayList<>(pools.size());
+        for (HikariDataSource pool : pools) {
+            Replica replica = new Replica(pool);
+            replicas.add(replica);
+            Gauge.builder("rh.replicas.atraso", replica,
+                            r -> r.versao < 0 ? Double.NaN : consistenciaLeitura.versaoPrimario() - r.versao)
+                    .description("Commits do primário ainda não copiados para a réplica")
+                    .tag("replica", pool.getPoolName())
+                    .register(meterRegistry);
+        }
+        this.leiturasReplica = Counter.builder("rh.datasource.leituras")
+                .description("Conexões de leitura entregues por destino")
+                .tag("destino", "replica")
+                .register(meterRegistry);
+        this.leiturasPrimario = Counter.builder("rh.datasource.leituras")
+                .description("Conexões de leitura entregues por destino")
+                .tag("destino", "primario")
+                .register(meterRegistry);
+        this.falhasCopia = Counter.builder("rh.replicas.falhas")
+                .description("Cópias para réplicas que falharam")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long versaoExigida = consistenciaLeitura.versaoExigida();
+        int inicio = proxima.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(inicio + i, replicas.size()));
+            Connection conexao = replica.emprestar(versaoExigida);
+            if (conexao != null) {
+                consistenciaLeitura.registrarVersaoLida(replica.versao);
+                leiturasReplica.increment();
+                return conexao;
+            }
+        }
+        leiturasPrimario.increment();
+        return primario.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    @Scheduled(fixedDelayString = "${rh.replicas.intervalo-copia-ms:1000}")
+    public synchronized void sincronizar() {
+        for (Replica replica : replicas) {
+            try {
+                copiar(replica);
+            } catch (SQLException | RuntimeException ex) {
+                replica.versao = -1;
+                falhasCopia.increment();
+            }
+        }
+    }
+
+    public void fechar() {
+        for (Replica replica : replicas) {
+            replica.disponivel = false;
+            replica.pool.close();
+        }
+    }
+
+    private void copiar(Replica replica) throws SQLException {
+        long versao = consistenciaLeitura.versaoPrimario();
+        if (replica.versao == versao) {
+            return;
+        }
+
+        List<String> comandos = new ArrayList<>();
+        try (Connection origem = primario.getConnection();
+             Statement statement = origem.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NOPASSWORDS NOSETTINGS")) {
+            while (script.next()) {
+                comandos.add(script.getString(1));
+            }
+        }
+
+        replica.disponivel = false;
+        if (!drenar(replica)) {
+            replica.disponivel = replica.versao >= 0;
+            return;
+        }
+
+        try (Connection destino = replica.pool.getConnection();
+             Statement statement = destino.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String comando : comandos) {
+                statement.execute(comando);
+            }
+        }
+        replica.versao = versao;
+        replica.disponivel = true;
+    }
+
+    private static boolean drenar(Replica replica) {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ESPERA_DRENAGEM_MS);
+        while (replica.emUso() > 0) {
+            if (System.nanoTime() > limite) {
+                return false;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource pool;
+        private final AtomicInteger emprestimos = new AtomicInteger();
+        private volatile boolean disponivel;
+        private volatile long versao = -1;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        Connection emprestar(long versaoExigida) throws SQLException {
+            if (!disponivel || versao < versaoExigida) {
+                return null;
+            }
+            emprestimos.incrementAndGet();
+            try {
+                return disponivel ? pool.getConnection() : null;
+            } finally {
+                emprestimos.decrementAndGet();
+            }
+        }
+
+        int emUso() {
+            HikariPoolMXBean estatisticas = pool.getHikariPoolMXBean();
+            return emprestimos.get() + (estatisticas == null ? 0 : estatisticas.getActiveConnections());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.exception.SobrecargaSistemaException;
+import br.com.faculdade.tp3.exception.TimeoutServicoException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class ResilienciaAspect {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public ResilienciaAspect(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Around("@annotation(resiliente)")
+    public Object proteger(ProceedingJoinPoint joinPoint, Resiliente resiliente) throws Throwable {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(resiliente.value());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(resiliente.value(), resiliente.value());
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new SobrecargaSistemaException(
+                    "Operação temporariamente indisponível. Tente novamente em instantes.",
+                    CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+        }
+
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException ex) {
+            circuitBreaker.releasePermission();
+            throw new SobrecargaSistemaException(
+                    "Sistema temporariamente sobrecarregado. Tente novamente em instantes.", ex);
+        }
+
+        long inicio = circuitBreaker.getCurrentTimestamp();
+        try {
+            Object resultado = joinPoint.proceed();
+            circuitBreaker.onSuccess(circuitBreaker.getCurrentTimestamp() - inicio, circuitBreaker.getTimestampUnit());
+            return resultado;
+        } catch (Throwable ex) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - inicio, circuitBreaker.getTimestampUnit(), ex);
+            throw traduzir(ex);
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private static Throwable traduzir(Throwable ex) {
+        if (ex instanceof QueryTimeoutException
+                || ex instanceof PessimisticLockingFailureException
+                || ex instanceof TransactionTimedOutException
+                || ex instanceof CannotCreateTransactionException) {
+            return new TimeoutServicoException("Tempo limite excedido ao acessar os dados. Tente novamente.", ex);
+        }
+        return ex;
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.dto.ResilienciaEstatisticaResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ResilienciaDiagnosticoService {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public ResilienciaDiagnosticoService(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry
+    ) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    public List<ResilienciaEstatisticaResponse> estatisticas() {
+        return circuitBreakerRegistry.getAllCircuitBreakers().stream()
+                .sorted(Comparator.comparing(CircuitBreaker::getName))
+                .map(this::estatistica)
+                .toList();
+    }
+
+    private ResilienciaEstatisticaResponse estatistica(CircuitBreaker circuitBreaker) {
+        CircuitBreaker.Metrics metricas = circuitBreaker.getMetrics();
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(circuitBreaker.getName(), circuitBreaker.getName());
+        return new ResilienciaEstatisticaResponse(
+                circuitBreaker.getName(),
+                circuitBreaker.getState().name(),
+                metricas.getFailureRate(),
+                metricas.getSlowCallRate(),
+                metricas.getNumberOfNotPermittedCalls(),
+                bulkhead.getMetrics().getAvailableConcurrentCalls(),
+                bulkhead.getMetrics().getMaxAllowedConcurrentCalls()
+        );
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.exception.ConflitoConcorrenciaException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class RetentativaOtimistaAspect {
+
+    private final int maxTentativas;
+    private final long esperaInicialNanos;
+    private final long esperaMaximaNanos;
+    private final MeterRegistry meterRegistry;
+
+    public RetentativaOtimistaAspect(
+            MeterRegistry meterRegistry,
+            @Value("${rh.conflito.max-tentativas:5}") int maxTentativas,
+            @Value("${rh.conflito.espera-inicial:5ms}") Duration esperaInicial,
+            @Value("${rh.conflito.espera-maxima:200ms}") Duration esperaMaxima
+    ) {
+        if (maxTentativas < 1) {
+            throw new IllegalArgumentException("rh.conflito.max-tentativas deve ser positivo.");
+        }
+        this.meterRegistry = meterRegistry;
+        this.maxTentativas = maxTentativas;
+        this.esperaInicialNanos = esperaInicial.toNanos();
+        this.esperaMaximaNanos = Math.max(esperaMaxima.toNanos(), esperaInicialNanos);
+    }
+
+    @Around("@annotation(br.com.faculdade.tp3.service.RetentativaOtimista)")
+    public Object repetir(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Dentro de uma transação maior o conflito só se resolve reexecutando a transação externa.
+            return joinPoint.proceed();
+        }
+
+        String operacao = joinPoint.getSignature().getName();
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException ex) {
+                if (tentativa >= maxTentativas) {
+                    contador("rh.conflitos.esgotados", "Operações abandonadas após esgotar as retentativas", operacao)
+                            .increment();
+                    throw new ConflitoConcorrenciaException(
+                            "Registro alterado simultaneamente por outra operação. Tente novamente.", ex);
+                }
+                contador("rh.conflitos.retentativas", "Reexecuções por conflito de versão", operacao).increment();
+                aguardar(tentativa);
+            }
+        }
+    }
+
+    private void aguardar(int tentativa) throws InterruptedException {
+        long teto = esperaInicialNanos << Math.min(tentativa - 1, 20);
+        if (teto <= 0 || teto > esperaMaximaNanos) {
+            teto = esperaMaximaNanos;
+        }
+        long espera = ThreadLocalRandom.current().nextLong(teto + 1);
+        if (espera > 0) {
+            TimeUnit.NANOSECONDS.sleep(espera);
+        }
+    }
+
+    private Counter contador(String nome, String descricao, String operacao) {
+        return Counter.builder(nome)
+                .description(descricao)
+                .tag("operacao", operacao)
+                .register(meterRegistry);
+    }
+}
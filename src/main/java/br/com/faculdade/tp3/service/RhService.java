@@ -1,111 +1,165 @@
 package br.com.faculdade.tp3.service;
 
+import br.com.faculdade.tp3.config.CacheConfig;
+import br.com.faculdade.tp3.config.ResilienciaConfig;
+import br.com.faculdade.tp3.dto.PaginaResponse;
 import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
 import br.com.faculdade.tp3.dto.rh.DemissaoPayload;
 import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResponse;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
+import br.com.faculdade.tp3.dto.rh.ItemContratacaoLote;
 import br.com.faculdade.tp3.dto.rh.PromocaoPayload;
+import br.com.faculdade.tp3.dto.rh.ResultadoContratacaoLote;
 import br.com.faculdade.tp3.exception.EntradaInvalidaException;
 import br.com.faculdade.tp3.exception.RecursoDuplicadoException;
 import br.com.faculdade.tp3.exception.RecursoNaoEncontradoException;
+import br.com.faculdade.tp3.model.ChaveFuncionario;
 import br.com.faculdade.tp3.model.Departamento;
 import br.com.faculdade.tp3.model.Funcionario;
 import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.ReajusteSalarial;
 import br.com.faculdade.tp3.model.Salario;
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
 import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.model.enums.StatusReajuste;
 import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
 import br.com.faculdade.tp3.repository.DepartamentoRepository;
 import br.com.faculdade.tp3.repository.FuncionarioRepository;
 import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.repository.ReajusteSalarialRepository;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class RhService {
 
-    private static final Pattern CONTROL_PATTERN = Pattern.compile(".*[\\p{Cntrl}&&[^\\r\\n\\t]].*");
-    private static final Pattern HUMAN_TEXT_PATTERN = Pattern.compile("^[\\p{L}0-9 .,'-]+$");
-    private static final Pattern MALICIOUS_PATTERN = Pattern.compile(
-            ".*(<|>|\\{|\\}|\\$\\{|--|;|/\\*|\\*/|\\bselect\\b|\\binsert\\b|\\bdelete\\b|\\bdrop\\b).*",
-            Pattern.CASE_INSENSITIVE
-    );
+    private static final int TAMANHO_PAGINA_PADRAO = 50;
+    private static final int TAMANHO_PAGINA_MAXIMO = 200;
+    private static final int TAMANHO_LOTE_MAXIMO = 5000;
+    private static final int TAMANHO_BLOCO_LOTE = 500;
 
     private final FuncionarioRepository funcionarioRepository;
     private final DepartamentoRepository departamentoRepository;
     private final MovimentacaoRhRepository movimentacaoRhRepository;
+    private final ReajusteSalarialRepository reajusteSalarialRepository;
+    private final FuncionarioSearchIndex funcionarioSearchIndex;
+    private final InputSanitizer inputSanitizer;
+    private final OutboxService outboxService;
+    private final HistoricoSalarialService historicoSalarialService;
+    private final JournalMovimentacoes journalMovimentacoes;
+    private final ConsistenciaLeitura consistenciaLeitura;
+    private final CacheFuncionarios cacheFuncionarios;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     public RhService(
             FuncionarioRepository funcionarioRepository,
             DepartamentoRepository departamentoRepository,
-            MovimentacaoRhRepository movimentacaoRhRepository
+            MovimentacaoRhRepository movimentacaoRhRepository,
+            ReajusteSalarialRepository reajusteSalarialRepository,
+            FuncionarioSearchIndex funcionarioSearchIndex,
+            InputSanitizer inputSanitizer,
+            OutboxService outboxService,
+            HistoricoSalarialService historicoSalarialService,
+            JournalMovimentacoes journalMovimentacoes,
+            ConsistenciaLeitura consistenciaLeitura,
+            CacheFuncionarios cacheFuncionarios,
+            ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager
     ) {
         this.funcionarioRepository = funcionarioRepository;
         this.departamentoRepository = departamentoRepository;
         this.movimentacaoRhRepository = movimentacaoRhRepository;
+        this.reajusteSalarialRepository = reajusteSalarialRepository;
+        this.funcionarioSearchIndex = funcionarioSearchIndex;
+        this.inputSanitizer = inputSanitizer;
+        this.outboxService = outboxService;
+        this.historicoSalarialService = historicoSalarialService;
+        this.journalMovimentacoes = journalMovimentacoes;
+        this.consistenciaLeitura = consistenciaLeitura;
+        this.cacheFuncionarios = cacheFuncionarios;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
     @Transactional(readOnly = true)
-    public List<Funcionario> listarFuncionarios(String nome, Boolean somenteAtivos) {
+    @Resiliente(ResilienciaConfig.LEITURA)
+    public PaginaResponse<FuncionarioResumo> listarFuncionarios(
+            String nome,
+            Boolean somenteAtivos,
+            String cursor,
+            Integer tamanho
+    ) {
         FuncionarioStatus status = resolverStatus(somenteAtivos);
+        int tamanhoPagina = validarTamanhoPagina(tamanho);
+        CursorFuncionario posicao = CursorFuncionario.decodificar(cursor);
 
         if (nome == null || nome.isBlank()) {
-            if (status == null) {
-                return funcionarioRepository.findAllByOrderByNomeAsc();
-            }
-            return funcionarioRepository.findByStatusOrderByNomeAsc(status);
+            Limit limite = Limit.of(tamanhoPagina + 1);
+            List<FuncionarioResumo> resultado = status == null
+                    ? funcionarioRepository.buscarPaginaApos(posicao.nome(), posicao.id(), limite)
+                    : funcionarioRepository.buscarPaginaPorStatusApos(status, posicao.nome(), posicao.id(), limite);
+            return paginar(resultado, tamanhoPagina);
         }
 
-        String termo = sanitizarTextoHumano(nome, "Filtro de nome", false, 1, 120);
-        if (status == null) {
-            return funcionarioRepository.findByNomeContainingIgnoreCaseOrderByNomeAsc(termo);
-        }
-        return funcionarioRepository.findByNomeContainingIgnoreCaseAndStatusOrderByNomeAsc(termo, status);
+        String termo = inputSanitizer.sanitizarTextoHumano(nome, "Filtro de nome", false, 1, 120);
+        return buscarPorNome(termo, status, posicao, tamanhoPagina);
     }
 
     @Transactional(readOnly = true)
+    @Resiliente(ResilienciaConfig.LEITURA)
     public Funcionario buscarFuncionario(Long id) {
         validarId(id);
         return funcionarioRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Funcionário não encontrado."));
     }
 
-    @Transactional(readOnly = true)
+    @Resiliente(ResilienciaConfig.LEITURA)
+    public FuncionarioResponse detalharFuncionario(Long id) {
+        validarId(id);
+        return cacheFuncionarios.buscar(id);
+    }
+
+    @Resiliente(ResilienciaConfig.LEITURA)
     public List<MovimentacaoRh> listarMovimentacoes(Long funcionarioId) {
         validarId(funcionarioId);
+        if (journalMovimentacoes.disponivel()) {
+            return journalMovimentacoes.listar(funcionarioId);
+        }
         return movimentacaoRhRepository.findByFuncionarioIdOrderByMovimentadoEmDesc(funcionarioId);
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(CacheConfig.DEPARTAMENTOS)
     public List<Departamento> listarDepartamentos() {
         return departamentoRepository.findAllByOrderByNomeAsc();
     }
 
     @Transactional
+    @Resiliente(ResilienciaConfig.ESCRITA)
     public Funcionario contratar(FuncionarioPayload payload) {
         EntradaFuncionario entrada = normalizarFuncionario(payload, null, true);
         validarChavesUnicas(entrada.email(), entrada.cpf(), null);
         Departamento departamento = buscarDepartamento(entrada.departamentoId());
 
-        Funcionario funcionario = new Funcionario();
-        funcionario.setNome(entrada.nome());
-        funcionario.setEmail(entrada.email());
-        funcionario.setCpf(entrada.cpf());
-        funcionario.setCargo(entrada.cargo());
-        funcionario.setDepartamento(departamento);
-        funcionario.setStatus(FuncionarioStatus.ATIVO);
-        funcionario.setDataAdmissao(LocalDate.now());
-
-        Salario salario = new Salario();
-        salario.setValorAtual(entrada.salario());
-        funcionario.definirSalario(salario);
-
-        Funcionario salvo = salvarComTratamento(funcionario);
+        Funcionario salvo = salvarComTratamento(novoFuncionario(entrada, departamento));
         registrarMovimentacao(
                 salvo,
                 TipoMovimentacaoRh.CONTRATACAO,
@@ -113,16 +167,62 @@ public class RhService {
                 null,
                 entrada.salario()
         );
+        eventPublisher.publishEvent(FuncionarioAlteradoEvent.contratado(SituacaoFuncionario.de(salvo)));
         return salvo;
     }
 
     @Transactional
+    public ResultadoContratacaoLote contratarEmLote(List<FuncionarioPayload> payloads) {
+        if (payloads == null || payloads.isEmpty()) {
+            throw new EntradaInvalidaException("Informe ao menos um funcionário para contratação em lote.");
+        }
+        if (payloads.size() > TAMANHO_LOTE_MAXIMO) {
+            throw new EntradaInvalidaException("Lote deve ter no máximo " + TAMANHO_LOTE_MAXIMO + " funcionários.");
+        }
+
+        ItemContratacaoLote[] itens = new ItemContratacaoLote[payloads.size()];
+        Map<Integer, EntradaFuncionario> validas = new LinkedHashMap<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> cpfs = new HashSet<>();
+        Set<Long> departamentoIds = new HashSet<>();
+
+        for (int i = 0; i < payloads.size(); i++) {
+            try {
+                EntradaFuncionario entrada = normalizarFuncionario(payloads.get(i), null, true);
+                validarId(entrada.departamentoId());
+                if (emails.contains(entrada.email())) {
+                    itens[i] = ItemContratacaoLote.rejeitado(i, "Email repetido no lote.");
+                } else if (cpfs.contains(entrada.cpf())) {
+                    itens[i] = ItemContratacaoLote.rejeitado(i, "CPF repetido no lote.");
+                } else {
+                    emails.add(entrada.email());
+                    cpfs.add(entrada.cpf());
+                    departamentoIds.add(entrada.departamentoId());
+                    validas.put(i, entrada);
+                }
+            } catch (EntradaInvalidaException ex) {
+                itens[i] = ItemContratacaoLote.rejeitado(i, ex.getMessage());
+            }
+        }
+
+        if (!validas.isEmpty()) {
+            persistirLote(validas, emails, cpfs, departamentoIds, itens);
+        }
+
+        int contratados = (int) Arrays.stream(itens).filter(ItemContratacaoLote::contratado).count();
+        return new ResultadoContratacaoLote(itens.length, contratados, itens.length - contratados, List.of(itens));
+    }
+
+    @Transactional
+    @Resiliente(ResilienciaConfig.ESCRITA)
+    @RetentativaOtimista
     public Funcionario atualizarCadastro(Long id, FuncionarioPayload payload) {
         validarId(id);
         EntradaFuncionario entrada = normalizarFuncionario(payload, id, false);
 
         Funcionario funcionario = buscarFuncionario(id);
         validarChavesUnicas(entrada.email(), entrada.cpf(), id);
+        SituacaoFuncionario anterior = SituacaoFuncionario.de(funcionario);
 
         funcionario.setNome(entrada.nome());
         funcionario.setEmail(entrada.email());
@@ -138,10 +238,13 @@ public class RhService {
                 salvo.getSalario().getValorAtual(),
                 salvo.getSalario().getValorAtual()
         );
+        publicarAlteracao(anterior, salvo);
         return salvo;
     }
 
     @Transactional
+    @Resiliente(ResilienciaConfig.ESCRITA)
+    @RetentativaOtimista
     public Funcionario aumentarSalario(Long id, AjusteSalarialPayload payload) {
         validarId(id);
         if (payload == null) {
@@ -149,12 +252,13 @@ public class RhService {
         }
 
         BigDecimal percentual = validarPercentual(payload.getPercentual(), "Percentual de aumento");
-        String motivo = sanitizarTexto(payload.getMotivo(), "Motivo", true, 5, 255);
+        String motivo = inputSanitizer.sanitizarTexto(payload.getMotivo(), "Motivo", true, 5, 255);
 
         Funcionario funcionario = buscarFuncionario(id);
         validarFuncionarioAtivo(funcionario);
+        SituacaoFuncionario anterior = SituacaoFuncionario.de(funcionario);
 
-        BigDecimal salarioAnterior = funcionario.getSalario().getValorAtual();
+        BigDecimal salarioAnterior = salarioVigente(funcionario);
         BigDecimal fator = percentual.divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
         BigDecimal salarioNovo = salarioAnterior
                 .multiply(BigDecimal.ONE.add(fator))
@@ -170,24 +274,28 @@ public class RhService {
                 salarioAnterior,
                 salarioNovo
         );
+        publicarAlteracao(anterior, salvo);
         return salvo;
     }
 
     @Transactional
+    @Resiliente(ResilienciaConfig.ESCRITA)
+    @RetentativaOtimista
     public Funcionario promover(Long id, PromocaoPayload payload) {
         validarId(id);
         if (payload == null) {
             throw new EntradaInvalidaException("Dados de promoção são obrigatórios.");
         }
 
-        String novoCargo = sanitizarTextoHumano(payload.getNovoCargo(), "Novo cargo", true, 2, 100);
-        String motivo = sanitizarTexto(payload.getMotivo(), "Motivo", true, 5, 255);
+        String novoCargo = inputSanitizer.sanitizarTextoHumano(payload.getNovoCargo(), "Novo cargo", true, 2, 100);
+        String motivo = inputSanitizer.sanitizarTexto(payload.getMotivo(), "Motivo", true, 5, 255);
         BigDecimal percentual = validarPercentual(payload.getPercentualAumento(), "Percentual da promoção");
 
         Funcionario funcionario = buscarFuncionario(id);
         validarFuncionarioAtivo(funcionario);
+        SituacaoFuncionario anterior = SituacaoFuncionario.de(funcionario);
 
-        BigDecimal salarioAnterior = funcionario.getSalario().getValorAtual();
+        BigDecimal salarioAnterior = salarioVigente(funcionario);
         BigDecimal fator = percentual.divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
         BigDecimal salarioNovo = salarioAnterior
                 .multiply(BigDecimal.ONE.add(fator))
@@ -204,22 +312,26 @@ public class RhService {
                 salarioAnterior,
                 salarioNovo
         );
+        publicarAlteracao(anterior, salvo);
         return salvo;
     }
 
     @Transactional
+    @Resiliente(ResilienciaConfig.ESCRITA)
+    @RetentativaOtimista
     public Funcionario demitir(Long id, DemissaoPayload payload) {
         validarId(id);
         if (payload == null) {
             throw new EntradaInvalidaException("Dados de demissão são obrigatórios.");
         }
 
-        String motivo = sanitizarTexto(payload.getMotivo(), "Motivo da demissão", true, 5, 255);
+        String motivo = inputSanitizer.sanitizarTexto(payload.getMotivo(), "Motivo da demissão", true, 5, 255);
 
         Funcionario funcionario = buscarFuncionario(id);
         if (funcionario.getStatus() == FuncionarioStatus.INATIVO) {
             throw new EntradaInvalidaException("Funcionário já está inativo.");
         }
+        SituacaoFuncionario anterior = SituacaoFuncionario.de(funcionario);
 
         funcionario.setStatus(FuncionarioStatus.INATIVO);
         funcionario.setDataDemissao(LocalDate.now());
@@ -233,18 +345,209 @@ public class RhService {
                 salarioAtual,
                 salarioAtual
         );
+        publicarAlteracao(anterior, salvo);
+        return salvo;
+    }
+
+    @Transactional
+    public ReajusteSalarial iniciarReajuste(Long departamentoId, AjusteSalarialPayload payload) {
+        validarId(departamentoId);
+        if (payload == null) {
+            throw new EntradaInvalidaException("Dados de reajuste são obrigatórios.");
+        }
+
+        BigDecimal percentual = validarPercentual(payload.getPercentual(), "Percentual de reajuste");
+        String motivo = inputSanitizer.sanitizarTexto(payload.getMotivo(), "Motivo", true, 5, 200);
+        Departamento departamento = buscarDepartamento(departamentoId);
+
+        if (reajusteSalarialRepository.existsByDepartamentoIdAndStatus(departamentoId, StatusReajuste.EM_ANDAMENTO)) {
+            throw new RecursoDuplicadoException("Já existe reajuste em andamento para o departamento.");
+        }
+
+        ReajusteSalarial reajuste = new ReajusteSalarial();
+        reajuste.setDepartamento(departamento);
+        reajuste.setPercentual(percentual);
+        reajuste.setMotivo(motivo);
+        reajuste.setStatus(StatusReajuste.EM_ANDAMENTO);
+        reajuste.setTotalFuncionarios(
+                funcionarioRepository.countByDepartamentoIdAndStatus(departamentoId, FuncionarioStatus.ATIVO));
+        reajuste.setLimiteFuncionarioId(funcionarioRepository.buscarMaiorId());
+
+        ReajusteSalarial salvo = reajusteSalarialRepository.save(reajuste);
+        eventPublisher.publishEvent(new ReajusteSolicitadoEvent(salvo.getId()));
         return salvo;
     }
 
+    @Transactional(readOnly = true)
+    public ReajusteSalarial buscarReajuste(Long id) {
+        validarId(id);
+        return reajusteSalarialRepository.findById(id)
+                .orElseThrow(() -> new RecursoNaoEncontradoException("Reajuste não encontrado."));
+    }
+
     @Transactional
+    public ReajusteSalarial retomarReajuste(Long id) {
+        ReajusteSalarial reajuste = buscarReajuste(id);
+        if (reajuste.getStatus() == StatusReajuste.CONCLUIDO) {
+            throw new EntradaInvalidaException("Reajuste já foi concluído.");
+        }
+
+        reajuste.retomar();
+        eventPublisher.publishEvent(new ReajusteSolicitadoEvent(reajuste.getId()));
+        return reajuste;
+    }
+
+    @Transactional
+    @Resiliente(ResilienciaConfig.ESCRITA)
+    @RetentativaOtimista
     public void excluirDefinitivamente(Long id) {
         Funcionario funcionario = buscarFuncionario(id);
         movimentacaoRhRepository.deleteByFuncionarioId(id);
+        historicoSalarialService.descartar(id);
+        journalMovimentacoes.descartar(id);
         funcionarioRepository.delete(funcionario);
+        eventPublisher.publishEvent(FuncionarioAlteradoEvent.excluido(SituacaoFuncionario.de(funcionario)));
+    }
+
+    private PaginaResponse<FuncionarioResumo> paginar(List<FuncionarioResumo> resultado, int tamanhoPagina) {
+        if (resultado.size() <= tamanhoPagina) {
+            return new PaginaResponse<>(resultado, null);
+        }
+
+        List<FuncionarioResumo> itens = resultado.subList(0, tamanhoPagina);
+        FuncionarioResumo ultimo = itens.get(itens.size() - 1);
+        return new PaginaResponse<>(itens, new CursorFuncionario(ultimo.nome(), ultimo.id()).codificar());
+    }
+
+    private PaginaResponse<FuncionarioResumo> buscarPorNome(
+            String termo,
+            FuncionarioStatus status,
+            CursorFuncionario posicao,
+            int tamanhoPagina
+    ) {
+        List<FuncionarioSearchIndex.Candidato> candidatos =
+                funcionarioSearchIndex.buscar(termo, status, posicao.candidato(), tamanhoPagina + 1);
+        if (candidatos.isEmpty()) {
+            return new PaginaResponse<>(List.of(), null);
+        }
+
+        List<Long> ids = candidatos.stream().map(FuncionarioSearchIndex.Candidato::id).toList();
+        Map<Long, FuncionarioResumo> porId = new HashMap<>();
+        for (FuncionarioResumo resumo : consistenciaLeitura.lerAtualizado(
+                () -> funcionarioRepository.buscarResumosPorIds(ids))) {
+            porId.put(resumo.id(), resumo);
+        }
+
+        List<FuncionarioResumo> itens = new ArrayList<>(tamanhoPagina);
+        for (int i = 0; i < candidatos.size() && i < tamanhoPagina; i++) {
+            FuncionarioResumo resumo = porId.get(candidatos.get(i).id());
+            if (resumo == null) {
+                funcionarioSearchIndex.remover(candidatos.get(i).id());
+            } else {
+                itens.add(resumo);
+            }
+        }
+
+        String proximo = candidatos.size() > tamanhoPagina
+                ? candidatos.get(tamanhoPagina - 1).cursor().codificar()
+                : null;
+        return new PaginaResponse<>(itens, proximo);
+    }
+
+    private void persistirLote(
+            Map<Integer, EntradaFuncionario> validas,
+            Set<String> emails,
+            Set<String> cpfs,
+            Set<Long> departamentoIds,
+            ItemContratacaoLote[] itens
+    ) {
+        Set<String> emailsExistentes = new HashSet<>();
+        Set<String> cpfsExistentes = new HashSet<>();
+        for (ChaveFuncionario chave : funcionarioRepository.buscarChavesExistentes(emails, cpfs)) {
+            emailsExistentes.add(chave.email());
+            cpfsExistentes.add(chave.cpf());
+        }
+
+        Map<Long, Departamento> departamentos = new HashMap<>();
+        departamentoRepository.findAllById(departamentoIds)
+                .forEach(departamento -> departamentos.put(departamento.getId(), departamento));
+
+        Map<Integer, Funcionario> bloco = new LinkedHashMap<>();
+        for (Map.Entry<Integer, EntradaFuncionario> item : validas.entrySet()) {
+            int indice = item.getKey();
+            EntradaFuncionario entrada = item.getValue();
+            Departamento departamento = departamentos.get(entrada.departamentoId());
+
+            if (emailsExistentes.contains(entrada.email())) {
+                itens[indice] = ItemContratacaoLote.rejeitado(indice, "Já existe funcionário com o email informado.");
+            } else if (cpfsExistentes.contains(entrada.cpf())) {
+                itens[indice] = ItemContratacaoLote.rejeitado(indice, "Já existe funcionário com o CPF informado.");
+            } else if (departamento == null) {
+                itens[indice] = ItemContratacaoLote.rejeitado(indice, "Departamento não encontrado.");
+            } else {
+                bloco.put(indice, novoFuncionario(entrada, departamento));
+            }
+
+            if (bloco.size() == TAMANHO_BLOCO_LOTE) {
+                gravarBloco(bloco, itens);
+                bloco.clear();
+            }
+        }
+
+        if (!bloco.isEmpty()) {
+            gravarBloco(bloco, itens);
+        }
+    }
+
+    private void gravarBloco(Map<Integer, Funcionario> bloco, ItemContratacaoLote[] itens) {
+        List<MovimentacaoRh> movimentacoes = new ArrayList<>(bloco.size());
+        for (Funcionario funcionario : bloco.values()) {
+            movimentacoes.add(novaMovimentacao(
+                    funcionario,
+                    TipoMovimentacaoRh.CONTRATACAO,
+                    "Contratação realizada",
+                    null,
+                    funcionario.getSalario().getValorAtual()
+            ));
+        }
+
+        try {
+            funcionarioRepository.saveAll(bloco.values());
+            movimentacaoRhRepository.saveAll(movimentacoes);
+            outboxService.registrar(movimentacoes);
+            historicoSalarialService.registrar(movimentacoes);
+            journalMovimentacoes.registrar(movimentacoes);
+            funcionarioRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw new RecursoDuplicadoException("Violação de integridade de dados na contratação em lote.");
+        }
+
+        for (Map.Entry<Integer, Funcionario> item : bloco.entrySet()) {
+            Funcionario salvo = item.getValue();
+            itens[item.getKey()] = ItemContratacaoLote.contratado(item.getKey(), salvo.getId());
+            eventPublisher.publishEvent(FuncionarioAlteradoEvent.contratado(SituacaoFuncionario.de(salvo)));
+        }
+        entityManager.clear();
+    }
+
+    private Funcionario novoFuncionario(EntradaFuncionario entrada, Departamento departamento) {
+        Funcionario funcionario = new Funcionario();
+        funcionario.setNome(entrada.nome());
+        funcionario.setEmail(entrada.email());
+        funcionario.setCpf(entrada.cpf());
+        funcionario.setCargo(entrada.cargo());
+        funcionario.setDepartamento(departamento);
+        funcionario.setStatus(FuncionarioStatus.ATIVO);
+        funcionario.setDataAdmissao(LocalDate.now());
+
+        Salario salario = new Salario();
+        salario.setValorAtual(entrada.salario());
+        funcionario.definirSalario(salario);
+        return funcionario;
     }
 
     private void validarChavesUnicas(String email, String cpf, Long idAtual) {
-        funcionarioRepository.findByEmailIgnoreCase(email).ifPresent(existente -> {
+        funcionarioRepository.findByEmail(email).ifPresent(existente -> {
             if (!existente.getId().equals(idAtual)) {
                 throw new RecursoDuplicadoException("Já existe funcionário com o email informado.");
             }
@@ -271,12 +574,31 @@ public class RhService {
         }
     }
 
+    private void publicarAlteracao(SituacaoFuncionario anterior, Funcionario atual) {
+        eventPublisher.publishEvent(new FuncionarioAlteradoEvent(atual.getId(), anterior, SituacaoFuncionario.de(atual)));
+    }
+
     private void registrarMovimentacao(
             Funcionario funcionario,
             TipoMovimentacaoRh tipo,
             String descricao,
             BigDecimal salarioAnterior,
             BigDecimal salarioNovo
+    ) {
+        MovimentacaoRh movimentacao = novaMovimentacao(funcionario, tipo, descricao, salarioAnterior, salarioNovo);
+        movimentacaoRhRepository.save(movimentacao);
+        List<MovimentacaoRh> registradas = List.of(movimentacao);
+        outboxService.registrar(registradas);
+        historicoSalarialService.registrar(registradas);
+        journalMovimentacoes.registrar(registradas);
+    }
+
+    private MovimentacaoRh novaMovimentacao(
+            Funcionario funcionario,
+            TipoMovimentacaoRh tipo,
+            String descricao,
+            BigDecimal salarioAnterior,
+            BigDecimal salarioNovo
     ) {
         MovimentacaoRh movimentacao = new MovimentacaoRh();
         movimentacao.setFuncionario(funcionario);
@@ -284,7 +606,18 @@ public class RhService {
         movimentacao.setDescricao(descricao);
         movimentacao.setSalarioAnterior(salarioAnterior);
         movimentacao.setSalarioNovo(salarioNovo);
-        movimentacaoRhRepository.save(movimentacao);
+        movimentacao.setCargo(funcionario.getCargo());
+        return movimentacao;
+    }
+
+    private BigDecimal salarioVigente(Funcionario funcionario) {
+        if (historicoSalarialService.fonteEventos()) {
+            BigDecimal salario = historicoSalarialService.reconstruir(funcionario.getId()).salario();
+            if (salario != null) {
+                return salario;
+            }
+        }
+        return funcionario.getSalario().getValorAtual();
     }
 
     private FuncionarioStatus resolverStatus(Boolean somenteAtivos) {
@@ -294,6 +627,16 @@ public class RhService {
         return somenteAtivos ? FuncionarioStatus.ATIVO : FuncionarioStatus.INATIVO;
     }
 
+    private int validarTamanhoPagina(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_PAGINA_MAXIMO) {
+            throw new EntradaInvalidaException("Tamanho da página deve estar entre 1 e " + TAMANHO_PAGINA_MAXIMO + ".");
+        }
+        return tamanho;
+    }
+
     private void validarFuncionarioAtivo(Funcionario funcionario) {
         if (funcionario.getStatus() != FuncionarioStatus.ATIVO) {
             throw new EntradaInvalidaException("Operação permitida apenas para funcionários ativos.");
@@ -315,10 +658,10 @@ public class RhService {
             throw new EntradaInvalidaException("ID do corpo não confere com o ID da rota.");
         }
 
-        String nome = sanitizarTextoHumano(payload.getNome(), "Nome", true, 3, 120);
-        String email = sanitizarEmail(payload.getEmail());
-        String cpf = sanitizarCpf(payload.getCpf());
-        String cargo = sanitizarTextoHumano(payload.getCargo(), "Cargo", true, 2, 100);
+        String nome = inputSanitizer.sanitizarTextoHumano(payload.getNome(), "Nome", true, 3, 120);
+        String email = inputSanitizer.sanitizarEmail(payload.getEmail());
+        String cpf = inputSanitizer.sanitizarCpf(payload.getCpf());
+        String cargo = inputSanitizer.sanitizarTextoHumano(payload.getCargo(), "Cargo", true, 2, 100);
         Long departamentoId = payload.getDepartamentoId();
         if (departamentoId == null) {
             throw new EntradaInvalidaException("Departamento é obrigatório.");
@@ -332,58 +675,6 @@ public class RhService {
         return new EntradaFuncionario(nome, email, cpf, cargo, departamentoId, salario);
     }
 
-    private String sanitizarTexto(String valor, String campo, boolean obrigatorio, int min, int max) {
-        if (valor == null) {
-            if (obrigatorio) {
-                throw new EntradaInvalidaException(campo + " é obrigatório.");
-            }
-            return "";
-        }
-
-        String normalizado = valor.trim();
-        if (obrigatorio && normalizado.isEmpty()) {
-            throw new EntradaInvalidaException(campo + " é obrigatório.");
-        }
-
-        if (!normalizado.isEmpty() && (normalizado.length() < min || normalizado.length() > max)) {
-            throw new EntradaInvalidaException(campo + " deve ter entre " + min + " e " + max + " caracteres.");
-        }
-
-        if (CONTROL_PATTERN.matcher(normalizado).matches()) {
-            throw new EntradaInvalidaException(campo + " contém caracteres inválidos.");
-        }
-
-        if (MALICIOUS_PATTERN.matcher(normalizado).matches()) {
-            throw new EntradaInvalidaException(campo + " contém conteúdo potencialmente malicioso.");
-        }
-
-        return normalizado;
-    }
-
-    private String sanitizarTextoHumano(String valor, String campo, boolean obrigatorio, int min, int max) {
-        String normalizado = sanitizarTexto(valor, campo, obrigatorio, min, max);
-        if (!normalizado.isEmpty() && !HUMAN_TEXT_PATTERN.matcher(normalizado).matches()) {
-            throw new EntradaInvalidaException(campo + " contém caracteres não permitidos.");
-        }
-        return normalizado;
-    }
-
-    private String sanitizarEmail(String email) {
-        String normalizado = sanitizarTexto(email, "Email", true, 5, 160).toLowerCase(Locale.ROOT);
-        if (!normalizado.contains("@") || normalizado.startsWith("@") || normalizado.endsWith("@")) {
-            throw new EntradaInvalidaException("Email inválido.");
-        }
-        return normalizado;
-    }
-
-    private String sanitizarCpf(String cpf) {
-        String normalizado = sanitizarTexto(cpf, "CPF", true, 11, 11);
-        if (!normalizado.matches("^[0-9]{11}$")) {
-            throw new EntradaInvalidaException("CPF deve conter exatamente 11 dígitos.");
-        }
-        return normalizado;
-    }
-
     private BigDecimal sanitizarSalario(BigDecimal salario, String campo) {
         if (salario == null) {
             throw new EntradaInvalidaException(campo + " é obrigatório.");
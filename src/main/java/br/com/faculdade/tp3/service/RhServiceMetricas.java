@@ -0,0 +1,52 @@
+package br.com.faculdade.tp3.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 4)
+public class RhServiceMetricas {
+
+    static final String TEMPO_OPERACAO = "rh.operacao";
+    static final String EXECUCOES_OPERACAO = "rh.operacao.execucoes";
+    static final String SUCESSO = "sucesso";
+
+    private final MeterRegistry meterRegistry;
+
+    public RhServiceMetricas(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * br.com.faculdade.tp3.service.RhService.*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operacao = joinPoint.getSignature().getName();
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        String resultado = SUCESSO;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            resultado = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            amostra.stop(Timer.builder(TEMPO_OPERACAO)
+                    .description("Latência das operações de RH")
+                    .tag("operacao", operacao)
+                    .tag("resultado", resultado)
+                    .register(meterRegistry));
+            Counter.builder(EXECUCOES_OPERACAO)
+                    .description("Execuções das operações de RH por resultado")
+                    .tag("operacao", operacao)
+                    .tag("resultado", resultado)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
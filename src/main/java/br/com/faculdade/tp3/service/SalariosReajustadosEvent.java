@@ -0,0 +1,11 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.model.SalarioVigente;
+import java.util.List;
+
+public record SalariosReajustadosEvent(
+        Long departamentoId,
+        List<SalarioVigente> anteriores,
+        List<SalarioVigente> salarios
+) {
+}
@@ -0,0 +1,189 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.config.ResilienciaConfig;
+import br.com.faculdade.tp3.dto.rh.RegraSimulacaoPayload;
+import br.com.faculdade.tp3.dto.rh.SimulacaoFolhaPayload;
+import br.com.faculdade.tp3.dto.rh.SimulacaoFolhaResponse;
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import br.com.faculdade.tp3.model.SalarioVigente;
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class SimulacaoFolhaService {
+
+    private static final BigDecimal PERCENTUAL_MAXIMO = BigDecimal.valueOf(300);
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final DepartamentoRepository departamentoRepository;
+    private final ConsistenciaLeitura consistenciaLeitura;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer carregamentos;
+    private final Map<Long, Lotacao> ativos = new HashMap<>();
+    private volatile FolhaSalarial folha;
+    private FolhaSalarial.Alteracao pendente;
+    private volatile boolean alterada;
+
+    public SimulacaoFolhaService(
+            FuncionarioRepository funcionarioRepository,
+            DepartamentoRepository departamentoRepository,
+            ConsistenciaLeitura consistenciaLeitura,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.departamentoRepository = departamentoRepository;
+        this.consistenciaLeitura = consistenciaLeitura;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.carregamentos = Timer.builder("rh.simulacao.carregamento")
+                .description("Tempo para carregar a folha ativa em memória para simulações")
+                .register(meterRegistry);
+    }
+
+    @Resiliente(ResilienciaConfig.LEITURA)
+    public SimulacaoFolhaResponse simular(SimulacaoFolhaPayload payload) {
+        if (payload == null) {
+            throw new EntradaInvalidaException("Dados da simulação são obrigatórios.");
+        }
+
+        BigDecimal percentualDemais = payload.getPercentualDemais() == null
+                ? BigDecimal.ZERO.setScale(2)
+                : validarPercentual(payload.getPercentualDemais());
+        Map<Long, BigDecimal> percentuais = new LinkedHashMap<>();
+        if (payload.getRegras() != null) {
+            for (RegraSimulacaoPayload regra : payload.getRegras()) {
+                if (regra == null || regra.getDepartamentoId() == null || regra.getDepartamentoId() <= 0) {
+                    throw new EntradaInvalidaException("Toda regra da simulação precisa de um departamento válido.");
+                }
+                if (percentuais.put(regra.getDepartamentoId(), validarPercentual(regra.getPercentual())) != null) {
+                    throw new EntradaInvalidaException(
+                            "Departamento " + regra.getDepartamentoId() + " aparece em mais de uma regra.");
+                }
+            }
+        }
+
+        return folhaAtual().simular(percentuais, percentualDemais);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public synchronized void reconstruir() {
+        folha = carregamentos.record(() -> carregar(consistenciaLeitura.versaoPrimario()));
+        pendente = folha.alterar();
+        alterada = false;
+    }
+
+    // Cada commit só enfileira a saída e a entrada do salário no departamento; a próxima simulação funde as
+    // alterações nas fatias tocadas, sem voltar à tabela.
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoAlterarFuncionario(FuncionarioAlteradoEvent evento) {
+        mover(evento.funcionarioId(), Lotacao.de(evento.atual()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoReajustarSalarios(SalariosReajustadosEvent evento) {
+        for (SalarioVigente salario : evento.salarios()) {
+            mover(salario.funcionarioId(),
+                    new Lotacao(evento.departamentoId(), FolhaSalarial.centavos(salario.valorAtual())));
+        }
+    }
+
+    FolhaSalarial folhaAtual() {
+        FolhaSalarial atual = folha;
+        if (atual != null && !alterada) {
+            return atual;
+        }
+        synchronized (this) {
+            if (folha == null) {
+                reconstruir();
+            } else if (alterada) {
+                FolhaSalarial nova = pendente.aplicar(
+                        Math.max(folha.versao() + 1, consistenciaLeitura.versaoPrimario()));
+                if (nova == null) {
+                    reconstruir();
+                } else {
+                    folha = nova;
+                    pendente = nova.alterar();
+                    alterada = false;
+                }
+            }
+            return folha;
+        }
+    }
+
+    private void mover(Long funcionarioId, Lotacao nova) {
+        if (pendente == null) {
+            return;
+        }
+        Lotacao anterior = nova == null ? ativos.remove(funcionarioId) : ativos.put(funcionarioId, nova);
+        if (Objects.equals(anterior, nova)) {
+            return;
+        }
+        if (anterior != null) {
+            pendente.remover(anterior.departamentoId(), anterior.centavos());
+        }
+        if (nova != null) {
+            pendente.incluir(nova.departamentoId(), nova.centavos());
+        }
+        alterada = true;
+    }
+
+    private FolhaSalarial carregar(long versao) {
+        return consistenciaLeitura.lerAtualizado(() -> transactionTemplate.execute(status -> {
+            FolhaSalarial.Construtor construtor = FolhaSalarial.construtor(departamentoRepository.findAll());
+            ativos.clear();
+            try (Stream<SituacaoFuncionario> situacoes = funcionarioRepository.streamSituacoesCompletas()) {
+                situacoes.forEach(situacao -> {
+                    Lotacao lotacao = Lotacao.de(situacao);
+                    if (lotacao != null) {
+                        ativos.put(situacao.id(), lotacao);
+                        construtor.adicionar(situacao.departamentoId(), situacao.salario());
+                    }
+                });
+            }
+            return construtor.construir(versao, ForkJoinPool.commonPool());
+        }));
+    }
+
+    private static BigDecimal validarPercentual(BigDecimal percentual) {
+        if (percentual == null) {
+            throw new EntradaInvalidaException("Percentual da simulação é obrigatório.");
+        }
+        if (percentual.scale() > 2) {
+            throw new EntradaInvalidaException("Percentual da simulação deve ter no máximo 2 casas decimais.");
+        }
+        if (percentual.signum() < 0 || percentual.compareTo(PERCENTUAL_MAXIMO) > 0) {
+            throw new EntradaInvalidaException("Percentual da simulação deve estar entre 0.00 e 300.00.");
+        }
+        return percentual.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private record Lotacao(long departamentoId, long centavos) {
+
+        static Lotacao de(SituacaoFuncionario situacao) {
+            if (situacao == null || situacao.status() != FuncionarioStatus.ATIVO
+                    || situacao.departamentoId() == null || situacao.salario() == null) {
+                return null;
+            }
+            return new Lotacao(situacao.departamentoId(), FolhaSalarial.centavos(situacao.salario()));
+        }
+    }
+}
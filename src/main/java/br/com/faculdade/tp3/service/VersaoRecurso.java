@@ -0,0 +1,6 @@
+package br.com.faculdade.tp3.service;
+
+public record VersaoRecurso(String etag, long ultimaModificacao) {
+
+    public static final long SEM_DATA = -1;
+}
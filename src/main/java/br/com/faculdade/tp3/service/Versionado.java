@@ -0,0 +1,4 @@
+package br.com.faculdade.tp3.service;
+
+public record Versionado<T>(VersaoRecurso versao, T valor) {
+}
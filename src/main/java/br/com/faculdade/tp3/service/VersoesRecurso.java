@@ -0,0 +1,116 @@
+package br.com.faculdade.tp3.service;
+
+import br.com.faculdade.tp3.dto.rh.FuncionarioResponse;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.ResumoMovimentacoes;
+import br.com.faculdade.tp3.model.VersaoFuncionario;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+
+@Service
+public class VersoesRecurso {
+
+    private static final ZoneId ZONA = ZoneId.systemDefault();
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final MovimentacaoRhRepository movimentacaoRhRepository;
+    private final JournalMovimentacoes journalMovimentacoes;
+    private final ConsistenciaLeitura consistenciaLeitura;
+    private final String instancia = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36);
+
+    public VersoesRecurso(
+            FuncionarioRepository funcionarioRepository,
+            MovimentacaoRhRepository movimentacaoRhRepository,
+            JournalMovimentacoes journalMovimentacoes,
+            ConsistenciaLeitura consistenciaLeitura
+    ) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.movimentacaoRhRepository = movimentacaoRhRepository;
+        this.journalMovimentacoes = journalMovimentacoes;
+        this.consistenciaLeitura = consistenciaLeitura;
+    }
+
+    public Optional<VersaoRecurso> funcionario(Long id) {
+        if (id == null || id <= 0) {
+            return Optional.empty();
+        }
+        return funcionarioRepository.buscarVersao(id).map(versao -> funcionario(id, versao));
+    }
+
+    public static VersaoRecurso funcionario(FuncionarioResponse funcionario) {
+        return funcionario(funcionario.id(), new VersaoFuncionario(
+                funcionario.versao(),
+                funcionario.salario() == null ? null : funcionario.salario().versao(),
+                funcionario.atualizadoEm(),
+                funcionario.salario() == null ? null : funcionario.salario().atualizadoEm()
+        ));
+    }
+
+    public Optional<VersaoRecurso> movimentacoes(Long funcionarioId) {
+        if (funcionarioId == null || funcionarioId <= 0) {
+            return Optional.empty();
+        }
+        ResumoMovimentacoes resumo = journalMovimentacoes.disponivel()
+                ? journalMovimentacoes.resumir(funcionarioId)
+                : movimentacaoRhRepository.resumirPorFuncionario(funcionarioId);
+        return Optional.of(movimentacoes(funcionarioId, resumo.quantidade(), resumo.ultimaMovimentacao()));
+    }
+
+    public static VersaoRecurso movimentacoes(Long funcionarioId, List<MovimentacaoRh> movimentacoes) {
+        LocalDateTime ultima = null;
+        for (MovimentacaoRh movimentacao : movimentacoes) {
+            if (ultima == null || movimentacao.getMovimentadoEm().isAfter(ultima)) {
+                ultima = movimentacao.getMovimentadoEm();
+            }
+        }
+        return movimentacoes(funcionarioId, movimentacoes.size(), ultima);
+    }
+
+    // A listagem depende de todos os funcionários; o contador de commits do primário é um validador sem
+    // consulta. A resposta leva a versão que a leitura de fato enxergou, que numa réplica atrasada é menor.
+    public VersaoRecurso listagem() {
+        return listagem(consistenciaLeitura.versaoPrimario());
+    }
+
+    public <T> Versionado<T> lerListagem(Supplier<T> leitura) {
+        VersaoRecurso[] versao = new VersaoRecurso[1];
+        T valor = consistenciaLeitura.lerAnotandoVersao(leitura, lida -> versao[0] = listagem(lida));
+        return new Versionado<>(versao[0], valor);
+    }
+
+    private VersaoRecurso listagem(long versao) {
+        return new VersaoRecurso("\"l" + instancia + "-" + versao + "\"", VersaoRecurso.SEM_DATA);
+    }
+
+    private static VersaoRecurso funcionario(Long id, VersaoFuncionario versao) {
+        return new VersaoRecurso(
+                "\"f" + id + "-" + versao.versao() + "-" + versao.versaoSalario() + "\"",
+                milissegundos(maisRecente(versao.atualizadoEm(), versao.salarioAtualizadoEm()))
+        );
+    }
+
+    // O journal guarda movimentadoEm em milissegundos; truncar aqui mantém o mesmo ETag venha a lista da
+    // tabela ou do journal.
+    private static VersaoRecurso movimentacoes(Long funcionarioId, long quantidade, LocalDateTime ultima) {
+        long ultimaMillis = milissegundos(ultima);
+        return new VersaoRecurso("\"m" + funcionarioId + "-" + quantidade + "-" + ultimaMillis + "\"", ultimaMillis);
+    }
+
+    private static LocalDateTime maisRecente(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    private static long milissegundos(LocalDateTime momento) {
+        return momento == null ? VersaoRecurso.SEM_DATA : momento.atZone(ZONA).toInstant().toEpochMilli();
+    }
+}
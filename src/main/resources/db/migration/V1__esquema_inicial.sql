@@ -0,0 +1,106 @@
+create sequence funcionarios_seq start with 1 increment by 50;
+create sequence salarios_seq start with 1 increment by 50;
+create sequence movimentacoes_rh_seq start with 1 increment by 50;
+create sequence outbox_eventos_seq start with 1 increment by 50;
+
+create table departamentos (
+    id bigint generated by default as identity not null,
+    sigla varchar(10) not null,
+    nome varchar(100) not null,
+    constraint pk_departamentos primary key (id),
+    constraint uk_departamento_nome unique (nome),
+    constraint uk_departamento_sigla unique (sigla)
+);
+
+create table funcionarios (
+    id bigint not null,
+    nome varchar(120) not null,
+    email varchar(160) not null,
+    cpf varchar(11) not null,
+    cargo varchar(100) not null,
+    departamento_id bigint not null,
+    status varchar(20) not null,
+    data_admissao date not null,
+    data_demissao date,
+    criado_em timestamp(6) not null,
+    atualizado_em timestamp(6) not null,
+    constraint pk_funcionarios primary key (id),
+    constraint uk_funcionario_email unique (email),
+    constraint uk_funcionario_cpf unique (cpf),
+    constraint ck_funcionario_status check (status in ('ATIVO', 'INATIVO')),
+    constraint fk_funcionario_departamento foreign key (departamento_id) references departamentos (id)
+);
+
+create table salarios (
+    id bigint not null,
+    funcionario_id bigint not null,
+    valor_atual numeric(12, 2) not null,
+    atualizado_em timestamp(6) not null,
+    constraint pk_salarios primary key (id),
+    constraint uk_salario_funcionario unique (funcionario_id),
+    constraint fk_salario_funcionario foreign key (funcionario_id) references funcionarios (id)
+);
+
+create table movimentacoes_rh (
+    id bigint not null,
+    funcionario_id bigint not null,
+    tipo varchar(40) not null,
+    descricao varchar(255) not null,
+    salario_anterior numeric(12, 2),
+    salario_novo numeric(12, 2),
+    cargo varchar(100),
+    movimentado_em timestamp(6) not null,
+    constraint pk_movimentacoes_rh primary key (id),
+    constraint ck_movimentacao_tipo check (tipo in (
+        'CONTRATACAO', 'ATUALIZACAO_CADASTRAL', 'AUMENTO_SALARIAL', 'PROMOCAO', 'DEMISSAO'
+    )),
+    constraint fk_movimentacao_funcionario foreign key (funcionario_id) references funcionarios (id)
+);
+
+create index idx_movimentacao_funcionario on movimentacoes_rh (funcionario_id, id);
+
+create table reajustes_salariais (
+    id bigint generated by default as identity not null,
+    departamento_id bigint not null,
+    percentual numeric(12, 2) not null,
+    motivo varchar(255) not null,
+    status varchar(20) not null,
+    limite_funcionario_id bigint not null,
+    ultimo_funcionario_id bigint not null,
+    total_funcionarios bigint not null,
+    processados bigint not null,
+    erro varchar(255),
+    criado_em timestamp(6) not null,
+    atualizado_em timestamp(6) not null,
+    concluido_em timestamp(6),
+    constraint pk_reajustes_salariais primary key (id),
+    constraint ck_reajuste_status check (status in ('EM_ANDAMENTO', 'CONCLUIDO', 'FALHOU')),
+    constraint fk_reajuste_departamento foreign key (departamento_id) references departamentos (id)
+);
+
+create table outbox_eventos (
+    id bigint not null,
+    funcionario_id bigint not null,
+    movimentacao_id bigint not null,
+    tipo varchar(40) not null,
+    payload varchar(4000) not null,
+    tentativas integer not null,
+    ultimo_erro varchar(255),
+    criado_em timestamp(6) not null,
+    proxima_tentativa_em timestamp(6),
+    publicado_em timestamp(6),
+    constraint pk_outbox_eventos primary key (id)
+);
+
+create index idx_outbox_pendentes on outbox_eventos (publicado_em, id);
+create index idx_outbox_funcionario on outbox_eventos (funcionario_id, publicado_em);
+
+create table snapshots_salariais (
+    funcionario_id bigint not null,
+    salario numeric(12, 2),
+    cargo varchar(100),
+    total_eventos bigint not null,
+    ultimo_evento_id bigint not null,
+    gerado_em timestamp(6) not null,
+    constraint pk_snapshots_salariais primary key (funcionario_id)
+);
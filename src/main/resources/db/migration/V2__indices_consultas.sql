@@ -0,0 +1,14 @@
+-- Listagem paginada por nome (buscarPaginaApos, findAllByOrderByNomeAsc): percorre o índice já na ordem do keyset.
+create index idx_funcionario_nome on funcionarios (nome, id);
+
+-- Listagem filtrada por situação (buscarPaginaPorStatusApos, findByStatusOrderByNomeAsc).
+create index idx_funcionario_status_nome on funcionarios (status, nome, id);
+
+-- Contagem e seleção de ativos do departamento no reajuste em massa.
+create index idx_funcionario_departamento on funcionarios (departamento_id, status, id);
+
+-- Histórico do funcionário, do mais recente para o mais antigo.
+create index idx_movimentacao_funcionario_data on movimentacoes_rh (funcionario_id, movimentado_em desc, id desc);
+
+create index idx_reajuste_departamento_status on reajustes_salariais (departamento_id, status);
+create index idx_reajuste_status on reajustes_salariais (status);
@@ -0,0 +1,4 @@
+-- Controle de concorrência otimista: aumentos, promoções e edições concorrentes no mesmo funcionário
+-- deixam de sobrescrever uns aos outros; o perdedor recebe conflito e é reexecutado sobre o estado novo.
+alter table funcionarios add column versao bigint default 0 not null;
+alter table salarios add column versao bigint default 0 not null;
@@ -0,0 +1,83 @@
+package br.com.faculdade.tp3.fuzz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import br.com.faculdade.tp3.service.InputSanitizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class InputSanitizerEquivalenciaTest {
+
+    private static final String ALFABETO_ESTENDIDO = "abcdeilnoprstSELECTDROPINSERT_ 0123456789<>{}$;-/*.,'\""
+            + "éÇãǘ\u0000\u0007\u001b\u007f\t ​😀";
+
+    private final InputSanitizer inputSanitizer = new InputSanitizer();
+    private final SanitizadorRegex sanitizadorRegex = new SanitizadorRegex();
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void deveAceitarERejeitarComoAImplementacaoComRegex(String entrada) {
+        comparar(entrada, s -> inputSanitizer.sanitizarTexto(s, "Campo", true, 1, 255),
+                s -> sanitizadorRegex.sanitizarTexto(s, "Campo", true, 1, 255));
+        comparar(entrada, s -> inputSanitizer.sanitizarTextoHumano(s, "Nome", false, 1, 255),
+                s -> sanitizadorRegex.sanitizarTextoHumano(s, "Nome", false, 1, 255));
+        comparar(entrada, inputSanitizer::sanitizarEmail, sanitizadorRegex::sanitizarEmail);
+        comparar(entrada, inputSanitizer::sanitizarCpf, sanitizadorRegex::sanitizarCpf);
+    }
+
+    @Test
+    void deveRejeitarConteudoMaliciosoMesmoComQuebraDeLinha() {
+        assertThatThrownBy(() -> inputSanitizer.sanitizarTexto("linha\n<script>", "Motivo", true, 1, 255))
+                .isInstanceOf(EntradaInvalidaException.class)
+                .hasMessageContaining("malicioso");
+        assertThatThrownBy(() -> inputSanitizer.sanitizarTexto("linha\r\n\u0007fim", "Motivo", true, 1, 255))
+                .isInstanceOf(EntradaInvalidaException.class)
+                .hasMessageContaining("inválidos");
+        assertThat(inputSanitizer.sanitizarTexto("primeira\nsegunda", "Motivo", true, 1, 255))
+                .isEqualTo("primeira\nsegunda");
+    }
+
+    private static Stream<String> corpus() {
+        List<String> entradas = new ArrayList<>();
+        RhApiFuzzTest.nomesMaliciosos().forEach(entradas::add);
+        entradas.addAll(List.of(
+                "Ana Souza", "ana.souza@empresa.com", "12345678901", "1234567890a", "@empresa.com", "ana@",
+                "Select", "reselect", "select_", "_drop", "drop1", "1drop", "x drop y", "DeLeTe", "insertar",
+                "éselect", "selecté", "select́", "á drop", "drop ́", "́drop",
+                "${x}", "a--b", "a/*b", "b*/a", "a;b", "Conceição d'Ávila", "O'Neil-Smith", "Ana Souza",
+                "😀drop", "Ana😀", "\t", "   ", "", "\u0000abc", "abc\u007f"
+        ));
+
+        Random random = new Random(20240611L);
+        for (int i = 0; i < 500; i++) {
+            entradas.add(RhApiFuzzTest.textoAleatorio(1 + random.nextInt(60)));
+            StringBuilder texto = new StringBuilder();
+            int tamanho = 1 + random.nextInt(30);
+            for (int j = 0; j < tamanho; j++) {
+                texto.append(ALFABETO_ESTENDIDO.charAt(random.nextInt(ALFABETO_ESTENDIDO.length())));
+            }
+            entradas.add(texto.toString());
+        }
+        return entradas.stream();
+    }
+
+    private static void comparar(String entrada, Function<String, String> novo, Function<String, String> regex) {
+        assertThat(resultado(novo, entrada)).as("entrada %s", entrada).isEqualTo(resultado(regex, entrada));
+    }
+
+    private static String resultado(Function<String, String> sanitizador, String entrada) {
+        try {
+            return "aceito:" + sanitizador.apply(entrada);
+        } catch (EntradaInvalidaException ex) {
+            return "rejeitado:" + ex.getMessage();
+        }
+    }
+}
@@ -98,7 +98,7 @@ class RhApiFuzzTest {
         }
     }
 
-    private static Stream<String> nomesMaliciosos() {
+    static Stream<String> nomesMaliciosos() {
         return Stream.of(
                 "<script>alert('x')</script>",
                 "' OR '1'='1",
@@ -120,7 +120,7 @@ class RhApiFuzzTest {
         return payload;
     }
 
-    private static String textoAleatorio(int tamanho) {
+    static String textoAleatorio(int tamanho) {
         String chars = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789!@#$%^&*()_+=-[]{};:'\",.<>?/\\| ";
         StringBuilder sb = new StringBuilder(tamanho);
         for (int i = 0; i < tamanho; i++) {
@@ -0,0 +1,221 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.EventoOutboxRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.repository.SnapshotSalarialRepository;
+import br.com.faculdade.tp3.service.RhService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = {
+        "rh.resiliencia.escrita.max-concorrencia=64",
+        "rh.conflito.max-tentativas=200",
+        "rh.conflito.espera-inicial=1ms",
+        "rh.conflito.espera-maxima=20ms",
+        "rh.outbox.intervalo-ms=3600000"
+})
+@ActiveProfiles("test")
+class ConcorrenciaSalarialIntegrationTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcorrenciaSalarialIntegrationTest.class);
+
+    private static final int THREADS = 8;
+    private static final int AUMENTOS_POR_THREAD = 10;
+    private static final BigDecimal SALARIO_INICIAL = new BigDecimal("3000.00");
+    private static final BigDecimal PERCENTUAL = BigDecimal.ONE;
+
+    @Autowired
+    private RhService rhService;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private SnapshotSalarialRepository snapshotSalarialRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+    private Long departamentoId;
+
+    @BeforeEach
+    void setUp() {
+        eventoOutboxRepository.deleteAll();
+        snapshotSalarialRepository.deleteAll();
+        movimentacaoRhRepository.deleteAll();
+        funcionarioRepository.deleteAll();
+        departamentoId = departamentoRepository.findAll().get(0).getId();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void aumentosConcorrentesNoMesmoFuncionarioNaoDevemPerderAtualizacoes() throws Exception {
+        Long id = rhService.contratar(payload("00")).getId();
+        double retentativasAntes = retentativas();
+
+        long inicio = System.nanoTime();
+        executar(THREADS, thread -> {
+            for (int i = 0; i < AUMENTOS_POR_THREAD; i++) {
+                rhService.aumentarSalario(id, aumento());
+            }
+        });
+        long duracao = System.nanoTime() - inicio;
+
+        int total = THREADS * AUMENTOS_POR_THREAD;
+        assertThat(salarioAtual(id)).isEqualByComparingTo(esperado(total));
+
+        List<MovimentacaoRh> aumentos = aumentos(id);
+        assertThat(aumentos).hasSize(total);
+        aumentos.sort(Comparator.comparing(MovimentacaoRh::getSalarioNovo));
+        BigDecimal anterior = SALARIO_INICIAL;
+        for (MovimentacaoRh aumento : aumentos) {
+            assertThat(aumento.getSalarioAnterior()).isEqualByComparingTo(anterior);
+            anterior = aumento.getSalarioNovo();
+        }
+
+        reportar("um-funcionario", total, duracao, retentativas() - retentativasAntes);
+    }
+
+    @Test
+    void aumentosConcorrentesEmVariosFuncionariosNaoDevemPerderAtualizacoes() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < THREADS * 4; i++) {
+            ids.add(rhService.contratar(payload(String.format("%02d", i + 1))).getId());
+        }
+        double retentativasAntes = retentativas();
+
+        long inicio = System.nanoTime();
+        executar(THREADS, thread -> {
+            for (int i = 0; i < AUMENTOS_POR_THREAD; i++) {
+                for (int j = 0; j < ids.size(); j += 2) {
+                    rhService.aumentarSalario(ids.get((j + thread) % ids.size()), aumento());
+                }
+            }
+        });
+        long duracao = System.nanoTime() - inicio;
+
+        int aumentosPorFuncionario = THREADS * AUMENTOS_POR_THREAD / 2;
+        for (Long id : ids) {
+            assertThat(salarioAtual(id)).isEqualByComparingTo(esperado(aumentosPorFuncionario));
+            assertThat(aumentos(id)).hasSize(aumentosPorFuncionario);
+        }
+
+        reportar("varios-funcionarios", THREADS * AUMENTOS_POR_THREAD * ids.size() / 2, duracao,
+                retentativas() - retentativasAntes);
+    }
+
+    private void executar(int threads, Tarefa tarefa) throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Void>> futuros = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            Callable<Void> corrida = () -> {
+                largada.await();
+                tarefa.executar(thread);
+                return null;
+            };
+            futuros.add(executor.submit(corrida));
+        }
+        largada.countDown();
+        for (Future<Void> futuro : futuros) {
+            futuro.get(60, TimeUnit.SECONDS);
+        }
+    }
+
+    private BigDecimal salarioAtual(Long id) {
+        return funcionarioRepository.findById(id).orElseThrow().getSalario().getValorAtual();
+    }
+
+    private List<MovimentacaoRh> aumentos(Long id) {
+        return new ArrayList<>(movimentacaoRhRepository.findByFuncionarioIdOrderByMovimentadoEmDesc(id).stream()
+                .filter(m -> m.getTipo() == TipoMovimentacaoRh.AUMENTO_SALARIAL)
+                .toList());
+    }
+
+    private static BigDecimal esperado(int aumentos) {
+        BigDecimal fator = BigDecimal.ONE.add(PERCENTUAL.divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP));
+        BigDecimal salario = SALARIO_INICIAL;
+        for (int i = 0; i < aumentos; i++) {
+            salario = salario.multiply(fator).setScale(2, RoundingMode.HALF_UP);
+        }
+        return salario;
+    }
+
+    private double retentativas() {
+        return meterRegistry.find("rh.conflitos.retentativas").counters().stream()
+                .mapToDouble(c -> c.count())
+                .sum();
+    }
+
+    private static void reportar(String cenario, int operacoes, long duracaoNanos, double retentativas) {
+        double segundos = duracaoNanos / 1_000_000_000.0;
+        LOG.info("Contenção [{}]: {} aumentos em {} s ({} ops/s, {} retentativas, {} threads)",
+                cenario, operacoes, String.format("%.2f", segundos), String.format("%.1f", operacoes / segundos),
+                String.format("%.0f", retentativas), THREADS);
+    }
+
+    private AjusteSalarialPayload aumento() {
+        AjusteSalarialPayload payload = new AjusteSalarialPayload();
+        payload.setPercentual(PERCENTUAL);
+        payload.setMotivo("Aumento concorrente");
+        return payload;
+    }
+
+    private FuncionarioPayload payload(String sufixo) {
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Carla Concorrência " + sufixo);
+        payload.setEmail("carla" + sufixo + "@empresa.com");
+        payload.setCpf("777777777" + sufixo);
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamentoId);
+        payload.setSalarioInicial(SALARIO_INICIAL);
+        return payload;
+    }
+
+    @FunctionalInterface
+    private interface Tarefa {
+
+        void executar(int thread) throws Exception;
+    }
+}
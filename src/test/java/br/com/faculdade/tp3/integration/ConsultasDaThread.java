@@ -0,0 +1,37 @@
+package br.com.faculdade.tp3.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class ConsultasDaThread implements StatementInspector {
+
+    static final String PROPRIEDADE = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "br.com.faculdade.tp3.integration.ConsultasDaThread";
+
+    private static final ThreadLocal<List<String>> SQL = new ThreadLocal<>();
+
+    static List<String> capturar(Trecho trecho) throws Exception {
+        SQL.set(new ArrayList<>());
+        try {
+            trecho.executar();
+            return SQL.get();
+        } finally {
+            SQL.remove();
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> capturadas = SQL.get();
+        if (capturadas != null) {
+            capturadas.add(sql);
+        }
+        return sql;
+    }
+
+    @FunctionalInterface
+    interface Trecho {
+        void executar() throws Exception;
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
+import br.com.faculdade.tp3.dto.rh.DemissaoPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.dto.rh.PromocaoPayload;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.service.ContadoresDepartamento;
+import br.com.faculdade.tp3.service.RhService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = ConsultasDaThread.PROPRIEDADE)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ContadoresDepartamentoIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RhService rhService;
+
+    @Autowired
+    private ContadoresDepartamento contadoresDepartamento;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    private Departamento origem;
+    private Departamento destino;
+    private String chave;
+
+    @BeforeEach
+    void setUp() {
+        long sufixo = System.nanoTime() % 10_000;
+        chave = String.format("%09d", System.nanoTime() % 1_000_000_000L);
+        origem = departamentoRepository.save(new Departamento("Contadores Origem " + sufixo, "CO" + sufixo));
+        destino = departamentoRepository.save(new Departamento("Contadores Destino " + sufixo, "CD" + sufixo));
+        contadoresDepartamento.reconstruir();
+    }
+
+    @Test
+    void deveManterTotaisAposCadaMutacaoSemConsultarAsTabelas() throws Exception {
+        Long transferido = rhService.contratar(payload("01", origem, "3000.00")).getId();
+        Long promovido = rhService.contratar(payload("02", origem, "4000.00")).getId();
+        Long demitido = rhService.contratar(payload("03", origem, "5000.00")).getId();
+        Long excluido = rhService.contratar(payload("04", destino, "1000.00")).getId();
+
+        rhService.aumentarSalario(transferido, ajuste());
+        rhService.atualizarCadastro(transferido, payload("01", destino, "3000.00"));
+
+        PromocaoPayload promocao = new PromocaoPayload();
+        promocao.setNovoCargo("Coordenador");
+        promocao.setPercentualAumento(new BigDecimal("50.00"));
+        promocao.setMotivo("Promoção por desempenho");
+        rhService.promover(promovido, promocao);
+
+        DemissaoPayload demissao = new DemissaoPayload();
+        demissao.setMotivo("Encerramento de contrato");
+        rhService.demitir(demitido, demissao);
+        rhService.excluirDefinitivamente(excluido);
+
+        JsonNode[] resposta = new JsonNode[1];
+        List<String> sql = ConsultasDaThread.capturar(() -> resposta[0] = objectMapper.readTree(
+                mockMvc.perform(get("/api/rh/departamentos/totais"))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString()));
+        assertThat(sql).isEmpty();
+        assertThat(ConsultasDaThread.capturar(departamentoRepository::count)).isNotEmpty();
+        JsonNode totais = resposta[0];
+
+        JsonNode totaisOrigem = totais(totais, origem.getId());
+        assertThat(totaisOrigem.get("ativos").asLong()).isEqualTo(1);
+        assertThat(totaisOrigem.get("folhaAtivos").decimalValue()).isEqualByComparingTo("6000.00");
+        assertThat(totaisOrigem.get("inativos").asLong()).isEqualTo(1);
+        assertThat(totaisOrigem.get("folhaInativos").decimalValue()).isEqualByComparingTo("5000.00");
+
+        JsonNode totaisDestino = totais(totais, destino.getId());
+        assertThat(totaisDestino.get("ativos").asLong()).isEqualTo(1);
+        assertThat(totaisDestino.get("folhaAtivos").decimalValue()).isEqualByComparingTo("3300.00");
+        assertThat(totaisDestino.get("inativos").asLong()).isZero();
+    }
+
+    private static JsonNode totais(JsonNode totais, Long departamentoId) {
+        for (JsonNode item : totais) {
+            if (item.get("departamentoId").asLong() == departamentoId) {
+                return item;
+            }
+        }
+        throw new AssertionError("Departamento ausente dos totais: " + departamentoId);
+    }
+
+    private static AjusteSalarialPayload ajuste() {
+        AjusteSalarialPayload payload = new AjusteSalarialPayload();
+        payload.setPercentual(new BigDecimal("10.00"));
+        payload.setMotivo("Mérito individual");
+        return payload;
+    }
+
+    private FuncionarioPayload payload(String sufixo, Departamento departamento, String salario) {
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Carla Contadora " + sufixo);
+        payload.setEmail("carla.contadora" + chave + sufixo + "@empresa.com");
+        payload.setCpf(chave + sufixo);
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamento.getId());
+        payload.setSalarioInicial(new BigDecimal(salario));
+        return payload;
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ContratacaoLoteIntegrationTest {
+
+    private static final int TOTAL_VALIDOS = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long departamentoId;
+
+    @BeforeEach
+    void setUp() {
+        movimentacaoRhRepository.deleteAll();
+        funcionarioRepository.deleteAll();
+        departamentoId = departamentoRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    void deveContratarLoteComRelatorioPorLinha() throws Exception {
+        List<FuncionarioPayload> payloads = new ArrayList<>();
+        for (int i = 0; i < TOTAL_VALIDOS; i++) {
+            payloads.add(payload(i));
+        }
+        FuncionarioPayload repetido = payload(0);
+        repetido.setCpf("99999999999");
+        payloads.add(repetido);
+        FuncionarioPayload semDepartamento = payload(500);
+        semDepartamento.setDepartamentoId(987654L);
+        payloads.add(semDepartamento);
+
+        mockMvc.perform(post("/api/rh/funcionarios/lote")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payloads)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(TOTAL_VALIDOS + 2))
+                .andExpect(jsonPath("$.contratados").value(TOTAL_VALIDOS))
+                .andExpect(jsonPath("$.rejeitados").value(2))
+                .andExpect(jsonPath("$.itens[0].contratado").value(true))
+                .andExpect(jsonPath("$.itens[0].funcionarioId").isNumber())
+                .andExpect(jsonPath("$.itens[120].mensagem").value("Email repetido no lote."))
+                .andExpect(jsonPath("$.itens[121].mensagem").value("Departamento não encontrado."));
+
+        assertThat(funcionarioRepository.count()).isEqualTo(TOTAL_VALIDOS);
+        assertThat(movimentacaoRhRepository.count()).isEqualTo(TOTAL_VALIDOS);
+
+        mockMvc.perform(post("/api/rh/funcionarios/lote")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(List.of(payload(0)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contratados").value(0))
+                .andExpect(jsonPath("$.itens[0].mensagem").value("Já existe funcionário com o email informado."));
+    }
+
+    @Test
+    void deveAgruparInsertsEmBatches() throws Exception {
+        List<FuncionarioPayload> payloads = new ArrayList<>();
+        for (int i = 0; i < TOTAL_VALIDOS; i++) {
+            payloads.add(payload(i));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/rh/funcionarios/lote")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payloads)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contratados").value(TOTAL_VALIDOS));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TOTAL_VALIDOS * 4L);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(TOTAL_VALIDOS / 2);
+    }
+
+    private FuncionarioPayload payload(int indice) {
+        String sufixo = String.format("%04d", indice);
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Lote " + sufixo);
+        payload.setEmail("lote" + sufixo + "@empresa.com");
+        payload.setCpf("5550000" + sufixo);
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamentoId);
+        payload.setSalarioInicial(new BigDecimal("3500.00"));
+        return payload;
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.model.Salario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class FuncionarioListagemConsultasTest {
+
+    private static final int TOTAL_FUNCIONARIOS = 30;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Departamento ti = departamentoRepository.save(new Departamento("Tecnologia", "TI"));
+        Departamento rh = departamentoRepository.save(new Departamento("Recursos Humanos", "RH"));
+
+        for (int i = 0; i < TOTAL_FUNCIONARIOS; i++) {
+            funcionarioRepository.save(novoFuncionario(i, i % 2 == 0 ? ti : rh));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 25})
+    void deveCarregarPaginaComUmaUnicaConsulta(int tamanhoPagina) {
+        List<FuncionarioResumo> pagina = funcionarioRepository.buscarPaginaApos("", 0L, Limit.of(tamanhoPagina));
+
+        assertThat(pagina).hasSize(tamanhoPagina);
+        assertThat(pagina).allSatisfy(resumo -> {
+            assertThat(resumo.sigla()).isNotBlank();
+            assertThat(resumo.valorAtual()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void deveManterUmaConsultaPorPaginaComFiltros() {
+        List<FuncionarioResumo> ativos = funcionarioRepository.buscarPaginaPorStatusApos(
+                FuncionarioStatus.ATIVO, "", 0L, Limit.of(10));
+        List<FuncionarioResumo> porIds = funcionarioRepository.buscarResumosPorIds(
+                ativos.stream().map(FuncionarioResumo::id).toList());
+
+        assertThat(porIds).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Funcionario novoFuncionario(int indice, Departamento departamento) {
+        String sufixo = String.format("%02d", indice);
+
+        Funcionario funcionario = new Funcionario();
+        funcionario.setNome("Funcionario " + sufixo);
+        funcionario.setEmail("funcionario" + sufixo + "@empresa.com");
+        funcionario.setCpf("123456789" + sufixo);
+        funcionario.setCargo("Analista");
+        funcionario.setStatus(FuncionarioStatus.ATIVO);
+        funcionario.setDepartamento(departamento);
+        funcionario.setDataAdmissao(LocalDate.now());
+
+        Salario salario = new Salario();
+        salario.setValorAtual(new BigDecimal("3000.00"));
+        funcionario.definirSalario(salario);
+
+        return funcionario;
+    }
+}
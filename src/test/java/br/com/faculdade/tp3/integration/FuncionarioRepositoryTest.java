@@ -2,6 +2,7 @@ package br.com.faculdade.tp3.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
 import br.com.faculdade.tp3.model.Departamento;
 import br.com.faculdade.tp3.model.Funcionario;
 import br.com.faculdade.tp3.model.Salario;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 @DataJpaTest
 class FuncionarioRepositoryTest {
@@ -39,18 +41,38 @@ class FuncionarioRepositoryTest {
 
     @Test
     void deveFiltrarPorStatus() {
-        List<Funcionario> ativos = funcionarioRepository.findByStatusOrderByNomeAsc(FuncionarioStatus.ATIVO);
+        List<FuncionarioResumo> ativos = funcionarioRepository.buscarPaginaPorStatusApos(
+                FuncionarioStatus.ATIVO, "", 0L, Limit.of(10));
 
         assertThat(ativos).hasSize(1);
-        assertThat(ativos.get(0).getNome()).isEqualTo("Ana");
+        assertThat(ativos.get(0).nome()).isEqualTo("Ana");
     }
 
     @Test
-    void deveBuscarPorNomeIgnorandoCase() {
-        List<Funcionario> resultado = funcionarioRepository.findByNomeContainingIgnoreCaseOrderByNomeAsc("an");
+    void deveCarregarResumosPorIds() {
+        List<Long> ids = funcionarioRepository.buscarIds();
 
-        assertThat(resultado).hasSize(1);
-        assertThat(resultado.get(0).getEmail()).isEqualTo("ana@empresa.com");
+        List<FuncionarioResumo> resultado = funcionarioRepository.buscarResumosPorIds(ids);
+
+        assertThat(resultado).extracting(FuncionarioResumo::nome).containsExactlyInAnyOrder("Ana", "Bruno");
+        assertThat(resultado).extracting(FuncionarioResumo::sigla).containsOnly("TI");
+    }
+
+    @Test
+    void devePaginarPorNomeEIdAposCursor() {
+        funcionarioRepository.save(novoFuncionario("Ana", "ana2@empresa.com", "12345678903", FuncionarioStatus.ATIVO));
+
+        List<FuncionarioResumo> primeiraPagina = funcionarioRepository.buscarPaginaApos("", 0L, Limit.of(2));
+        FuncionarioResumo ultimo = primeiraPagina.get(1);
+        List<FuncionarioResumo> segundaPagina = funcionarioRepository.buscarPaginaApos(ultimo.nome(), ultimo.id(), Limit.of(2));
+
+        assertThat(primeiraPagina).extracting(FuncionarioResumo::nome).containsExactly("Ana", "Ana");
+        assertThat(primeiraPagina.get(0).sigla()).isEqualTo("TI");
+        assertThat(primeiraPagina.get(0).valorAtual()).isEqualByComparingTo("3000.00");
+        assertThat(segundaPagina).extracting(FuncionarioResumo::nome).containsExactly("Bruno");
+        assertThat(funcionarioRepository.buscarPaginaPorStatusApos(FuncionarioStatus.INATIVO, "", 0L, Limit.of(10)))
+                .extracting(FuncionarioResumo::nome)
+                .containsExactly("Bruno");
     }
 
     private Funcionario novoFuncionario(String nome, String email, String cpf, FuncionarioStatus status) {
@@ -0,0 +1,225 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.faculdade.tp3.dto.VerificacaoHistoricoResponse;
+import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.dto.rh.PromocaoPayload;
+import br.com.faculdade.tp3.dto.rh.SimulacaoFolhaPayload;
+import br.com.faculdade.tp3.model.EstadoSalarial;
+import br.com.faculdade.tp3.model.SnapshotSalarial;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.EventoOutboxRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.repository.SnapshotSalarialRepository;
+import br.com.faculdade.tp3.service.HistoricoSalarialService;
+import br.com.faculdade.tp3.service.RelatorioColunar;
+import br.com.faculdade.tp3.service.SimulacaoFolhaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+        "rh.historico.fonte-eventos=true",
+        "rh.historico.intervalo-snapshot=3",
+        "rh.outbox.intervalo-ms=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class HistoricoSalarialIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private SnapshotSalarialRepository snapshotSalarialRepository;
+
+    @Autowired
+    private HistoricoSalarialService historicoSalarialService;
+
+    @Autowired
+    private RelatorioColunar relatorioColunar;
+
+    @Autowired
+    private SimulacaoFolhaService simulacaoFolhaService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long departamentoId;
+
+    @BeforeEach
+    void setUp() {
+        eventoOutboxRepository.deleteAll();
+        snapshotSalarialRepository.deleteAll();
+        movimentacaoRhRepository.deleteAll();
+        funcionarioRepository.deleteAll();
+        departamentoId = departamentoRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    void deveGravarSnapshotACadaIntervaloEReconstruirPelaCauda() throws Exception {
+        long id = contratar("01");
+        for (int i = 0; i < 4; i++) {
+            aumentar(id, "10.00");
+        }
+
+        SnapshotSalarial snapshot = snapshotSalarialRepository.findById(id).orElseThrow();
+        assertThat(snapshot.getTotalEventos()).isEqualTo(3);
+        assertThat(snapshot.getSalario()).isEqualByComparingTo("4840.00");
+
+        promover(id, "Coordenador", "5.00");
+
+        snapshot = snapshotSalarialRepository.findById(id).orElseThrow();
+        assertThat(snapshot.getTotalEventos()).isEqualTo(6);
+        assertThat(snapshot.getCargo()).isEqualTo("Coordenador");
+
+        EstadoSalarial estado = historicoSalarialService.reconstruir(id);
+        assertThat(estado.totalEventos()).isEqualTo(6);
+        assertThat(estado.salario()).isEqualByComparingTo("6149.22");
+        assertThat(estado.cargo()).isEqualTo("Coordenador");
+
+        mockMvc.perform(get("/api/rh/funcionarios/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.salario.valorAtual").value(6149.22));
+
+        mockMvc.perform(delete("/api/rh/funcionarios/{id}", id)).andExpect(status().isNoContent());
+        assertThat(snapshotSalarialRepository.existsById(id)).isFalse();
+    }
+
+    @Test
+    void deveDetectarECorrigirDivergenciaEntreProjecaoEHistorico() throws Exception {
+        long id = contratar("02");
+        long outro = contratar("03");
+        aumentar(id, "10.00");
+        aumentar(id, "10.00");
+
+        VerificacaoHistoricoResponse limpa = historicoSalarialService.verificar(false);
+        assertThat(limpa.funcionarios()).isEqualTo(2);
+        assertThat(limpa.eventos()).isEqualTo(4);
+        assertThat(limpa.divergentes()).isZero();
+
+        corromperSalario(id, "9999.99");
+        relatorioColunar.reconstruir();
+        simulacaoFolhaService.reconstruir();
+        assertThat(folhaDoDepartamento()).isEqualByComparingTo("13999.99");
+        assertThat(simulacaoFolhaService.simular(new SimulacaoFolhaPayload()).folhaAtual())
+                .isEqualByComparingTo("13999.99");
+
+        VerificacaoHistoricoResponse suja = historicoSalarialService.verificar(false);
+        assertThat(suja.divergentes()).isEqualTo(1);
+        assertThat(suja.amostraDivergentes()).containsExactly(id);
+        assertThat(suja.corrigidos()).isZero();
+
+        mockMvc.perform(post("/api/rh/diagnostico/historico/verificacao").param("corrigir", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.divergentes").value(1))
+                .andExpect(jsonPath("$.corrigidos").value(1));
+
+        mockMvc.perform(get("/api/rh/funcionarios/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.salario.valorAtual").value(4840.00));
+        assertThat(folhaDoDepartamento()).isEqualByComparingTo("8840.00");
+        assertThat(simulacaoFolhaService.simular(new SimulacaoFolhaPayload()).folhaAtual())
+                .isEqualByComparingTo("8840.00");
+        assertThat(historicoSalarialService.verificar(false).divergentes()).isZero();
+        assertThat(funcionarioRepository.findById(outro)).isPresent();
+    }
+
+    @Test
+    void deveCalcularAumentoPeloHistoricoMesmoComProjecaoDivergente() throws Exception {
+        long id = contratar("04");
+        corromperSalario(id, "1.00");
+
+        aumentar(id, "10.00");
+
+        mockMvc.perform(get("/api/rh/funcionarios/{id}/movimentacoes", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].salarioAnterior").value(4000.00))
+                .andExpect(jsonPath("$[0].salarioNovo").value(4400.00));
+        assertThat(historicoSalarialService.verificar(false).divergentes()).isZero();
+    }
+
+    private BigDecimal folhaDoDepartamento() {
+        return relatorioColunar.porDepartamento().stream()
+                .filter(relatorio -> relatorio.departamentoId().equals(departamentoId))
+                .findFirst()
+                .orElseThrow()
+                .folha();
+    }
+
+    private long contratar(String sufixo) throws Exception {
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Helena Historico " + sufixo);
+        payload.setEmail("helena" + sufixo + "@empresa.com");
+        payload.setCpf("888888888" + sufixo);
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamentoId);
+        payload.setSalarioInicial(new BigDecimal("4000.00"));
+
+        String resposta = mockMvc.perform(post("/api/rh/funcionarios")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+
+    private void aumentar(long id, String percentual) throws Exception {
+        AjusteSalarialPayload payload = new AjusteSalarialPayload();
+        payload.setPercentual(new BigDecimal(percentual));
+        payload.setMotivo("Ajuste periódico");
+        mockMvc.perform(post("/api/rh/funcionarios/{id}/aumento-salarial", id)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isOk());
+    }
+
+    private void promover(long id, String cargo, String percentual) throws Exception {
+        PromocaoPayload payload = new PromocaoPayload();
+        payload.setNovoCargo(cargo);
+        payload.setPercentualAumento(new BigDecimal(percentual));
+        payload.setMotivo("Promoção por mérito");
+        mockMvc.perform(post("/api/rh/funcionarios/{id}/promover", id)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isOk());
+    }
+
+    private void corromperSalario(long id, String valor) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> funcionarioRepository.findById(id)
+                .orElseThrow()
+                .getSalario()
+                .setValorAtual(new BigDecimal(valor)));
+    }
+}
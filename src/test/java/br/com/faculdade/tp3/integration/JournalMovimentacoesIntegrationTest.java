@@ -0,0 +1,178 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.dto.rh.PromocaoPayload;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.EventoOutboxRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.service.JournalMovimentacoes;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "rh.journal.habilitado=true",
+        "rh.journal.tamanho-segmento=4KB",
+        "rh.outbox.intervalo-ms=3600000",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JournalMovimentacoesIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private JournalMovimentacoes journalMovimentacoes;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long departamentoId;
+
+    @DynamicPropertySource
+    static void diretorioJournal(DynamicPropertyRegistry registry) throws IOException {
+        String diretorio = Files.createTempDirectory("journal-movimentacoes").toString();
+        registry.add("rh.journal.diretorio", () -> diretorio);
+    }
+
+    @BeforeEach
+    void setUp() {
+        eventoOutboxRepository.deleteAll();
+        movimentacaoRhRepository.deleteAll();
+        funcionarioRepository.deleteAll();
+        departamentoId = departamentoRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    void deveServirHistoricoDoJournalSemConsultarOBanco() throws Exception {
+        assertThat(journalMovimentacoes.disponivel()).isTrue();
+        long id = contratar(payload("01"));
+
+        AjusteSalarialPayload aumento = new AjusteSalarialPayload();
+        aumento.setPercentual(new BigDecimal("10.00"));
+        aumento.setMotivo("Ajuste anual");
+        mockMvc.perform(post("/api/rh/funcionarios/{id}/aumento-salarial", id)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(aumento)))
+                .andExpect(status().isOk());
+
+        PromocaoPayload promocao = new PromocaoPayload();
+        promocao.setNovoCargo("Coordenadora");
+        promocao.setPercentualAumento(new BigDecimal("5.00"));
+        promocao.setMotivo("Promoção por mérito");
+        mockMvc.perform(post("/api/rh/funcionarios/{id}/promover", id)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(promocao)))
+                .andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/rh/funcionarios/{id}/movimentacoes", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].tipo").value("PROMOCAO"))
+                .andExpect(jsonPath("$[0].cargo").value("Coordenadora"))
+                .andExpect(jsonPath("$[0].salarioAnterior").value(4400.00))
+                .andExpect(jsonPath("$[0].salarioNovo").value(4620.00))
+                .andExpect(jsonPath("$[1].descricao").value("Aumento salarial: Ajuste anual"))
+                .andExpect(jsonPath("$[2].tipo").value("CONTRATACAO"));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(journalMovimentacoes.listar(id))
+                .extracting(MovimentacaoRh::getId)
+                .containsExactlyElementsOf(movimentacaoRhRepository.findByFuncionarioIdOrderByMovimentadoEmDesc(id)
+                        .stream().map(MovimentacaoRh::getId).toList());
+    }
+
+    @Test
+    void deveAnexarContratacaoEmLoteAtravessandoSegmentos() throws Exception {
+        List<FuncionarioPayload> payloads = new ArrayList<>();
+        for (int i = 10; i < 90; i++) {
+            payloads.add(payload(String.valueOf(i)));
+        }
+
+        String resposta = mockMvc.perform(post("/api/rh/funcionarios/lote")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payloads)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contratados").value(80))
+                .andReturn().getResponse().getContentAsString();
+
+        for (JsonNode item : objectMapper.readTree(resposta).get("itens")) {
+            long id = item.get("funcionarioId").asLong();
+            assertThat(journalMovimentacoes.listar(id)).singleElement()
+                    .satisfies(movimentacao -> assertThat(movimentacao.getSalarioNovo()).isEqualByComparingTo("4000.00"));
+        }
+
+        long removido = objectMapper.readTree(resposta).get("itens").get(0).get("funcionarioId").asLong();
+        mockMvc.perform(delete("/api/rh/funcionarios/{id}", removido))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/rh/funcionarios/{id}/movimentacoes", removido))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    private long contratar(FuncionarioPayload payload) throws Exception {
+        String resposta = mockMvc.perform(post("/api/rh/funcionarios")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+
+    private FuncionarioPayload payload(String sufixo) {
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Júlia Journal " + sufixo);
+        payload.setEmail("julia" + sufixo + "@empresa.com");
+        payload.setCpf(String.format("666666666%02d", Integer.parseInt(sufixo)));
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamentoId);
+        payload.setSalarioInicial(new BigDecimal("4000.00"));
+        return payload;
+    }
+}
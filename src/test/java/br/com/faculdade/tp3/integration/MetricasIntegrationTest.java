@@ -0,0 +1,129 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "management.endpoints.web.exposure.include=prometheus"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricasIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+
+    private Long departamentoId;
+
+    @BeforeEach
+    void setUp() {
+        movimentacaoRhRepository.deleteAll();
+        funcionarioRepository.deleteAll();
+        departamentoId = departamentoRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    void deveMedirOperacoesPorResultado() throws Exception {
+        double contratacoesAntes = execucoes("contratar", "sucesso");
+        double duplicadasAntes = execucoes("contratar", "RecursoDuplicadoException");
+
+        String corpo = objectMapper.writeValueAsString(payload());
+        mockMvc.perform(post("/api/rh/funcionarios").contentType("application/json").content(corpo))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/rh/funcionarios").contentType("application/json").content(corpo))
+                .andExpect(status().isConflict());
+
+        assertThat(execucoes("contratar", "sucesso")).isEqualTo(contratacoesAntes + 1);
+        assertThat(execucoes("contratar", "RecursoDuplicadoException")).isEqualTo(duplicadasAntes + 1);
+        assertThat(meterRegistry.get("rh.operacao")
+                .tags("operacao", "contratar", "resultado", "sucesso")
+                .timer()
+                .count()).isPositive();
+    }
+
+    @Test
+    void deveContarErrosDaApiPorStatus() throws Exception {
+        double antes = errosApi("404");
+
+        mockMvc.perform(get("/api/rh/funcionarios/{id}", 987654L))
+                .andExpect(status().isNotFound());
+
+        assertThat(errosApi("404")).isEqualTo(antes + 1);
+    }
+
+    @Test
+    void deveExporMetricasNoFormatoPrometheus() throws Exception {
+        mockMvc.perform(get("/api/rh/departamentos")).andExpect(status().isOk());
+
+        String metricas = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(metricas)
+                .contains("rh_operacao_seconds_count{")
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/rh/departamentos\"")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_statements_total");
+    }
+
+    private double execucoes(String operacao, String resultado) {
+        var contador = meterRegistry.find("rh.operacao.execucoes")
+                .tags("operacao", operacao, "resultado", resultado)
+                .counter();
+        return contador == null ? 0 : contador.count();
+    }
+
+    private double errosApi(String status) {
+        var contador = meterRegistry.find("rh.api.erros").tag("status", status).counter();
+        return contador == null ? 0 : contador.count();
+    }
+
+    private FuncionarioPayload payload() {
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Marcos Metrica");
+        payload.setEmail("marcos.metrica@empresa.com");
+        payload.setCpf("55544433322");
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamentoId);
+        payload.setSalarioInicial(new BigDecimal("3000.00"));
+        return payload;
+    }
+}
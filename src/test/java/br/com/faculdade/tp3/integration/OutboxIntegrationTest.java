@@ -0,0 +1,146 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.model.EventoOutbox;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.EventoOutboxRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.service.MensagemOutbox;
+import br.com.faculdade.tp3.service.OutboxPublicador;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "rh.outbox.intervalo-ms=3600000")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private OutboxPublicador outboxPublicador;
+
+    @Autowired
+    private ColetorMensagens coletor;
+
+    private Long departamentoId;
+
+    @BeforeEach
+    void setUp() {
+        outboxPublicador.drenar();
+        eventoOutboxRepository.deleteAll();
+        movimentacaoRhRepository.deleteAll();
+        funcionarioRepository.deleteAll();
+        coletor.mensagens.clear();
+        departamentoId = departamentoRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    void deveGravarOutboxNaMesmaTransacaoEPublicarEmOrdem() throws Exception {
+        String resposta = mockMvc.perform(post("/api/rh/funcionarios")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payload("01"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(resposta).get("id").asLong();
+
+        AjusteSalarialPayload aumento = new AjusteSalarialPayload();
+        aumento.setPercentual(new BigDecimal("10.00"));
+        aumento.setMotivo("Ajuste anual");
+        mockMvc.perform(post("/api/rh/funcionarios/{id}/aumento-salarial", id)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(aumento)))
+                .andExpect(status().isOk());
+
+        List<EventoOutbox> eventos = eventoOutboxRepository.findByFuncionarioIdOrderByIdAsc(id);
+        assertThat(eventos).extracting(EventoOutbox::getTipo).containsExactly("CONTRATACAO", "AUMENTO_SALARIAL");
+        assertThat(eventos).allMatch(evento -> evento.getPublicadoEm() == null);
+        assertThat(movimentacaoRhRepository.count()).isEqualTo(eventos.size());
+
+        assertThat(outboxPublicador.drenar()).isEqualTo(2);
+
+        assertThat(coletor.mensagens).extracting(MensagemOutbox::tipo)
+                .containsExactly("CONTRATACAO", "AUMENTO_SALARIAL");
+        JsonNode aumentoPublicado = objectMapper.readTree(coletor.mensagens.get(1).payload());
+        assertThat(aumentoPublicado.get("funcionarioId").asLong()).isEqualTo(id);
+        assertThat(aumentoPublicado.get("salarioNovo").decimalValue()).isEqualByComparingTo("4400.00");
+        assertThat(eventoOutboxRepository.countByPublicadoEmIsNull()).isZero();
+    }
+
+    @Test
+    void deveGravarOutboxParaContratacaoEmLote() throws Exception {
+        mockMvc.perform(post("/api/rh/funcionarios/lote")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(List.of(payload("11"), payload("12"), payload("13")))))
+                .andExpect(status().isOk());
+
+        assertThat(eventoOutboxRepository.countByPublicadoEmIsNull()).isEqualTo(3);
+        assertThat(outboxPublicador.drenar()).isEqualTo(3);
+        assertThat(coletor.mensagens).hasSize(3);
+    }
+
+    private FuncionarioPayload payload(String sufixo) {
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Otávio Outbox " + sufixo);
+        payload.setEmail("otavio" + sufixo + "@empresa.com");
+        payload.setCpf("777777777" + sufixo);
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamentoId);
+        payload.setSalarioInicial(new BigDecimal("4000.00"));
+        return payload;
+    }
+
+    @TestConfiguration
+    static class Configuracao {
+
+        @Bean
+        ColetorMensagens coletorMensagens() {
+            return new ColetorMensagens();
+        }
+    }
+
+    static class ColetorMensagens {
+
+        private final List<MensagemOutbox> mensagens = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void receber(MensagemOutbox mensagem) {
+            mensagens.add(mensagem);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+class PerfilProducaoIntegrationTest {
+
+    private static final Pattern RECURSO_VERSIONADO =
+            Pattern.compile("(?:href|src)=\"(/(?:css/style|js/app)-[0-9a-f]{32}\\.(?:css|js))\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SpringTemplateEngine templateEngine;
+
+    @Autowired
+    private ServerProperties serverProperties;
+
+    @Test
+    void devePreAquecerOsTemplatesDoRhNaSubida() throws Exception {
+        assertThat(templatesEmCache())
+                .contains("rh/lista", "rh/form", "rh/aumento", "rh/promocao", "rh/movimentacoes");
+
+        int antes = templatesEmCache().size();
+        mockMvc.perform(get("/rh/funcionarios")).andExpect(status().isOk());
+        mockMvc.perform(get("/rh/funcionarios/novo")).andExpect(status().isOk());
+        assertThat(templatesEmCache()).hasSize(antes);
+    }
+
+    @Test
+    void deveServirRecursosVersionadosImutaveis() throws Exception {
+        for (String recurso : recursosVersionados()) {
+            MockHttpServletResponse resposta = mockMvc.perform(get(recurso))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+            assertThat(resposta.getHeader(HttpHeaders.CACHE_CONTROL))
+                    .contains("max-age=31536000", "public", "immutable");
+        }
+    }
+
+    // As variantes .gz/.br só existem no build com -Pprod, que repassa esta propriedade ao surefire.
+    @Test
+    @EnabledIfSystemProperty(named = "rh.recursos.pre-comprimidos", matches = "true")
+    void deveServirVariantesPreComprimidas() throws Exception {
+        for (String recurso : recursosVersionados()) {
+            for (String codificacao : List.of("br", "gzip")) {
+                MockHttpServletResponse resposta = mockMvc.perform(get(recurso)
+                                .header(HttpHeaders.ACCEPT_ENCODING, codificacao))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, codificacao))
+                        .andReturn().getResponse();
+                assertThat(resposta.getHeader(HttpHeaders.CACHE_CONTROL))
+                        .contains("max-age=31536000", "public", "immutable");
+                assertThat(resposta.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+            }
+        }
+    }
+
+    @Test
+    void deveHabilitarCompressaoEHttp2NoTomcat() {
+        assertThat(serverProperties.getCompression().getEnabled()).isTrue();
+        assertThat(serverProperties.getHttp2().isEnabled()).isTrue();
+    }
+
+    private List<String> recursosVersionados() throws Exception {
+        String pagina = mockMvc.perform(get("/rh/funcionarios"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<String> recursos = new ArrayList<>();
+        Matcher matcher = RECURSO_VERSIONADO.matcher(pagina);
+        while (matcher.find()) {
+            recursos.add(matcher.group(1));
+        }
+        assertThat(recursos).hasSize(2);
+        return recursos;
+    }
+
+    private List<String> templatesEmCache() {
+        List<String> templates = new ArrayList<>();
+        for (TemplateCacheKey chave : templateEngine.getCacheManager().getTemplateCache().keySet()) {
+            templates.add(chave.getTemplate());
+        }
+        return templates;
+    }
+}
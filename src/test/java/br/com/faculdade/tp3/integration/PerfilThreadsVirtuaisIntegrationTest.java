@@ -0,0 +1,25 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.faculdade.tp3.Tp3PerformanceCrudWebApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+class PerfilThreadsVirtuaisIntegrationTest {
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void deveRecusarASubidaAbaixoDoJava21() {
+        SpringApplicationBuilder aplicacao = new SpringApplicationBuilder(Tp3PerformanceCrudWebApplication.class)
+                .profiles("test", "virtual-threads")
+                .web(WebApplicationType.NONE);
+
+        assertThatThrownBy(aplicacao::run)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("requer Java 21");
+    }
+}
@@ -0,0 +1,258 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.Salario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.model.enums.StatusReajuste;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.EventoOutboxRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.repository.ReajusteSalarialRepository;
+import br.com.faculdade.tp3.repository.SalarioRepository;
+import br.com.faculdade.tp3.repository.SnapshotSalarialRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.com.faculdade.tp3.integration.PlanoConsultasTest$ConsultasExecutadas")
+class PlanoConsultasTest {
+
+    private static final String VARREDURA = ".tableScan";
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    @Autowired
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private ReajusteSalarialRepository reajusteSalarialRepository;
+
+    @Autowired
+    private SalarioRepository salarioRepository;
+
+    @Autowired
+    private SnapshotSalarialRepository snapshotSalarialRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long departamentoId;
+    private Long funcionarioId;
+
+    @BeforeEach
+    void setUp() {
+        Departamento ti = departamentoRepository.save(new Departamento("Tecnologia", "TI"));
+        departamentoId = ti.getId();
+
+        Funcionario funcionario = null;
+        for (int i = 0; i < 20; i++) {
+            funcionario = funcionarioRepository.save(novoFuncionario(i, ti));
+            for (TipoMovimentacaoRh tipo : List.of(TipoMovimentacaoRh.CONTRATACAO, TipoMovimentacaoRh.AUMENTO_SALARIAL)) {
+                MovimentacaoRh movimentacao = new MovimentacaoRh();
+                movimentacao.setFuncionario(funcionario);
+                movimentacao.setTipo(tipo);
+                movimentacao.setDescricao("Plano");
+                movimentacao.setSalarioNovo(new BigDecimal("3000.00"));
+                movimentacaoRhRepository.save(movimentacao);
+            }
+        }
+        funcionarioId = funcionario.getId();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void deveAtenderCadaConsultaDosRepositoriosPorIndice() {
+        Map<String, Runnable> consultas = consultas();
+        Map<String, List<String>> varreduras = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Runnable> consulta : consultas.entrySet()) {
+            ConsultasExecutadas.SQL.clear();
+            consulta.getValue().run();
+            List<String> sql = new ArrayList<>(ConsultasExecutadas.SQL);
+            assertThat(sql).as(consulta.getKey()).isNotEmpty();
+
+            for (String comando : sql) {
+                String plano = explicar(comando);
+                if (plano.contains(VARREDURA)) {
+                    varreduras.computeIfAbsent(consulta.getKey(), chave -> new ArrayList<>()).add(plano);
+                }
+            }
+        }
+
+        assertThat(varreduras).as("consultas que recorrem a varredura de tabela").isEmpty();
+    }
+
+    private Map<String, Runnable> consultas() {
+        List<Long> ids = List.of(funcionarioId, funcionarioId - 1);
+        LocalDateTime agora = LocalDateTime.now();
+        Map<String, Runnable> consultas = new LinkedHashMap<>();
+
+        consultas.put("FuncionarioRepository.findByEmail",
+                () -> funcionarioRepository.findByEmail("plano1@empresa.com"));
+        consultas.put("FuncionarioRepository.findByCpf",
+                () -> funcionarioRepository.findByCpf("50000000001"));
+        consultas.put("FuncionarioRepository.buscarPaginaApos",
+                () -> funcionarioRepository.buscarPaginaApos("", 0L, Limit.of(10)));
+        consultas.put("FuncionarioRepository.buscarPaginaPorStatusApos",
+                () -> funcionarioRepository.buscarPaginaPorStatusApos(FuncionarioStatus.ATIVO, "", 0L, Limit.of(10)));
+        consultas.put("FuncionarioRepository.buscarResumosPorIds",
+                () -> funcionarioRepository.buscarResumosPorIds(ids));
+        consultas.put("FuncionarioRepository.countByDepartamentoIdAndStatus",
+                () -> funcionarioRepository.countByDepartamentoIdAndStatus(departamentoId, FuncionarioStatus.ATIVO));
+        consultas.put("FuncionarioRepository.buscarMaiorId",
+                () -> funcionarioRepository.buscarMaiorId());
+        consultas.put("FuncionarioRepository.buscarIds",
+                () -> funcionarioRepository.buscarIds());
+        consultas.put("FuncionarioRepository.buscarIdsParaReajuste",
+                () -> funcionarioRepository.buscarIdsParaReajuste(
+                        departamentoId, FuncionarioStatus.ATIVO, 0L, funcionarioId, Limit.of(10)));
+        consultas.put("FuncionarioRepository.buscarChavesExistentes",
+                () -> funcionarioRepository.buscarChavesExistentes(
+                        List.of("plano1@empresa.com"), List.of("50000000002")));
+        consultas.put("FuncionarioRepository.streamSituacoes",
+                () -> consumir(funcionarioRepository.streamSituacoes()));
+        consultas.put("FuncionarioRepository.streamParaExportacao",
+                () -> consumir(funcionarioRepository.streamParaExportacao()));
+        consultas.put("FuncionarioRepository.streamSituacoesCompletas",
+                () -> consumir(funcionarioRepository.streamSituacoesCompletas()));
+        consultas.put("FuncionarioRepository.buscarVersao",
+                () -> funcionarioRepository.buscarVersao(funcionarioId));
+
+        consultas.put("MovimentacaoRhRepository.findByFuncionarioIdOrderByMovimentadoEmDesc",
+                () -> movimentacaoRhRepository.findByFuncionarioIdOrderByMovimentadoEmDesc(funcionarioId));
+        consultas.put("MovimentacaoRhRepository.streamPorFuncionario",
+                () -> consumir(movimentacaoRhRepository.streamPorFuncionario(funcionarioId)));
+        consultas.put("MovimentacaoRhRepository.streamTodas",
+                () -> consumir(movimentacaoRhRepository.streamTodas()));
+        consultas.put("MovimentacaoRhRepository.findFirstByOrderByIdAsc",
+                () -> movimentacaoRhRepository.findFirstByOrderByIdAsc());
+        consultas.put("MovimentacaoRhRepository.buscarUltima",
+                () -> movimentacaoRhRepository.buscarUltima());
+        consultas.put("MovimentacaoRhRepository.resumirPorFuncionario",
+                () -> movimentacaoRhRepository.resumirPorFuncionario(funcionarioId));
+        consultas.put("MovimentacaoRhRepository.buscarCauda",
+                () -> movimentacaoRhRepository.buscarCauda(funcionarioId, 0L));
+        consultas.put("MovimentacaoRhRepository.buscarHistorico",
+                () -> movimentacaoRhRepository.buscarHistorico(ids));
+        consultas.put("MovimentacaoRhRepository.buscarPendentesDeSnapshot",
+                () -> movimentacaoRhRepository.buscarPendentesDeSnapshot(ids, 2));
+        consultas.put("MovimentacaoRhRepository.deleteByFuncionarioId",
+                () -> movimentacaoRhRepository.deleteByFuncionarioId(funcionarioId));
+
+        consultas.put("DepartamentoRepository.findAllByOrderByNomeAsc",
+                () -> departamentoRepository.findAllByOrderByNomeAsc());
+
+        consultas.put("EventoOutboxRepository.buscarPendentes",
+                () -> eventoOutboxRepository.buscarPendentes(agora, Limit.of(10)));
+        consultas.put("EventoOutboxRepository.countByPublicadoEmIsNull",
+                () -> eventoOutboxRepository.countByPublicadoEmIsNull());
+        consultas.put("EventoOutboxRepository.findByFuncionarioIdOrderByIdAsc",
+                () -> eventoOutboxRepository.findByFuncionarioIdOrderByIdAsc(funcionarioId));
+        consultas.put("EventoOutboxRepository.removerPublicadosAntes",
+                () -> eventoOutboxRepository.removerPublicadosAntes(agora));
+
+        consultas.put("ReajusteSalarialRepository.existsByDepartamentoIdAndStatus",
+                () -> reajusteSalarialRepository.existsByDepartamentoIdAndStatus(
+                        departamentoId, StatusReajuste.EM_ANDAMENTO));
+        consultas.put("ReajusteSalarialRepository.findByStatus",
+                () -> reajusteSalarialRepository.findByStatus(StatusReajuste.EM_ANDAMENTO));
+
+        consultas.put("SalarioRepository.bloquearSalarios",
+                () -> salarioRepository.bloquearSalarios(ids));
+        consultas.put("SalarioRepository.reajustar",
+                () -> salarioRepository.reajustar(ids, BigDecimal.ONE, agora));
+
+        consultas.put("SnapshotSalarialRepository.removerPorFuncionario",
+                () -> snapshotSalarialRepository.removerPorFuncionario(funcionarioId));
+        return consultas;
+    }
+
+    private String explicar(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(conexao -> planoDe(conexao, sql));
+    }
+
+    private static String planoDe(Connection conexao, String sql) throws SQLException {
+        try (PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 1; i <= explain.getParameterMetaData().getParameterCount(); i++) {
+                explain.setObject(i, null);
+            }
+            StringBuilder plano = new StringBuilder();
+            try (ResultSet resultado = explain.executeQuery()) {
+                while (resultado.next()) {
+                    plano.append(resultado.getString(1)).append('\n');
+                }
+            }
+            return plano.toString();
+        }
+    }
+
+    private static void consumir(Stream<?> stream) {
+        try (stream) {
+            stream.count();
+        }
+    }
+
+    private static Funcionario novoFuncionario(int indice, Departamento departamento) {
+        Funcionario funcionario = new Funcionario();
+        funcionario.setNome(String.format(Locale.ROOT, "Plano %02d", indice));
+        funcionario.setEmail("plano" + indice + "@empresa.com");
+        funcionario.setCpf(String.format(Locale.ROOT, "5%010d", indice));
+        funcionario.setCargo("Analista");
+        funcionario.setDepartamento(departamento);
+        funcionario.setStatus(FuncionarioStatus.ATIVO);
+        funcionario.setDataAdmissao(LocalDate.now());
+
+        Salario salario = new Salario();
+        salario.setValorAtual(new BigDecimal("3000.00"));
+        funcionario.definirSalario(salario);
+        return funcionario;
+    }
+
+    public static class ConsultasExecutadas implements StatementInspector {
+
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (!sql.startsWith("select next value")) {
+                SQL.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
+import br.com.faculdade.tp3.dto.rh.DemissaoPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.ReajusteSalarial;
+import br.com.faculdade.tp3.model.enums.StatusReajuste;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.service.RelatorioColunar;
+import br.com.faculdade.tp3.service.RhService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = ConsultasDaThread.PROPRIEDADE)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RelatorioIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RhService rhService;
+
+    @Autowired
+    private RelatorioColunar relatorioColunar;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    private Departamento departamento;
+
+    @BeforeEach
+    void setUp() {
+        long sufixo = System.nanoTime() % 100_000;
+        departamento = departamentoRepository.save(new Departamento("Relatórios " + sufixo, "L" + sufixo));
+        relatorioColunar.reconstruir();
+    }
+
+    @Test
+    void deveResponderRelatoriosDoSnapshotSemConsultarAsTabelas() throws Exception {
+        Long primeiro = rhService.contratar(payload("01", "3000.00")).getId();
+        rhService.contratar(payload("02", "5000.00"));
+        Long demitido = rhService.contratar(payload("03", "4000.00")).getId();
+        DemissaoPayload demissao = new DemissaoPayload();
+        demissao.setMotivo("Encerramento de contrato");
+        rhService.demitir(demitido, demissao);
+        rhService.aumentarSalario(primeiro, ajuste("10.00", "Mérito individual"));
+        concluir(rhService.iniciarReajuste(departamento.getId(), ajuste("10.00", "Dissídio coletivo")));
+
+        JsonNode[] respostas = new JsonNode[2];
+        YearMonth mes = YearMonth.now();
+        List<String> sql = ConsultasDaThread.capturar(() -> {
+            respostas[0] = consultar("/api/rh/relatorios/departamentos");
+            respostas[1] = consultar("/api/rh/relatorios/movimentacao-mensal?de=" + mes + "&ate=" + mes
+                    + "&departamentoId=" + departamento.getId());
+        });
+        assertThat(sql).isEmpty();
+
+        JsonNode linha = null;
+        for (JsonNode item : respostas[0]) {
+            if (item.get("departamentoId").asLong() == departamento.getId()) {
+                linha = item;
+            }
+        }
+        JsonNode mensal = respostas[1];
+
+        assertThat(linha).isNotNull();
+        assertThat(linha.get("nome").asText()).isEqualTo(departamento.getNome());
+        assertThat(linha.get("ativos").asLong()).isEqualTo(2);
+        assertThat(linha.get("inativos").asLong()).isEqualTo(1);
+        assertThat(linha.get("folha").decimalValue()).isEqualByComparingTo("9130.00");
+        assertThat(linha.get("mediaSalarial").decimalValue()).isEqualByComparingTo("4565.00");
+        assertThat(linha.get("menorSalario").decimalValue()).isEqualByComparingTo("3630.00");
+        assertThat(linha.get("maiorSalario").decimalValue()).isEqualByComparingTo("5500.00");
+
+        assertThat(mensal).hasSize(1);
+        assertThat(mensal.get(0).get("mes").asText()).isEqualTo(mes.toString());
+        assertThat(mensal.get(0).get("admissoes").asLong()).isEqualTo(3);
+        assertThat(mensal.get(0).get("demissoes").asLong()).isEqualTo(1);
+
+        rhService.excluirDefinitivamente(primeiro);
+        assertThat(consultar("/api/rh/relatorios/movimentacao-mensal?de=" + mes + "&ate=" + mes
+                + "&departamentoId=" + departamento.getId()).get(0).get("admissoes").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    void deveValidarParametrosDoRelatorioMensal() throws Exception {
+        mockMvc.perform(get("/api/rh/relatorios/movimentacao-mensal").param("de", "2024-13"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/rh/relatorios/movimentacao-mensal").param("de", "2024-05").param("ate", "2024-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/rh/relatorios/movimentacao-mensal").param("departamentoId", "999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    private void concluir(ReajusteSalarial reajuste) throws InterruptedException {
+        for (int tentativa = 0; tentativa < 100; tentativa++) {
+            if (rhService.buscarReajuste(reajuste.getId()).getStatus() != StatusReajuste.EM_ANDAMENTO) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+        assertThat(rhService.buscarReajuste(reajuste.getId()).getStatus()).isEqualTo(StatusReajuste.CONCLUIDO);
+    }
+
+    private JsonNode consultar(String url) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    private static AjusteSalarialPayload ajuste(String percentual, String motivo) {
+        AjusteSalarialPayload payload = new AjusteSalarialPayload();
+        payload.setPercentual(new BigDecimal(percentual));
+        payload.setMotivo(motivo);
+        return payload;
+    }
+
+    private FuncionarioPayload payload(String sufixo, String salario) {
+        String unico = String.valueOf(System.nanoTime() % 1_000_000_000L);
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Renata Relatório " + sufixo);
+        payload.setEmail("renata" + unico + sufixo + "@empresa.com");
+        payload.setCpf(String.format("%09d", Long.parseLong(unico)) + sufixo);
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamento.getId());
+        payload.setSalarioInicial(new BigDecimal(salario));
+        return payload;
+    }
+}
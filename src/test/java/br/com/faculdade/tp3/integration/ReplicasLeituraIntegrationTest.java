@@ -0,0 +1,179 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.faculdade.tp3.controller.ConsistenciaLeituraFilter;
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.EventoOutboxRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.repository.SnapshotSalarialRepository;
+import br.com.faculdade.tp3.service.ReplicasLeitura;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = {
+        "rh.replicas.habilitado=true",
+        "rh.replicas.urls=jdbc:h2:mem:tp3testreplica0;DB_CLOSE_DELAY=-1,jdbc:h2:mem:tp3testreplica1;DB_CLOSE_DELAY=-1",
+        "rh.replicas.intervalo-copia-ms=3600000",
+        "rh.outbox.intervalo-ms=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicasLeituraIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private SnapshotSalarialRepository snapshotSalarialRepository;
+
+    @Autowired
+    private ReplicasLeitura replicasLeitura;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long departamentoId;
+
+    @BeforeEach
+    void setUp() {
+        eventoOutboxRepository.deleteAll();
+        snapshotSalarialRepository.deleteAll();
+        movimentacaoRhRepository.deleteAll();
+        funcionarioRepository.deleteAll();
+        replicasLeitura.sincronizar();
+        departamentoId = departamentoRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    void deveLerDaReplicaEAtenderLeituraDaPropriaEscritaPeloCabecalho() throws Exception {
+        MvcResult criado = mockMvc.perform(post("/api/rh/funcionarios")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payload("01"))))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(ConsistenciaLeituraFilter.CABECALHO_VERSAO))
+                .andReturn();
+        long id = objectMapper.readTree(criado.getResponse().getContentAsString()).get("id").asLong();
+        String versao = criado.getResponse().getHeader(ConsistenciaLeituraFilter.CABECALHO_VERSAO);
+
+        double antes = leituras("replica");
+        assertThat(idsListados(null)).doesNotContain(id);
+        assertThat(leituras("replica")).isEqualTo(antes + 1);
+
+        assertThat(idsListados(versao)).contains(id);
+
+        replicasLeitura.sincronizar();
+        assertThat(idsListados(null)).contains(id);
+        assertThat(leituras("replica")).isEqualTo(antes + 2);
+    }
+
+    @Test
+    void deveManterCacheEBuscaPorNomeConsistentesComOPrimario() throws Exception {
+        MvcResult criado = mockMvc.perform(post("/api/rh/funcionarios")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payload("02"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readTree(criado.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(get("/api/rh/funcionarios/{id}", id))
+                .andExpect(status().isOk());
+
+        String resposta = mockMvc.perform(get("/api/rh/funcionarios").param("nome", "Renata Réplica 02"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readTree(resposta).get("itens").findValuesAsText("id"))
+                .containsExactly(Long.toString(id));
+    }
+
+    @Test
+    void deveMostrarContratacaoNaListagemWebAposRedirecionamento() throws Exception {
+        MvcResult salvo = mockMvc.perform(post("/rh/funcionarios/salvar")
+                        .param("nome", "Renata Réplica 03")
+                        .param("email", "renata03@empresa.com")
+                        .param("cpf", "88888888803")
+                        .param("cargo", "Analista")
+                        .param("departamentoId", departamentoId.toString())
+                        .param("salarioInicial", "4000.00"))
+                .andExpect(redirectedUrl("/rh/funcionarios"))
+                .andReturn();
+        MockHttpSession sessao = (MockHttpSession) salvo.getRequest().getSession(false);
+        assertThat(sessao).isNotNull();
+
+        mockMvc.perform(get("/rh/funcionarios").session(sessao))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.containsString("Renata Réplica 03")));
+
+        mockMvc.perform(get("/rh/funcionarios"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(Matchers.not(Matchers.containsString("Renata Réplica 03"))));
+    }
+
+    private List<Long> idsListados(String versao) throws Exception {
+        var requisicao = get("/api/rh/funcionarios");
+        if (versao != null) {
+            requisicao.header(ConsistenciaLeituraFilter.CABECALHO_VERSAO, versao);
+        }
+        String resposta = mockMvc.perform(requisicao)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode item : objectMapper.readTree(resposta).get("itens")) {
+            ids.add(item.get("id").asLong());
+        }
+        return ids;
+    }
+
+    private double leituras(String destino) {
+        return meterRegistry.get("rh.datasource.leituras").tag("destino", destino).counter().count();
+    }
+
+    private FuncionarioPayload payload(String sufixo) {
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Renata Réplica " + sufixo);
+        payload.setEmail("renata" + sufixo + "@empresa.com");
+        payload.setCpf("888888888" + sufixo);
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamentoId);
+        payload.setSalarioInicial(new BigDecimal("4000.00"));
+        return payload;
+    }
+}
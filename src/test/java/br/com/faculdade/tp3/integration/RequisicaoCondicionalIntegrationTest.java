@@ -0,0 +1,134 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.service.RhService;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = ConsultasDaThread.PROPRIEDADE)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequisicaoCondicionalIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RhService rhService;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    private Departamento departamento;
+
+    @BeforeEach
+    void setUp() {
+        long sufixo = System.nanoTime() % 100_000;
+        departamento = departamentoRepository.save(new Departamento("Condicional " + sufixo, "C" + sufixo));
+    }
+
+    @Test
+    void deveResponderNaoModificadoParaFuncionarioAteAProximaAlteracao() throws Exception {
+        Long id = rhService.contratar(payload("01")).getId();
+        String url = "/api/rh/funcionarios/" + id;
+
+        MockHttpServletResponse primeira = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        String etag = primeira.getHeader(HttpHeaders.ETAG);
+        assertThat(primeira.getHeaders(HttpHeaders.ETAG)).hasSize(1);
+        assertThat(etag).startsWith("\"f" + id + "-");
+        assertThat(primeira.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(primeira.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+
+        List<String> sql = ConsultasDaThread.capturar(() -> mockMvc.perform(get(url)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified()));
+        assertThat(sql).hasSize(1);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_MODIFIED_SINCE, primeira.getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isNotModified());
+
+        rhService.aumentarSalario(id, ajuste());
+
+        MockHttpServletResponse alterada = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        assertThat(alterada.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(alterada.getContentAsString()).contains("3300");
+    }
+
+    @Test
+    void deveValidarHistoricoPelaUltimaMovimentacao() throws Exception {
+        Long id = rhService.contratar(payload("02")).getId();
+        String url = "/api/rh/funcionarios/" + id + "/movimentacoes";
+
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"m" + id + "-1-");
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        rhService.aumentarSalario(id, ajuste());
+
+        String novo = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(novo).startsWith("\"m" + id + "-2-");
+    }
+
+    @Test
+    void deveInvalidarListagemAposQualquerEscrita() throws Exception {
+        String etag = mockMvc.perform(get("/api/rh/funcionarios"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/rh/funcionarios").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        rhService.contratar(payload("03"));
+
+        mockMvc.perform(get("/api/rh/funcionarios").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deveIgnorarValidadorDeFuncionarioInexistente() throws Exception {
+        mockMvc.perform(get("/api/rh/funcionarios/999999999").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static AjusteSalarialPayload ajuste() {
+        AjusteSalarialPayload payload = new AjusteSalarialPayload();
+        payload.setPercentual(new BigDecimal("10.00"));
+        payload.setMotivo("Mérito individual");
+        return payload;
+    }
+
+    private FuncionarioPayload payload(String sufixo) {
+        String unico = String.format("%09d", System.nanoTime() % 1_000_000_000L);
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Clara Condicional " + sufixo);
+        payload.setEmail("clara" + unico + sufixo + "@empresa.com");
+        payload.setCpf(unico + sufixo);
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamento.getId());
+        payload.setSalarioInicial(new BigDecimal("3000.00"));
+        return payload;
+    }
+}
@@ -1,10 +1,14 @@
 package br.com.faculdade.tp3.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
@@ -15,9 +19,11 @@ import br.com.faculdade.tp3.model.Departamento;
 import br.com.faculdade.tp3.repository.DepartamentoRepository;
 import br.com.faculdade.tp3.repository.FuncionarioRepository;
 import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.service.LimitadorConcorrencia;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -51,6 +57,9 @@ class RhApiControllerIntegrationTest {
     @Autowired
     private MovimentacaoRhRepository movimentacaoRhRepository;
 
+    @Autowired
+    private LimitadorConcorrencia limitadorConcorrencia;
+
     private Long departamentoId;
 
     @BeforeEach
@@ -134,7 +143,35 @@ class RhApiControllerIntegrationTest {
 
         mockMvc.perform(get("/api/rh/funcionarios").param("ativos", "true"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].status").value("ATIVO"));
+                .andExpect(jsonPath("$.itens[0].status").value("ATIVO"));
+    }
+
+    @Test
+    void devePaginarFuncionariosComCursor() throws Exception {
+        for (String sufixo : List.of("0005", "0006", "0007")) {
+            mockMvc.perform(post("/api/rh/funcionarios")
+                            .contentType("application/json")
+                            .content(objectMapper.writeValueAsString(funcionarioPayload(sufixo, "Analista"))))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult primeiraPagina = mockMvc.perform(get("/api/rh/funcionarios").param("tamanho", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(2))
+                .andExpect(jsonPath("$.itens[0].nome").value("Juliana 0005"))
+                .andExpect(jsonPath("$.next").isString())
+                .andReturn();
+
+        String cursor = objectMapper.readTree(primeiraPagina.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/api/rh/funcionarios").param("tamanho", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].nome").value("Juliana 0007"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        mockMvc.perform(get("/api/rh/funcionarios").param("cursor", "nao-e-um-cursor"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -148,20 +185,22 @@ class RhApiControllerIntegrationTest {
 
     @Test
     void deveSimularSobrecargaEmConcorrencia() throws Exception {
-        ExecutorService executor = Executors.newFixedThreadPool(2);
+        int chamadas = limitadorConcorrencia.getLimite() + 1;
+        ExecutorService executor = Executors.newFixedThreadPool(chamadas);
         try {
-            Future<Integer> primeira = executor.submit(() ->
-                    mockMvc.perform(get("/api/rh/diagnostico/sobrecarga").param("holdMs", "250"))
-                            .andReturn().getResponse().getStatus());
-
-            Thread.sleep(30);
-
-            Future<Integer> segunda = executor.submit(() ->
-                    mockMvc.perform(get("/api/rh/diagnostico/sobrecarga").param("holdMs", "250"))
-                            .andReturn().getResponse().getStatus());
-
-            List<Integer> status = List.of(primeira.get(), segunda.get());
+            List<Future<Integer>> respostas = new ArrayList<>();
+            for (int i = 0; i < chamadas; i++) {
+                respostas.add(executor.submit(() ->
+                        mockMvc.perform(get("/api/rh/diagnostico/sobrecarga").param("holdMs", "1000"))
+                                .andReturn().getResponse().getStatus()));
+            }
+
+            List<Integer> status = new ArrayList<>();
+            for (Future<Integer> resposta : respostas) {
+                status.add(resposta.get());
+            }
             assertThat(status).contains(200, 503);
+            assertThat(limitadorConcorrencia.getEmVoo()).isZero();
         } finally {
             executor.shutdownNow();
         }
@@ -189,6 +228,212 @@ class RhApiControllerIntegrationTest {
                 .andExpect(jsonPath("$.nome").value("Juliana Lima"));
     }
 
+    @Test
+    void deveBuscarFuncionarioPorNomeIgnorandoAcentos() throws Exception {
+        FuncionarioPayload payload = funcionarioPayload("0008", "Analista");
+        payload.setNome("Conceição Araújo");
+        mockMvc.perform(post("/api/rh/funcionarios")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/rh/funcionarios").param("nome", "conceicao ara"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].nome").value("Conceição Araújo"))
+                .andExpect(jsonPath("$.itens[0].sigla").isString());
+    }
+
+    @Test
+    void deveExportarFuncionariosEmCsvENdjson() throws Exception {
+        FuncionarioPayload payload = funcionarioPayload("0009", "Analista");
+        payload.setNome("Silva, Ana");
+        mockMvc.perform(post("/api/rh/funcionarios")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isCreated());
+
+        MvcResult csv = mockMvc.perform(get("/api/rh/funcionarios/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String corpoCsv = mockMvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"funcionarios.csv\""))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> linhas = corpoCsv.lines().toList();
+        assertThat(linhas).hasSize(2);
+        assertThat(linhas.get(0)).startsWith("id,nome,email,cpf");
+        assertThat(linhas.get(1)).contains("\"Silva, Ana\",juliana0009@empresa.com");
+
+        MvcResult ndjson = mockMvc.perform(get("/api/rh/funcionarios/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String corpoNdjson = mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode linha = objectMapper.readTree(corpoNdjson.lines().findFirst().orElseThrow());
+        assertThat(linha.get("nome").asText()).isEqualTo("Silva, Ana");
+        assertThat(linha.get("dataAdmissao").asText()).matches("\\d{4}-\\d{2}-\\d{2}");
+
+        mockMvc.perform(get("/api/rh/funcionarios/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deveExportarMovimentacoesDoFuncionario() throws Exception {
+        MvcResult contratacao = mockMvc.perform(post("/api/rh/funcionarios")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(funcionarioPayload("0010", "Analista"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readTree(contratacao.getResponse().getContentAsString()).get("id").asLong();
+
+        MvcResult exportacao = mockMvc.perform(get("/api/rh/funcionarios/{id}/movimentacoes/export", id)
+                        .param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String corpo = mockMvc.perform(asyncDispatch(exportacao))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode movimentacao = objectMapper.readTree(corpo.lines().findFirst().orElseThrow());
+        assertThat(movimentacao.get("funcionarioId").asLong()).isEqualTo(id);
+        assertThat(movimentacao.get("tipo").asText()).isEqualTo("CONTRATACAO");
+
+        mockMvc.perform(get("/api/rh/funcionarios/{id}/movimentacoes/export", 999999L))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deveReajustarDepartamentoEmBlocos() throws Exception {
+        Departamento departamento = departamentoRepository.save(
+                new Departamento("Reajuste " + System.nanoTime(), "R" + (System.nanoTime() % 100_000)));
+        List<Long> ids = new ArrayList<>();
+        for (String sufixo : List.of("0011", "0012", "0013", "0014", "0015")) {
+            FuncionarioPayload payload = funcionarioPayload(sufixo, "Analista");
+            payload.setDepartamentoId(departamento.getId());
+            MvcResult contratacao = mockMvc.perform(post("/api/rh/funcionarios")
+                            .contentType("application/json")
+                            .content(objectMapper.writeValueAsString(payload)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            ids.add(objectMapper.readTree(contratacao.getResponse().getContentAsString()).get("id").asLong());
+        }
+
+        AjusteSalarialPayload reajuste = new AjusteSalarialPayload();
+        reajuste.setPercentual(new BigDecimal("10.00"));
+        reajuste.setMotivo("Dissídio coletivo");
+
+        MvcResult inicio = mockMvc.perform(post("/api/rh/departamentos/{id}/reajuste", departamento.getId())
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(reajuste)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.totalFuncionarios").value(5))
+                .andReturn();
+        long reajusteId = objectMapper.readTree(inicio.getResponse().getContentAsString()).get("id").asLong();
+
+        JsonNode progresso = null;
+        for (int tentativa = 0; tentativa < 100; tentativa++) {
+            progresso = objectMapper.readTree(mockMvc.perform(get("/api/rh/reajustes/{id}", reajusteId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            if (!"EM_ANDAMENTO".equals(progresso.get("status").asText())) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+
+        assertThat(progresso.get("status").asText()).isEqualTo("CONCLUIDO");
+        assertThat(progresso.get("processados").asLong()).isEqualTo(5);
+
+        for (Long id : ids) {
+            mockMvc.perform(get("/api/rh/funcionarios/{id}", id))
+                    .andExpect(jsonPath("$.salario.valorAtual").value(4400.00));
+            mockMvc.perform(get("/api/rh/funcionarios/{id}/movimentacoes", id))
+                    .andExpect(jsonPath("$.length()").value(2));
+        }
+
+        mockMvc.perform(post("/api/rh/reajustes/{id}/retomar", reajusteId))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deveServirLeiturasDoCacheEInvalidarNaAtualizacao() throws Exception {
+        MvcResult contratacao = mockMvc.perform(post("/api/rh/funcionarios")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(funcionarioPayload("0016", "Analista"))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readTree(contratacao.getResponse().getContentAsString()).get("id").asLong();
+
+        long acertosAntes = acertosDoCache("funcionarios");
+        mockMvc.perform(get("/api/rh/funcionarios/{id}", id)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/rh/funcionarios/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cargo").value("Analista"));
+        assertThat(acertosDoCache("funcionarios")).isEqualTo(acertosAntes + 1);
+
+        FuncionarioPayload atualizacao = funcionarioPayload("0016", "Coordenadora");
+        atualizacao.setId(id);
+        mockMvc.perform(put("/api/rh/funcionarios/{id}", id)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(atualizacao)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/rh/funcionarios/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cargo").value("Coordenadora"));
+
+        mockMvc.perform(get("/api/rh/departamentos")).andExpect(status().isOk());
+        long acertosDepartamentos = acertosDoCache("departamentos");
+        mockMvc.perform(get("/api/rh/departamentos")).andExpect(status().isOk());
+        assertThat(acertosDoCache("departamentos")).isEqualTo(acertosDepartamentos + 1);
+    }
+
+    private long acertosDoCache(String nome) throws Exception {
+        JsonNode caches = objectMapper.readTree(mockMvc.perform(get("/api/rh/diagnostico/cache"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        for (JsonNode cache : caches) {
+            if (nome.equals(cache.get("nome").asText())) {
+                return cache.get("acertos").asLong();
+            }
+        }
+        throw new AssertionError("Cache não encontrado: " + nome);
+    }
+
+    @Test
+    void deveLiberarLimitadorAoConcluirRequisicoes() throws Exception {
+        long rejeitadasAntes = limitadorConcorrencia.estatisticas().rejeitadas();
+        mockMvc.perform(get("/api/rh/departamentos")).andExpect(status().isOk());
+        MvcResult exportacao = mockMvc.perform(get("/api/rh/funcionarios/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(exportacao)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/rh/diagnostico/limitador"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.limite").isNumber())
+                .andExpect(jsonPath("$.emVoo").value(0))
+                .andExpect(jsonPath("$.aceitas").isNumber())
+                .andExpect(jsonPath("$.rejeitadas").value(rejeitadasAntes));
+    }
+
+    @Test
+    void deveExporEstadoDosCircuitosPorCompartimento() throws Exception {
+        mockMvc.perform(get("/api/rh/funcionarios")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/rh/diagnostico/resiliencia"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].nome").value("rhEscrita"))
+                .andExpect(jsonPath("$[0].maxChamadasSimultaneas").isNumber())
+                .andExpect(jsonPath("$[1].nome").value("rhLeitura"))
+                .andExpect(jsonPath("$[1].estado").value("CLOSED"));
+    }
+
     private FuncionarioPayload funcionarioPayload(String sufixo, String cargo) {
         FuncionarioPayload payload = new FuncionarioPayload();
         payload.setNome("Juliana " + sufixo);
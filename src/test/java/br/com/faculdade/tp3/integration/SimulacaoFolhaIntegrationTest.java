@@ -0,0 +1,182 @@
+package br.com.faculdade.tp3.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
+import br.com.faculdade.tp3.dto.rh.DemissaoPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.EventoOutboxRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.repository.SnapshotSalarialRepository;
+import br.com.faculdade.tp3.service.RhService;
+import br.com.faculdade.tp3.service.SimulacaoFolhaService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "rh.outbox.intervalo-ms=3600000")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SimulacaoFolhaIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RhService rhService;
+
+    @Autowired
+    private SimulacaoFolhaService simulacaoFolhaService;
+
+    @Autowired
+    private DepartamentoRepository departamentoRepository;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private SnapshotSalarialRepository snapshotSalarialRepository;
+
+    private Long tiId;
+    private Long outroId;
+
+    @BeforeEach
+    void setUp() {
+        eventoOutboxRepository.deleteAll();
+        snapshotSalarialRepository.deleteAll();
+        movimentacaoRhRepository.deleteAll();
+        funcionarioRepository.deleteAll();
+        simulacaoFolhaService.reconstruir();
+        List<Departamento> departamentos = departamentoRepository.findAll();
+        tiId = departamentos.get(0).getId();
+        outroId = departamentos.get(1).getId();
+    }
+
+    @Test
+    void deveSimularCenarioPorDepartamentoSemGravarSalarios() throws Exception {
+        Long ti = rhService.contratar(payload("01", tiId, "3333.33")).getId();
+        rhService.contratar(payload("02", outroId, "2000.00"));
+        rhService.contratar(payload("03", outroId, "5000.00"));
+        Long demitido = rhService.contratar(payload("04", tiId, "9000.00")).getId();
+        rhService.demitir(demitido, demissao());
+        long movimentacoes = movimentacaoRhRepository.count();
+
+        JsonNode resposta = simular("""
+                {"regras": [{"departamentoId": %d, "percentual": 7}], "percentualDemais": 3}
+                """.formatted(tiId));
+
+        assertThat(resposta.get("funcionarios").asLong()).isEqualTo(3);
+        assertThat(resposta.get("folhaAtual").decimalValue()).isEqualByComparingTo("10333.33");
+        assertThat(resposta.get("folhaSimulada").decimalValue()).isEqualByComparingTo("10776.66");
+        assertThat(resposta.get("diferenca").decimalValue()).isEqualByComparingTo("443.33");
+        assertThat(resposta.get("variacaoPercentual").decimalValue()).isEqualByComparingTo("4.29");
+        assertThat(resposta.get("distribuicaoSimulada").get("mediana").decimalValue()).isEqualByComparingTo("3566.66");
+        assertThat(resposta.get("distribuicaoSimulada").get("maximo").decimalValue()).isEqualByComparingTo("5150.00");
+
+        JsonNode departamentoTi = departamento(resposta, tiId);
+        assertThat(departamentoTi.get("funcionarios").asLong()).isEqualTo(1);
+        assertThat(departamentoTi.get("percentual").decimalValue()).isEqualByComparingTo("7.00");
+        assertThat(departamentoTi.get("folhaSimulada").decimalValue()).isEqualByComparingTo("3566.66");
+        assertThat(departamento(resposta, outroId).get("folhaSimulada").decimalValue())
+                .isEqualByComparingTo("7210.00");
+
+        assertThat(funcionarioRepository.findById(ti).orElseThrow().getSalario().getValorAtual())
+                .isEqualByComparingTo("3333.33");
+        assertThat(movimentacaoRhRepository.count()).isEqualTo(movimentacoes);
+    }
+
+    @Test
+    void deveReaproveitarFolhaCarregadaAteONovoCommit() throws Exception {
+        Long id = rhService.contratar(payload("05", tiId, "4000.00")).getId();
+        String cenario = "{\"percentualDemais\": 10}";
+
+        JsonNode primeira = simular(cenario);
+        JsonNode segunda = simular(cenario);
+        assertThat(segunda.get("versaoBase").asLong()).isEqualTo(primeira.get("versaoBase").asLong());
+
+        AjusteSalarialPayload aumento = new AjusteSalarialPayload();
+        aumento.setPercentual(new BigDecimal("5.00"));
+        aumento.setMotivo("Aumento antes da simulação");
+        rhService.aumentarSalario(id, aumento);
+
+        JsonNode depois = simular(cenario);
+        assertThat(depois.get("versaoBase").asLong()).isGreaterThan(primeira.get("versaoBase").asLong());
+        assertThat(depois.get("folhaAtual").decimalValue()).isEqualByComparingTo("4200.00");
+        assertThat(depois.get("folhaSimulada").decimalValue()).isEqualByComparingTo("4620.00");
+    }
+
+    @Test
+    void deveValidarCenario() throws Exception {
+        mockMvc.perform(post("/api/rh/simulacoes/folha")
+                        .contentType("application/json")
+                        .content("{\"percentualDemais\": 301}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/rh/simulacoes/folha")
+                        .contentType("application/json")
+                        .content("""
+                                {"regras": [{"departamentoId": %d, "percentual": 1}, {"departamentoId": %d, "percentual": 2}]}
+                                """.formatted(tiId, tiId)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/rh/simulacoes/folha")
+                        .contentType("application/json")
+                        .content("{\"regras\": [{\"departamentoId\": 999999, \"percentual\": 1}]}"))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode simular(String cenario) throws Exception {
+        String resposta = mockMvc.perform(post("/api/rh/simulacoes/folha")
+                        .contentType("application/json")
+                        .content(cenario))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(resposta);
+    }
+
+    private static JsonNode departamento(JsonNode resposta, Long id) {
+        for (JsonNode departamento : resposta.get("departamentos")) {
+            if (departamento.get("departamentoId").asLong() == id) {
+                return departamento;
+            }
+        }
+        throw new AssertionError("Departamento ausente da simulação: " + id);
+    }
+
+    private static DemissaoPayload demissao() {
+        DemissaoPayload payload = new DemissaoPayload();
+        payload.setMotivo("Encerramento de contrato");
+        return payload;
+    }
+
+    private static FuncionarioPayload payload(String sufixo, Long departamentoId, String salario) {
+        FuncionarioPayload payload = new FuncionarioPayload();
+        payload.setNome("Simone Simulação " + sufixo);
+        payload.setEmail("simone" + sufixo + "@empresa.com");
+        payload.setCpf("666666666" + sufixo);
+        payload.setCargo("Analista");
+        payload.setDepartamentoId(departamentoId);
+        payload.setSalarioInicial(new BigDecimal(salario));
+        return payload;
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.faculdade.tp3.config.CacheConfig;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResponse;
+import br.com.faculdade.tp3.exception.RecursoNaoEncontradoException;
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.service.CacheFuncionarios;
+import br.com.faculdade.tp3.service.ConsistenciaLeitura;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionExecution;
+
+class CacheFuncionariosTest {
+
+    private FuncionarioRepository funcionarioRepository;
+    private ConsistenciaLeitura consistenciaLeitura;
+    private CacheFuncionarios cache;
+
+    @BeforeEach
+    void setUp() {
+        funcionarioRepository = mock(FuncionarioRepository.class);
+        consistenciaLeitura = new ConsistenciaLeitura();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.FUNCIONARIOS);
+        cache = new CacheFuncionarios(
+                funcionarioRepository, consistenciaLeitura, mock(PlatformTransactionManager.class), cacheManager);
+    }
+
+    @Test
+    void deveGuardarRecordImutavelEServirSemConsultar() {
+        when(funcionarioRepository.findById(1L)).thenReturn(Optional.of(funcionario(1L, "Analista")));
+
+        FuncionarioResponse primeira = cache.buscar(1L);
+        FuncionarioResponse segunda = cache.buscar(1L);
+
+        assertThat(segunda).isSameAs(primeira);
+        assertThat(segunda.cargo()).isEqualTo("Analista");
+        verify(funcionarioRepository, times(1)).findById(1L);
+        assertThatThrownBy(() -> cache.buscar(2L)).isInstanceOf(RecursoNaoEncontradoException.class);
+    }
+
+    @Test
+    void naoDeveReporLeituraAnteriorAoCommitDepoisDaInvalidacao() {
+        AtomicInteger leituras = new AtomicInteger();
+        when(funcionarioRepository.findById(1L)).thenAnswer(chamada -> {
+            if (leituras.getAndIncrement() > 0) {
+                return Optional.of(funcionario(1L, "Coordenadora"));
+            }
+            Funcionario lido = funcionario(1L, "Analista");
+            cache.invalidar(1L);
+            commit();
+            return Optional.of(lido);
+        });
+
+        assertThat(cache.buscar(1L).cargo()).isEqualTo("Analista");
+        assertThat(cache.buscar(1L).cargo()).isEqualTo("Coordenadora");
+        assertThat(cache.buscar(1L).cargo()).isEqualTo("Coordenadora");
+        verify(funcionarioRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void naoDeveGuardarLeituraDeReplicaAnteriorAInvalidacao() {
+        commit();
+        cache.invalidar(1L);
+        commit();
+        when(funcionarioRepository.findById(1L)).thenAnswer(chamada -> {
+            consistenciaLeitura.registrarVersaoLida(1);
+            return Optional.of(funcionario(1L, "Analista"));
+        });
+
+        cache.buscar(1L);
+        cache.buscar(1L);
+
+        verify(funcionarioRepository, times(2)).findById(1L);
+    }
+
+    private void commit() {
+        TransactionExecution transacao = mock(TransactionExecution.class);
+        consistenciaLeitura.afterCommit(transacao, null);
+    }
+
+    private static Funcionario funcionario(Long id, String cargo) {
+        Funcionario funcionario = new Funcionario();
+        funcionario.setId(id);
+        funcionario.setNome("Funcionário " + id);
+        funcionario.setCargo(cargo);
+        return funcionario;
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import br.com.faculdade.tp3.dto.rh.TotaisDepartamento;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.SalarioVigente;
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.service.ContadoresDepartamento;
+import br.com.faculdade.tp3.service.FuncionarioAlteradoEvent;
+import br.com.faculdade.tp3.service.SalariosReajustadosEvent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ContadoresDepartamentoTest {
+
+    private ContadoresDepartamento contadores;
+
+    @BeforeEach
+    void setUp() {
+        FuncionarioRepository funcionarioRepository = mock(FuncionarioRepository.class);
+        DepartamentoRepository departamentoRepository = mock(DepartamentoRepository.class);
+        when(departamentoRepository.findAll()).thenReturn(List.of(departamento(2L), departamento(1L), departamento(3L)));
+        when(funcionarioRepository.streamSituacoesCompletas()).thenReturn(Stream.of(
+                situacao(10L, 1L, FuncionarioStatus.ATIVO, "3000.00"),
+                situacao(11L, 1L, FuncionarioStatus.ATIVO, "4500.50"),
+                situacao(12L, 2L, FuncionarioStatus.INATIVO, "7000.00")
+        ));
+        contadores = new ContadoresDepartamento(funcionarioRepository, departamentoRepository);
+        contadores.reconstruir();
+    }
+
+    @Test
+    void deveReconstruirTotaisPorDepartamentoEStatus() {
+        List<TotaisDepartamento> totais = contadores.totais();
+
+        assertThat(totais).containsExactly(
+                new TotaisDepartamento(1L, 2, new BigDecimal("7500.50"), 0, new BigDecimal("0.00")),
+                new TotaisDepartamento(2L, 0, new BigDecimal("0.00"), 1, new BigDecimal("7000.00")),
+                new TotaisDepartamento(3L, 0, new BigDecimal("0.00"), 0, new BigDecimal("0.00"))
+        );
+    }
+
+    @Test
+    void deveAplicarDiferencaDeCadaAlteracao() {
+        contadores.aoAlterarFuncionario(FuncionarioAlteradoEvent.contratado(
+                situacao(13L, 3L, FuncionarioStatus.ATIVO, "2000.00")));
+        contadores.aoAlterarFuncionario(new FuncionarioAlteradoEvent(
+                10L,
+                situacao(10L, 1L, FuncionarioStatus.ATIVO, "3000.00"),
+                situacao(10L, 3L, FuncionarioStatus.ATIVO, "3300.00")
+        ));
+        contadores.aoAlterarFuncionario(new FuncionarioAlteradoEvent(
+                11L,
+                situacao(11L, 1L, FuncionarioStatus.ATIVO, "4500.50"),
+                situacao(11L, 1L, FuncionarioStatus.INATIVO, "4500.50")
+        ));
+        contadores.aoAlterarFuncionario(FuncionarioAlteradoEvent.excluido(
+                situacao(12L, 2L, FuncionarioStatus.INATIVO, "7000.00")));
+        contadores.aoReajustarSalarios(new SalariosReajustadosEvent(
+                3L,
+                List.of(new SalarioVigente(10L, new BigDecimal("3300.00")),
+                        new SalarioVigente(13L, new BigDecimal("2000.00"))),
+                List.of(new SalarioVigente(10L, new BigDecimal("3630.00")),
+                        new SalarioVigente(13L, new BigDecimal("2200.00")))
+        ));
+
+        assertThat(contadores.totais()).containsExactly(
+                new TotaisDepartamento(1L, 0, new BigDecimal("0.00"), 1, new BigDecimal("4500.50")),
+                new TotaisDepartamento(2L, 0, new BigDecimal("0.00"), 0, new BigDecimal("0.00")),
+                new TotaisDepartamento(3L, 2, new BigDecimal("5830.00"), 0, new BigDecimal("0.00"))
+        );
+    }
+
+    @Test
+    void deveSomarAlteracoesConcorrentesSemPerderIncrementos() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                long base = 1_000L * (t + 1);
+                tarefas.add(executor.submit(() -> {
+                    for (long id = base; id < base + 500; id++) {
+                        contadores.aoAlterarFuncionario(FuncionarioAlteradoEvent.contratado(
+                                situacao(id, 4L, FuncionarioStatus.ATIVO, "1000.01")));
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        TotaisDepartamento novo = contadores.totais().get(3);
+        assertThat(novo.departamentoId()).isEqualTo(4L);
+        assertThat(novo.ativos()).isEqualTo(4_000);
+        assertThat(novo.folhaAtivos()).isEqualByComparingTo("4000040.00");
+    }
+
+    private static SituacaoFuncionario situacao(Long id, Long departamentoId, FuncionarioStatus status, String salario) {
+        return new SituacaoFuncionario(
+                id,
+                "Funcionário " + id,
+                status,
+                departamentoId,
+                new BigDecimal(salario),
+                LocalDate.of(2024, 1, 10),
+                status == FuncionarioStatus.INATIVO ? LocalDate.of(2024, 6, 1) : null
+        );
+    }
+
+    private static Departamento departamento(Long id) {
+        Departamento departamento = new Departamento("Departamento " + id, "D" + id);
+        departamento.setId(id);
+        return departamento;
+    }
+}
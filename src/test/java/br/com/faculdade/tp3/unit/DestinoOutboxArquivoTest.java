@@ -0,0 +1,37 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.faculdade.tp3.service.DestinoOutboxArquivo;
+import br.com.faculdade.tp3.service.MensagemOutbox;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DestinoOutboxArquivoTest {
+
+    @TempDir
+    private Path diretorio;
+
+    @Test
+    void deveAcrescentarLoteAoArquivoNdjsonSomenteAoConcluir() throws Exception {
+        Path arquivo = diretorio.resolve("outbox/movimentacoes.ndjson");
+        DestinoOutboxArquivo destino = new DestinoOutboxArquivo(arquivo);
+
+        destino.enviar(new MensagemOutbox(1L, 10L, "CONTRATACAO", "{\"movimentacaoId\":1}"));
+        destino.enviar(new MensagemOutbox(2L, 10L, "PROMOCAO", "{\"movimentacaoId\":2}"));
+        assertThat(arquivo).doesNotExist();
+
+        destino.concluirLote();
+        destino.enviar(new MensagemOutbox(3L, 11L, "DEMISSAO", "{\"movimentacaoId\":3}"));
+        destino.concluirLote();
+        destino.concluirLote();
+
+        assertThat(Files.readAllLines(arquivo)).containsExactly(
+                "{\"movimentacaoId\":1}",
+                "{\"movimentacaoId\":2}",
+                "{\"movimentacaoId\":3}"
+        );
+    }
+}
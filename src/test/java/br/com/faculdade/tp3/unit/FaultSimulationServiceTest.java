@@ -7,12 +7,21 @@ import br.com.faculdade.tp3.exception.EntradaInvalidaException;
 import br.com.faculdade.tp3.exception.SobrecargaSistemaException;
 import br.com.faculdade.tp3.exception.TimeoutServicoException;
 import br.com.faculdade.tp3.service.FaultSimulationService;
+import br.com.faculdade.tp3.service.LimitadorConcorrencia;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class FaultSimulationServiceTest {
 
-    private final FaultSimulationService service = new FaultSimulationService();
+    private final LimitadorConcorrencia limitador = new LimitadorConcorrencia(new SimpleMeterRegistry(), 1, 1, 1);
+
+    private final FaultSimulationService service = new FaultSimulationService(limitador);
 
     @Test
     void deveRetornarSucessoQuandoNaoHaTimeout() {
@@ -48,6 +57,37 @@ class FaultSimulationServiceTest {
 
         assertThat(sobrecargaDetectada).isTrue();
         assertThat(primeira.join()).contains("processada");
+        assertThat(limitador.getEmVoo()).isZero();
+        assertThat(limitador.estatisticas().rejeitadas()).isPositive();
+    }
+
+    @Test
+    void deveExecutarProcessamentoNoExecutorInjetado() {
+        AtomicInteger execucoes = new AtomicInteger();
+        FaultSimulationService comExecutor = new FaultSimulationService(tarefa -> {
+            execucoes.incrementAndGet();
+            new Thread(tarefa).start();
+        }, limitador);
+
+        assertThat(comExecutor.simularTimeout(10, 500)).contains("finalizado");
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void deveInterromperProcessamentoQuandoTimeoutExpira() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch liberada = new CountDownLatch(1);
+        try {
+            FaultSimulationService comExecutor = new FaultSimulationService(executor, limitador);
+
+            assertThatThrownBy(() -> comExecutor.simularTimeout(10_000, 50))
+                    .isInstanceOf(TimeoutServicoException.class);
+
+            executor.execute(liberada::countDown);
+            assertThat(liberada.await(2, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     @Test
@@ -0,0 +1,173 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.faculdade.tp3.dto.rh.DepartamentoSimulado;
+import br.com.faculdade.tp3.dto.rh.SimulacaoFolhaResponse;
+import br.com.faculdade.tp3.exception.RecursoNaoEncontradoException;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.service.FolhaSalarial;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class FolhaSalarialTest {
+
+    private final List<Departamento> departamentos = List.of(
+            departamento(3L, "Tecnologia"),
+            departamento(1L, "Financeiro"),
+            departamento(2L, "Jurídico"),
+            departamento(4L, "Vazio")
+    );
+
+    @Test
+    void deveCalcularComOMesmoArredondamentoDoAumentoIndividual() {
+        Random random = new Random(42);
+        FolhaSalarial.Construtor construtor = FolhaSalarial.construtor(departamentos);
+        Map<Long, List<BigDecimal>> salarios = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            long departamentoId = 1 + random.nextInt(3);
+            BigDecimal salario = BigDecimal.valueOf(150_000 + random.nextInt(5_000_000), 2);
+            construtor.adicionar(departamentoId, salario);
+            salarios.computeIfAbsent(departamentoId, id -> new ArrayList<>()).add(salario);
+        }
+        FolhaSalarial folha = construtor.construir(7, ForkJoinPool.commonPool());
+
+        Map<Long, BigDecimal> percentuais = Map.of(3L, new BigDecimal("7.35"), 2L, BigDecimal.ZERO.setScale(2));
+        BigDecimal demais = new BigDecimal("3.00");
+        SimulacaoFolhaResponse resposta = folha.simular(percentuais, demais);
+
+        List<BigDecimal> simulados = new ArrayList<>();
+        BigDecimal totalAtual = BigDecimal.ZERO;
+        BigDecimal totalSimulado = BigDecimal.ZERO;
+        for (DepartamentoSimulado departamento : resposta.departamentos()) {
+            BigDecimal percentual = percentuais.getOrDefault(departamento.departamentoId(), demais);
+            BigDecimal atual = BigDecimal.ZERO;
+            BigDecimal simulado = BigDecimal.ZERO;
+            for (BigDecimal salario : salarios.getOrDefault(departamento.departamentoId(), List.of())) {
+                BigDecimal novo = reajustar(salario, percentual);
+                atual = atual.add(salario);
+                simulado = simulado.add(novo);
+                simulados.add(novo);
+            }
+            assertThat(departamento.percentual()).isEqualByComparingTo(percentual);
+            assertThat(departamento.folhaAtual()).isEqualByComparingTo(atual);
+            assertThat(departamento.folhaSimulada()).isEqualByComparingTo(simulado);
+            assertThat(departamento.diferenca()).isEqualByComparingTo(simulado.subtract(atual));
+            totalAtual = totalAtual.add(atual);
+            totalSimulado = totalSimulado.add(simulado);
+        }
+
+        assertThat(resposta.funcionarios()).isEqualTo(100_000);
+        assertThat(resposta.versaoBase()).isEqualTo(7);
+        assertThat(resposta.departamentos()).extracting(DepartamentoSimulado::departamentoId)
+                .containsExactly(1L, 2L, 3L, 4L);
+        assertThat(resposta.departamentos().get(3).funcionarios()).isZero();
+        assertThat(resposta.folhaAtual()).isEqualByComparingTo(totalAtual);
+        assertThat(resposta.folhaSimulada()).isEqualByComparingTo(totalSimulado);
+        assertThat(resposta.diferenca()).isEqualByComparingTo(totalSimulado.subtract(totalAtual));
+
+        simulados.sort(null);
+        assertThat(resposta.distribuicaoSimulada().minimo()).isEqualByComparingTo(simulados.get(0));
+        assertThat(resposta.distribuicaoSimulada().mediana()).isEqualByComparingTo(simulados.get(49_999));
+        assertThat(resposta.distribuicaoSimulada().p90()).isEqualByComparingTo(simulados.get(89_999));
+        assertThat(resposta.distribuicaoSimulada().maximo()).isEqualByComparingTo(simulados.get(99_999));
+        assertThat(resposta.distribuicaoSimulada().media())
+                .isEqualByComparingTo(totalSimulado.divide(BigDecimal.valueOf(100_000), 2, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    void deveCalcularQuantisPorPostoMaisProximo() {
+        FolhaSalarial folha = FolhaSalarial.construtor(departamentos)
+                .adicionar(1L, new BigDecimal("1000.00"))
+                .adicionar(3L, new BigDecimal("4000.00"))
+                .adicionar(2L, new BigDecimal("3000.00"))
+                .adicionar(1L, new BigDecimal("2000.00"))
+                .construir(1, ForkJoinPool.commonPool());
+
+        SimulacaoFolhaResponse resposta = folha.simular(Map.of(), BigDecimal.ZERO);
+
+        assertThat(resposta.distribuicaoAtual().p10()).isEqualByComparingTo("1000.00");
+        assertThat(resposta.distribuicaoAtual().p25()).isEqualByComparingTo("1000.00");
+        assertThat(resposta.distribuicaoAtual().mediana()).isEqualByComparingTo("2000.00");
+        assertThat(resposta.distribuicaoAtual().p75()).isEqualByComparingTo("3000.00");
+        assertThat(resposta.distribuicaoAtual().p90()).isEqualByComparingTo("4000.00");
+        assertThat(resposta.distribuicaoAtual().media()).isEqualByComparingTo("2500.00");
+        assertThat(resposta.folhaSimulada()).isEqualByComparingTo(resposta.folhaAtual());
+        assertThat(resposta.variacaoPercentual()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void deveFundirAlteracoesNasFatiasSemTocarOsDemaisDepartamentos() {
+        FolhaSalarial folha = FolhaSalarial.construtor(departamentos)
+                .adicionar(1L, new BigDecimal("1000.00"))
+                .adicionar(1L, new BigDecimal("3000.00"))
+                .adicionar(2L, new BigDecimal("2000.00"))
+                .adicionar(3L, new BigDecimal("5000.00"))
+                .construir(1, ForkJoinPool.commonPool());
+
+        FolhaSalarial alterada = folha.alterar()
+                .remover(1L, 100_000)
+                .incluir(1L, 200_000)
+                .incluir(1L, 400_000)
+                .remover(2L, 200_000)
+                .incluir(3L, 200_000)
+                .incluir(4L, 700_000)
+                .remover(4L, 700_000)
+                .aplicar(2);
+
+        SimulacaoFolhaResponse resposta = alterada.simular(Map.of(), BigDecimal.ZERO);
+        assertThat(resposta.versaoBase()).isEqualTo(2);
+        assertThat(resposta.funcionarios()).isEqualTo(5);
+        assertThat(resposta.departamentos()).extracting(DepartamentoSimulado::funcionarios)
+                .containsExactly(3L, 0L, 2L, 0L);
+        assertThat(resposta.departamentos().get(0).folhaAtual()).isEqualByComparingTo("9000.00");
+        assertThat(resposta.distribuicaoAtual().minimo()).isEqualByComparingTo("2000.00");
+        assertThat(resposta.distribuicaoAtual().mediana()).isEqualByComparingTo("3000.00");
+        assertThat(resposta.distribuicaoAtual().maximo()).isEqualByComparingTo("5000.00");
+        assertThat(folha.simular(Map.of(), BigDecimal.ZERO).folhaAtual()).isEqualByComparingTo("11000.00");
+        assertThat(folha.alterar().incluir(99L, 100).aplicar(3)).isNull();
+    }
+
+    @Test
+    void deveResponderFolhaVaziaSemDistribuicao() {
+        FolhaSalarial folha = FolhaSalarial.construtor(departamentos).construir(0, ForkJoinPool.commonPool());
+
+        SimulacaoFolhaResponse resposta = folha.simular(Map.of(1L, BigDecimal.TEN), BigDecimal.ONE);
+
+        assertThat(resposta.funcionarios()).isZero();
+        assertThat(resposta.folhaSimulada()).isEqualByComparingTo("0.00");
+        assertThat(resposta.distribuicaoAtual()).isNull();
+        assertThat(resposta.distribuicaoSimulada()).isNull();
+    }
+
+    @Test
+    void deveRejeitarDepartamentoDesconhecido() {
+        FolhaSalarial folha = FolhaSalarial.construtor(departamentos).construir(0, ForkJoinPool.commonPool());
+
+        assertThatThrownBy(() -> folha.simular(Map.of(99L, BigDecimal.TEN), BigDecimal.ZERO))
+                .isInstanceOf(RecursoNaoEncontradoException.class);
+        assertThatThrownBy(() -> FolhaSalarial.construtor(departamentos)
+                .adicionar(99L, BigDecimal.TEN)
+                .construir(0, ForkJoinPool.commonPool()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static BigDecimal reajustar(BigDecimal salario, BigDecimal percentual) {
+        BigDecimal fator = percentual.divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
+        return salario.multiply(BigDecimal.ONE.add(fator)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static Departamento departamento(Long id, String nome) {
+        Departamento departamento = new Departamento(nome, nome.substring(0, 3).toUpperCase());
+        departamento.setId(id);
+        return departamento;
+    }
+}
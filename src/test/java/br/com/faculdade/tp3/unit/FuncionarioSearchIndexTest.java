@@ -0,0 +1,93 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.service.FuncionarioAlteradoEvent;
+import br.com.faculdade.tp3.service.FuncionarioSearchIndex;
+import br.com.faculdade.tp3.service.FuncionarioSearchIndex.Candidato;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FuncionarioSearchIndexTest {
+
+    private static final Candidato INICIO = new Candidato(0L, "", -1);
+
+    private FuncionarioRepository funcionarioRepository;
+    private FuncionarioSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        funcionarioRepository = mock(FuncionarioRepository.class);
+        index = new FuncionarioSearchIndex(funcionarioRepository);
+
+        index.indexar(ativo(1L, "João Silva"));
+        index.indexar(ativo(2L, "Ana Joana Prado"));
+        index.indexar(ativo(3L, "Marcos Brandão"));
+        index.indexar(new SituacaoFuncionario(4L, "Joaquim Souza", FuncionarioStatus.INATIVO));
+    }
+
+    @Test
+    void deveIgnorarAcentosECaixaNaBusca() {
+        assertThat(ids(index.buscar("JOAO", null, INICIO, 10))).containsExactly(1L);
+        assertThat(ids(index.buscar("brandao", null, INICIO, 10))).containsExactly(3L);
+        assertThat(ids(index.buscar("Brandão", null, INICIO, 10))).containsExactly(3L);
+    }
+
+    @Test
+    void deveOrdenarPorRelevanciaAntesDoNome() {
+        List<Candidato> resultado = index.buscar("jo", null, INICIO, 10);
+
+        assertThat(ids(resultado)).containsExactly(4L, 1L, 2L);
+        assertThat(resultado).extracting(Candidato::relevancia).containsExactly(0, 0, 1);
+    }
+
+    @Test
+    void deveFiltrarPorStatusEPaginarAposCandidato() {
+        assertThat(ids(index.buscar("jo", FuncionarioStatus.ATIVO, INICIO, 10))).containsExactly(1L, 2L);
+
+        List<Candidato> primeira = index.buscar("jo", null, INICIO, 2);
+        List<Candidato> segunda = index.buscar("jo", null, primeira.get(1), 2);
+
+        assertThat(ids(primeira)).containsExactly(4L, 1L);
+        assertThat(ids(segunda)).containsExactly(2L);
+    }
+
+    @Test
+    void deveAtualizarIncrementalmenteAPartirDosEventos() {
+        index.aoAlterarFuncionario(new FuncionarioAlteradoEvent(1L, ativo(1L, "João Silva"), ativo(1L, "João Pereira")));
+        index.aoAlterarFuncionario(FuncionarioAlteradoEvent.excluido(ativo(3L, "Marcos Brandão")));
+        index.aoAlterarFuncionario(FuncionarioAlteradoEvent.contratado(ativo(5L, "Silvia Reis")));
+
+        assertThat(ids(index.buscar("silva", null, INICIO, 10))).isEmpty();
+        assertThat(ids(index.buscar("pereira", null, INICIO, 10))).containsExactly(1L);
+        assertThat(ids(index.buscar("brandao", null, INICIO, 10))).isEmpty();
+        assertThat(ids(index.buscar("silvia", null, INICIO, 10))).containsExactly(5L);
+        assertThat(index.tamanho()).isEqualTo(4);
+    }
+
+    @Test
+    void deveReconstruirAPartirDoBanco() {
+        when(funcionarioRepository.streamSituacoes()).thenReturn(Stream.of(ativo(10L, "Beatriz Nogueira")));
+
+        index.reconstruir();
+
+        assertThat(index.tamanho()).isEqualTo(1);
+        assertThat(ids(index.buscar("nogueira", null, INICIO, 10))).containsExactly(10L);
+        assertThat(ids(index.buscar("joao", null, INICIO, 10))).isEmpty();
+    }
+
+    private static SituacaoFuncionario ativo(Long id, String nome) {
+        return new SituacaoFuncionario(id, nome, FuncionarioStatus.ATIVO);
+    }
+
+    private static List<Long> ids(List<Candidato> candidatos) {
+        return candidatos.stream().map(Candidato::id).toList();
+    }
+}
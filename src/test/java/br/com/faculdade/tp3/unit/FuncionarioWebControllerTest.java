@@ -13,8 +13,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import br.com.faculdade.tp3.controller.WebExceptionHandler;
 import br.com.faculdade.tp3.controller.rh.FuncionarioWebController;
+import br.com.faculdade.tp3.dto.PaginaResponse;
 import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
 import br.com.faculdade.tp3.dto.rh.DemissaoPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
 import br.com.faculdade.tp3.dto.rh.PromocaoPayload;
 import br.com.faculdade.tp3.exception.RecursoDuplicadoException;
 import br.com.faculdade.tp3.model.Departamento;
@@ -22,6 +24,7 @@ import br.com.faculdade.tp3.model.Funcionario;
 import br.com.faculdade.tp3.model.Salario;
 import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
 import br.com.faculdade.tp3.service.RhService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -33,7 +36,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(controllers = FuncionarioWebController.class)
-@Import(WebExceptionHandler.class)
+@Import({WebExceptionHandler.class, SimpleMeterRegistry.class})
 class FuncionarioWebControllerTest {
 
     @Autowired
@@ -44,7 +47,8 @@ class FuncionarioWebControllerTest {
 
     @Test
     void deveRenderizarLista() throws Exception {
-        when(rhService.listarFuncionarios(null, null)).thenReturn(List.of(funcionarioBase()));
+        when(rhService.listarFuncionarios(null, null, null, 20))
+                .thenReturn(new PaginaResponse<>(List.of(resumoBase()), null));
 
         mockMvc.perform(get("/rh/funcionarios"))
                 .andExpect(status().isOk())
@@ -54,13 +58,26 @@ class FuncionarioWebControllerTest {
 
     @Test
     void deveRenderizarListaComFiltros() throws Exception {
-        when(rhService.listarFuncionarios("Ana", true)).thenReturn(List.of(funcionarioBase()));
+        when(rhService.listarFuncionarios("Ana", true, null, 20))
+                .thenReturn(new PaginaResponse<>(List.of(resumoBase()), null));
 
         mockMvc.perform(get("/rh/funcionarios").param("nome", "Ana").param("ativos", "true"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("rh/lista"));
     }
 
+    @Test
+    void deveRenderizarNavegacaoEntrePaginas() throws Exception {
+        when(rhService.listarFuncionarios(null, null, "Y3Vyc29y", 20))
+                .thenReturn(new PaginaResponse<>(List.of(resumoBase()), "cHJveGltbw"));
+
+        mockMvc.perform(get("/rh/funcionarios").param("cursor", "Y3Vyc29y"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("rh/lista"))
+                .andExpect(model().attribute("proximoCursor", "cHJveGltbw"))
+                .andExpect(model().attribute("paginaInicial", false));
+    }
+
     @Test
     void deveRenderizarFormularioNovo() throws Exception {
         when(rhService.listarDepartamentos()).thenReturn(List.of(new Departamento("TI", "TI")));
@@ -244,6 +261,10 @@ class FuncionarioWebControllerTest {
                 .andExpect(model().attributeExists("movimentacoes"));
     }
 
+    private FuncionarioResumo resumoBase() {
+        return new FuncionarioResumo(1L, "Ana", "Dev", "TI", new BigDecimal("5000.00"), FuncionarioStatus.ATIVO);
+    }
+
     private Funcionario funcionarioBase() {
         Departamento departamento = new Departamento("Tecnologia", "TI");
         departamento.setId(1L);
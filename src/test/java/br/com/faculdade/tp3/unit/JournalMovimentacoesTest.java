@@ -0,0 +1,233 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.ResumoMovimentacoes;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.service.JournalMovimentacoes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+class JournalMovimentacoesTest {
+
+    @TempDir
+    private Path diretorio;
+
+    private final MovimentacaoRhRepository repository = mock(MovimentacaoRhRepository.class);
+
+    @Test
+    void deveLerHistoricoDoFuncionarioDoMaisRecenteParaOMaisAntigo() {
+        JournalMovimentacoes journal = abrir(0);
+
+        journal.registrar(List.of(
+                movimentacao(1L, 10L, TipoMovimentacaoRh.CONTRATACAO, null, "4000.00", "Analista"),
+                movimentacao(2L, 20L, TipoMovimentacaoRh.CONTRATACAO, null, "3000.00", "Assistente"),
+                movimentacao(3L, 10L, TipoMovimentacaoRh.PROMOCAO, "4000.00", "4600.00", "Coordenadora de Área")
+        ));
+
+        List<MovimentacaoRh> historico = journal.listar(10L);
+        assertThat(historico).extracting(MovimentacaoRh::getId).containsExactly(3L, 1L);
+        assertThat(historico.get(0).getTipo()).isEqualTo(TipoMovimentacaoRh.PROMOCAO);
+        assertThat(historico.get(0).getSalarioAnterior()).isEqualByComparingTo("4000.00");
+        assertThat(historico.get(0).getSalarioNovo()).isEqualByComparingTo("4600.00");
+        assertThat(historico.get(0).getCargo()).isEqualTo("Coordenadora de Área");
+        assertThat(historico.get(0).getDescricao()).isEqualTo("Movimentação 3");
+        assertThat(historico.get(0).getMovimentadoEm()).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 0, 3));
+        assertThat(historico.get(1).getSalarioAnterior()).isNull();
+        assertThat(journal.listar(99L)).isEmpty();
+        assertThat(journal.resumir(10L))
+                .isEqualTo(new ResumoMovimentacoes(2, LocalDateTime.of(2024, 3, 1, 10, 0, 3)));
+        assertThat(journal.resumir(99L)).isEqualTo(new ResumoMovimentacoes(0, null));
+    }
+
+    @Test
+    void deveReabrirSegmentosSemReconstruirQuandoAssinaturaBate() {
+        JournalMovimentacoes journal = abrir(0);
+        List<MovimentacaoRh> movimentacoes = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            movimentacoes.add(movimentacao(id, id % 4, TipoMovimentacaoRh.AUMENTO_SALARIAL, "1000.00", "1100.00", null));
+        }
+        journal.registrar(movimentacoes);
+        journal.descartar(3L);
+        journal.fechar();
+
+        assertThat(Files.exists(diretorio.resolve("segmento-000001.reg"))).isTrue();
+
+        when(repository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(movimentacoes.get(0)));
+        when(repository.buscarUltima()).thenReturn(Optional.of(movimentacoes.get(39)));
+        JournalMovimentacoes reaberto = abrir(30);
+
+        verify(repository, never()).streamTodas();
+        assertThat(reaberto.listar(1L)).hasSize(10);
+        assertThat(reaberto.listar(3L)).isEmpty();
+        assertThat(reaberto.listar(0L)).extracting(MovimentacaoRh::getId).startsWith(40L, 36L);
+    }
+
+    @Test
+    void deveReconstruirQuandoContagemBateMasABaseFoiRecriada() {
+        JournalMovimentacoes journal = abrir(0);
+        journal.registrar(List.of(
+                movimentacao(1L, 10L, TipoMovimentacaoRh.CONTRATACAO, null, "4000.00", "Analista"),
+                movimentacao(2L, 10L, TipoMovimentacaoRh.AUMENTO_SALARIAL, "4000.00", "4400.00", null)
+        ));
+        journal.fechar();
+
+        MovimentacaoRh contratacao = movimentacao(1L, 20L, TipoMovimentacaoRh.CONTRATACAO, null, "3000.00", "Assistente");
+        MovimentacaoRh aumento = movimentacao(2L, 20L, TipoMovimentacaoRh.AUMENTO_SALARIAL, "3000.00", "3300.00", null);
+        when(repository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(contratacao));
+        when(repository.buscarUltima()).thenReturn(Optional.of(aumento));
+        when(repository.streamTodas()).thenReturn(Stream.of(contratacao, aumento));
+        JournalMovimentacoes reaberto = abrir(2);
+
+        verify(repository).streamTodas();
+        assertThat(reaberto.listar(10L)).isEmpty();
+        assertThat(reaberto.listar(20L)).extracting(MovimentacaoRh::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void deveReconciliarDeNovoDepoisDeFalhaAoAnexar() {
+        JournalMovimentacoes journal = abrir(0);
+        MovimentacaoRh contratacao = movimentacao(1L, 10L, TipoMovimentacaoRh.CONTRATACAO, null, "4000.00", "Analista");
+        MovimentacaoRh aumento = movimentacao(2L, 10L, TipoMovimentacaoRh.AUMENTO_SALARIAL, "4000.00", "4400.00", null);
+        MovimentacaoRh maiorQueOSegmento = movimentacao(2L, 10L, TipoMovimentacaoRh.AUMENTO_SALARIAL, "4000.00", "4400.00", null);
+        maiorQueOSegmento.setDescricao("x".repeat(2048));
+
+        journal.registrar(List.of(contratacao));
+        journal.registrar(List.of(maiorQueOSegmento));
+        assertThat(journal.disponivel()).isFalse();
+
+        when(repository.count()).thenReturn(2L);
+        when(repository.streamTodas()).thenReturn(Stream.of(contratacao, aumento));
+        journal.reconciliarAposFalha();
+
+        assertThat(journal.disponivel()).isTrue();
+        assertThat(journal.listar(10L)).extracting(MovimentacaoRh::getId).containsExactly(2L, 1L);
+
+        journal.registrar(List.of(aumento));
+        assertThat(journal.listar(10L)).extracting(MovimentacaoRh::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void deveManterLeiturasCompletasDuranteAReconciliacao() throws Exception {
+        JournalMovimentacoes journal = abrir(0);
+        List<MovimentacaoRh> movimentacoes = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            movimentacoes.add(movimentacao(id, id % 4, TipoMovimentacaoRh.AUMENTO_SALARIAL, "1000.00", "1100.00", null));
+        }
+        journal.registrar(movimentacoes);
+        when(repository.count()).thenReturn(40L);
+        when(repository.streamTodas()).thenAnswer(invocacao -> movimentacoes.stream());
+
+        AtomicBoolean reconciliando = new AtomicBoolean(true);
+        List<String> leiturasIncompletas = new CopyOnWriteArrayList<>();
+        Thread leitor = new Thread(() -> {
+            while (reconciliando.get()) {
+                try {
+                    List<MovimentacaoRh> historico = journal.listar(1L);
+                    if (historico.size() != 10 || historico.get(0).getId() != 37L) {
+                        leiturasIncompletas.add("lidos " + historico.size());
+                    }
+                } catch (RuntimeException ex) {
+                    leiturasIncompletas.add(ex.toString());
+                }
+            }
+        });
+        leitor.start();
+        try {
+            for (int i = 0; i < 50; i++) {
+                journal.reconciliar();
+            }
+        } finally {
+            reconciliando.set(false);
+            leitor.join();
+        }
+
+        verify(repository, times(50)).streamTodas();
+        assertThat(leiturasIncompletas).isEmpty();
+        assertThat(journal.disponivel()).isTrue();
+    }
+
+    @Test
+    void deveDescartarRegistroIncompletoEReconstruirAPartirDaTabela() throws Exception {
+        JournalMovimentacoes journal = abrir(0);
+        journal.registrar(List.of(
+                movimentacao(1L, 10L, TipoMovimentacaoRh.CONTRATACAO, null, "4000.00", "Analista"),
+                movimentacao(2L, 10L, TipoMovimentacaoRh.AUMENTO_SALARIAL, "4000.00", "4400.00", null)
+        ));
+        journal.fechar();
+
+        try (RandomAccessFile arquivo = new RandomAccessFile(diretorio.resolve("segmento-000000.reg").toFile(), "rw")) {
+            arquivo.seek(64 + 20);
+            arquivo.writeInt(0xCAFE);
+        }
+
+        when(repository.streamTodas()).thenReturn(Stream.of(
+                movimentacao(1L, 10L, TipoMovimentacaoRh.CONTRATACAO, null, "4000.00", "Analista"),
+                movimentacao(2L, 10L, TipoMovimentacaoRh.AUMENTO_SALARIAL, "4000.00", "4400.00", null)
+        ));
+        JournalMovimentacoes reaberto = abrir(2);
+
+        verify(repository).streamTodas();
+        assertThat(reaberto.disponivel()).isTrue();
+        assertThat(reaberto.listar(10L)).extracting(MovimentacaoRh::getId).containsExactly(2L, 1L);
+    }
+
+    private JournalMovimentacoes abrir(long totalNaTabela) {
+        when(repository.count()).thenReturn(totalNaTabela);
+        JournalMovimentacoes journal = new JournalMovimentacoes(
+                repository,
+                mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(),
+                true,
+                diretorio,
+                DataSize.ofBytes(1024)
+        );
+        journal.reconciliar();
+        return journal;
+    }
+
+    private MovimentacaoRh movimentacao(
+            Long id,
+            Long funcionarioId,
+            TipoMovimentacaoRh tipo,
+            String antes,
+            String depois,
+            String cargo
+    ) {
+        Funcionario funcionario = new Funcionario();
+        funcionario.setId(funcionarioId);
+
+        MovimentacaoRh movimentacao = new MovimentacaoRh();
+        movimentacao.setId(id);
+        movimentacao.setFuncionario(funcionario);
+        movimentacao.setTipo(tipo);
+        movimentacao.setDescricao("Movimentação " + id);
+        movimentacao.setSalarioAnterior(antes == null ? null : new BigDecimal(antes));
+        movimentacao.setSalarioNovo(new BigDecimal(depois));
+        movimentacao.setCargo(cargo);
+        movimentacao.setMovimentadoEm(LocalDateTime.of(2024, 3, 1, 10, 0, id.intValue() % 60));
+        return movimentacao;
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.faculdade.tp3.exception.SobrecargaSistemaException;
+import br.com.faculdade.tp3.service.LimitadorConcorrencia;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LimitadorConcorrenciaTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void deveRejeitarQuandoLimiteEstaOcupado() {
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia(meterRegistry, 2, 2, 2);
+
+        long primeira = limitador.adquirir();
+        limitador.adquirir();
+
+        assertThatThrownBy(limitador::adquirir)
+                .isInstanceOf(SobrecargaSistemaException.class)
+                .hasMessageContaining("sobrecarregado");
+        assertThat(limitador.getEmVoo()).isEqualTo(2);
+
+        limitador.liberar(primeira);
+        limitador.adquirir();
+
+        assertThat(limitador.estatisticas().rejeitadas()).isEqualTo(1);
+        assertThat(limitador.estatisticas().aceitas()).isEqualTo(3);
+        assertThat(limitador.estatisticas().taxaRejeicao()).isEqualTo(0.25);
+        assertThat(meterRegistry.get("rh.limitador.rejeicoes").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("rh.limitador.em.voo").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void deveReduzirLimiteQuandoLatenciaAumentaSobCarga() throws InterruptedException {
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia(meterRegistry, 20, 4, 200);
+
+        rodada(limitador, 20, 0);
+        for (int i = 0; i < 20; i++) {
+            rodada(limitador, limitador.getLimite(), 5);
+        }
+
+        assertThat(limitador.getLimite()).isLessThan(20).isGreaterThanOrEqualTo(4);
+        assertThat(meterRegistry.get("rh.limitador.limite").gauge().value()).isEqualTo(limitador.getLimite());
+    }
+
+    @Test
+    void deveAumentarLimiteQuandoLatenciaEstavelComDemandaAlta() throws InterruptedException {
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia(meterRegistry, 10, 4, 200);
+
+        for (int i = 0; i < 20; i++) {
+            rodada(limitador, limitador.getLimite(), 2);
+        }
+
+        assertThat(limitador.getLimite()).isGreaterThan(10).isLessThanOrEqualTo(200);
+    }
+
+    @Test
+    void naoDeveAlterarLimiteQuandoDemandaEstaAbaixoDaMetade() {
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia(meterRegistry, 20, 4, 200);
+
+        for (int i = 0; i < 50; i++) {
+            limitador.liberar(limitador.adquirir());
+        }
+
+        assertThat(limitador.getLimite()).isEqualTo(20);
+    }
+
+    private static void rodada(LimitadorConcorrencia limitador, int concorrentes, long atrasoMs)
+            throws InterruptedException {
+        List<Long> inicios = new ArrayList<>();
+        for (int i = 0; i < concorrentes; i++) {
+            inicios.add(limitador.adquirir());
+        }
+        TimeUnit.MILLISECONDS.sleep(atrasoMs);
+        for (long inicio : inicios) {
+            limitador.liberar(inicio);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.faculdade.tp3.controller.ApiExceptionHandler;
+import br.com.faculdade.tp3.controller.LimiteConcorrenciaFilter;
+import br.com.faculdade.tp3.service.LimitadorConcorrencia;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class LimiteConcorrenciaFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final LimitadorConcorrencia limitador = new LimitadorConcorrencia(meterRegistry, 1, 1, 1);
+    private final LimiteConcorrenciaFilter filter = new LimiteConcorrenciaFilter(
+            limitador, new ApiExceptionHandler(meterRegistry), objectMapper);
+
+    @Test
+    void deveResponder503QuandoLimiteEstaEsgotado() throws Exception {
+        AtomicReference<MockHttpServletResponse> rejeitada = new AtomicReference<>();
+
+        filter.doFilter(requisicao("/api/rh/funcionarios"), new MockHttpServletResponse(), (req, res) -> {
+            MockHttpServletResponse segunda = new MockHttpServletResponse();
+            filter.doFilter(requisicao("/api/rh/departamentos"), segunda, (r, s) -> {
+                throw new AssertionError("Requisição deveria ter sido rejeitada");
+            });
+            rejeitada.set(segunda);
+        });
+
+        MockHttpServletResponse resposta = rejeitada.get();
+        assertThat(resposta.getStatus()).isEqualTo(503);
+        assertThat(resposta.getHeader("Retry-After")).isEqualTo("1");
+        JsonNode corpo = objectMapper.readTree(resposta.getContentAsString());
+        assertThat(corpo.get("status").asInt()).isEqualTo(503);
+        assertThat(corpo.get("path").asText()).isEqualTo("/api/rh/departamentos");
+        assertThat(corpo.get("message").asText()).contains("sobrecarregado");
+        assertThat(meterRegistry.get("rh.api.erros").tag("status", "503").counter().count()).isEqualTo(1);
+        assertThat(limitador.getEmVoo()).isZero();
+    }
+
+    @Test
+    void naoDeveLimitarEndpointsDeDiagnostico() throws Exception {
+        AtomicReference<Integer> emVooDuranteDiagnostico = new AtomicReference<>();
+
+        filter.doFilter(requisicao("/api/rh/diagnostico/sobrecarga"), new MockHttpServletResponse(),
+                (req, res) -> emVooDuranteDiagnostico.set(limitador.getEmVoo()));
+
+        assertThat(emVooDuranteDiagnostico.get()).isZero();
+    }
+
+    @Test
+    void naoDeveAmostrarRttDeRequisicoesDeLongaDuracao() throws Exception {
+        LimitadorConcorrencia limitadorMock = mock(LimitadorConcorrencia.class);
+        when(limitadorMock.adquirir()).thenReturn(42L);
+        LimiteConcorrenciaFilter filtro = new LimiteConcorrenciaFilter(
+                limitadorMock, new ApiExceptionHandler(meterRegistry), objectMapper);
+
+        for (String uri : List.of(
+                "/api/rh/funcionarios/export",
+                "/api/rh/funcionarios/7/movimentacoes/export",
+                "/api/rh/funcionarios/lote",
+                "/api/rh/simulacoes/folha")) {
+            filtro.doFilter(requisicao(uri), new MockHttpServletResponse(), (req, res) -> { });
+        }
+        filtro.doFilter(requisicao("/api/rh/funcionarios"), new MockHttpServletResponse(), (req, res) -> { });
+
+        verify(limitadorMock, times(5)).adquirir();
+        verify(limitadorMock, times(4)).liberar(42L, false);
+        verify(limitadorMock).liberar(42L, true);
+    }
+
+    private static MockHttpServletRequest requisicao(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import br.com.faculdade.tp3.model.EventoOutbox;
+import br.com.faculdade.tp3.repository.EventoOutboxRepository;
+import br.com.faculdade.tp3.service.DestinoOutbox;
+import br.com.faculdade.tp3.service.MensagemOutbox;
+import br.com.faculdade.tp3.service.OutboxPublicador;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublicadorTest {
+
+    @Mock
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void deveBloquearEventosPosterioresDoMesmoFuncionarioQuandoEnvioFalha() {
+        EventoOutbox primeiroAna = evento(1L, "{\"ordem\":1}");
+        EventoOutbox segundoAna = evento(1L, "{\"ordem\":2}");
+        EventoOutbox bruno = evento(2L, "{\"ordem\":3}");
+        when(eventoOutboxRepository.buscarPendentes(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(primeiroAna, segundoAna, bruno));
+
+        List<String> entregues = new ArrayList<>();
+        DestinoOutbox destino = mensagem -> {
+            if (mensagem.payload().contains("\"ordem\":1")) {
+                throw new IOException("destino indisponível");
+            }
+            entregues.add(mensagem.payload());
+        };
+
+        int processados = publicador(destino, 10).drenar();
+
+        assertThat(processados).isEqualTo(3);
+        assertThat(entregues).containsExactly("{\"ordem\":3}");
+        assertThat(primeiroAna.getTentativas()).isEqualTo(1);
+        assertThat(primeiroAna.getUltimoErro()).contains("destino indisponível");
+        assertThat(primeiroAna.getProximaTentativaEm()).isAfter(LocalDateTime.now());
+        assertThat(primeiroAna.getPublicadoEm()).isNull();
+        assertThat(segundoAna.getPublicadoEm()).isNull();
+        assertThat(segundoAna.getTentativas()).isZero();
+        assertThat(bruno.getPublicadoEm()).isNotNull();
+        assertThat(meterRegistry.get("rh.outbox.falhas").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("rh.outbox.publicados").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void deveReagendarLoteQuandoConclusaoFalha() {
+        EventoOutbox evento = evento(1L, "{}");
+        when(eventoOutboxRepository.buscarPendentes(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(List.of(evento));
+
+        DestinoOutbox destino = new DestinoOutbox() {
+            @Override
+            public void enviar(MensagemOutbox mensagem) {
+            }
+
+            @Override
+            public void concluirLote() throws IOException {
+                throw new IOException("disco cheio");
+            }
+        };
+
+        publicador(destino, 10).drenar();
+
+        assertThat(evento.getPublicadoEm()).isNull();
+        assertThat(evento.getTentativas()).isEqualTo(1);
+        assertThat(evento.getUltimoErro()).contains("disco cheio");
+    }
+
+    @Test
+    void deveDrenarEmLotesAteEsvaziar() {
+        List<EventoOutbox> cheio = List.of(evento(1L, "{}"), evento(2L, "{}"));
+        List<EventoOutbox> resto = List.of(evento(3L, "{}"));
+        when(eventoOutboxRepository.buscarPendentes(any(LocalDateTime.class), any(Limit.class)))
+                .thenReturn(cheio)
+                .thenReturn(resto);
+
+        List<Long> entregues = new ArrayList<>();
+        int processados = publicador(mensagem -> entregues.add(mensagem.funcionarioId()), 2).drenar();
+
+        assertThat(processados).isEqualTo(3);
+        assertThat(entregues).containsExactly(1L, 2L, 3L);
+    }
+
+    private OutboxPublicador publicador(DestinoOutbox destino, int tamanhoLote) {
+        return new OutboxPublicador(
+                eventoOutboxRepository,
+                destino,
+                transactionManager,
+                meterRegistry,
+                tamanhoLote,
+                Duration.ofHours(24)
+        );
+    }
+
+    private static EventoOutbox evento(Long funcionarioId, String payload) {
+        return new EventoOutbox(funcionarioId, funcionarioId * 100, "CONTRATACAO", payload);
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.ReajusteSalarial;
+import br.com.faculdade.tp3.model.SalarioVigente;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.model.enums.StatusReajuste;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.repository.ReajusteSalarialRepository;
+import br.com.faculdade.tp3.repository.SalarioRepository;
+import br.com.faculdade.tp3.service.HistoricoSalarialService;
+import br.com.faculdade.tp3.service.JournalMovimentacoes;
+import br.com.faculdade.tp3.service.OutboxService;
+import br.com.faculdade.tp3.service.ReajusteSalarialJob;
+import br.com.faculdade.tp3.service.SalariosReajustadosEvent;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReajusteSalarialJobTest {
+
+    @Mock
+    private ReajusteSalarialRepository reajusteSalarialRepository;
+
+    @Mock
+    private FuncionarioRepository funcionarioRepository;
+
+    @Mock
+    private SalarioRepository salarioRepository;
+
+    @Mock
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private HistoricoSalarialService historicoSalarialService;
+
+    @Mock
+    private JournalMovimentacoes journalMovimentacoes;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReajusteSalarialJob job;
+
+    private ReajusteSalarial reajuste;
+
+    @BeforeEach
+    void setUp() {
+        job = new ReajusteSalarialJob(
+                reajusteSalarialRepository,
+                funcionarioRepository,
+                salarioRepository,
+                movimentacaoRhRepository,
+                outboxService,
+                historicoSalarialService,
+                journalMovimentacoes,
+                eventPublisher,
+                transactionManager,
+                Runnable::run,
+                2
+        );
+
+        Departamento departamento = new Departamento("Tecnologia", "TI");
+        departamento.setId(10L);
+
+        reajuste = new ReajusteSalarial();
+        reajuste.setId(1L);
+        reajuste.setDepartamento(departamento);
+        reajuste.setPercentual(new BigDecimal("10.00"));
+        reajuste.setMotivo("Dissídio coletivo");
+        reajuste.setStatus(StatusReajuste.EM_ANDAMENTO);
+        reajuste.setTotalFuncionarios(4);
+        reajuste.setUltimoFuncionarioId(7L);
+        reajuste.setLimiteFuncionarioId(100L);
+
+        when(reajusteSalarialRepository.findById(1L)).thenReturn(Optional.of(reajuste));
+    }
+
+    @Test
+    void deveRetomarDoCheckpointEConcluir() {
+        when(funcionarioRepository.buscarIdsParaReajuste(10L, FuncionarioStatus.ATIVO, 7L, 100L, Limit.of(2)))
+                .thenReturn(List.of(8L, 9L));
+        when(funcionarioRepository.buscarIdsParaReajuste(10L, FuncionarioStatus.ATIVO, 9L, 100L, Limit.of(2)))
+                .thenReturn(List.of());
+        when(salarioRepository.bloquearSalarios(List.of(8L, 9L))).thenReturn(List.of(
+                new SalarioVigente(8L, new BigDecimal("1000.00")),
+                new SalarioVigente(9L, new BigDecimal("3333.35"))
+        ));
+        when(funcionarioRepository.buscarResumosPorIds(List.of(8L, 9L))).thenReturn(List.of(
+                new FuncionarioResumo(8L, "Ana", "Analista", "TI", new BigDecimal("1000.00"), FuncionarioStatus.ATIVO),
+                new FuncionarioResumo(9L, "Bruno", "Coordenador", "TI", new BigDecimal("3333.35"), FuncionarioStatus.ATIVO)
+        ));
+        when(funcionarioRepository.getReferenceById(any())).thenReturn(new Funcionario());
+
+        job.executar(1L);
+
+        verify(salarioRepository).reajustar(eq(List.of(8L, 9L)), eq(new BigDecimal("1.100000")), any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MovimentacaoRh>> movimentacoes = ArgumentCaptor.forClass(List.class);
+        verify(movimentacaoRhRepository).saveAll(movimentacoes.capture());
+        assertThat(movimentacoes.getValue()).extracting(MovimentacaoRh::getSalarioNovo)
+                .containsExactly(new BigDecimal("1100.00"), new BigDecimal("3666.69"));
+        assertThat(movimentacoes.getValue()).extracting(MovimentacaoRh::getCargo)
+                .containsExactly("Analista", "Coordenador");
+        verify(outboxService).registrar(movimentacoes.getValue());
+        verify(historicoSalarialService).registrar(movimentacoes.getValue());
+        verify(journalMovimentacoes).registrar(movimentacoes.getValue());
+        verify(eventPublisher).publishEvent(new SalariosReajustadosEvent(
+                10L,
+                List.of(new SalarioVigente(8L, new BigDecimal("1000.00")), new SalarioVigente(9L, new BigDecimal("3333.35"))),
+                List.of(new SalarioVigente(8L, new BigDecimal("1100.00")), new SalarioVigente(9L, new BigDecimal("3666.69")))
+        ));
+
+        assertThat(reajuste.getStatus()).isEqualTo(StatusReajuste.CONCLUIDO);
+        assertThat(reajuste.getProcessados()).isEqualTo(2);
+        assertThat(reajuste.getUltimoFuncionarioId()).isEqualTo(9L);
+    }
+
+    @Test
+    void deveMarcarFalhaSemAvancarCheckpoint() {
+        when(funcionarioRepository.buscarIdsParaReajuste(10L, FuncionarioStatus.ATIVO, 7L, 100L, Limit.of(2)))
+                .thenReturn(List.of(8L, 9L));
+        when(salarioRepository.bloquearSalarios(List.of(8L, 9L)))
+                .thenThrow(new QueryTimeoutException("lock timeout"));
+
+        job.executar(1L);
+
+        assertThat(reajuste.getStatus()).isEqualTo(StatusReajuste.FALHOU);
+        assertThat(reajuste.getErro()).contains("QueryTimeoutException");
+        assertThat(reajuste.getUltimoFuncionarioId()).isEqualTo(7L);
+        verify(movimentacaoRhRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void deveIgnorarReajusteQueNaoEstaEmAndamento() {
+        reajuste.setStatus(StatusReajuste.CONCLUIDO);
+
+        job.executar(1L);
+
+        verify(funcionarioRepository, never()).buscarIdsParaReajuste(any(), any(), eq(7L), eq(100L), any());
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import br.com.faculdade.tp3.dto.rh.RelatorioDepartamento;
+import br.com.faculdade.tp3.dto.rh.RelatorioMensal;
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import br.com.faculdade.tp3.exception.RecursoNaoEncontradoException;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.SalarioVigente;
+import br.com.faculdade.tp3.model.SituacaoFuncionario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.repository.DepartamentoRepository;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.service.FuncionarioAlteradoEvent;
+import br.com.faculdade.tp3.service.RelatorioColunar;
+import br.com.faculdade.tp3.service.SalariosReajustadosEvent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RelatorioColunarTest {
+
+    private RelatorioColunar relatorio;
+
+    @BeforeEach
+    void setUp() {
+        FuncionarioRepository funcionarioRepository = mock(FuncionarioRepository.class);
+        DepartamentoRepository departamentoRepository = mock(DepartamentoRepository.class);
+        when(departamentoRepository.findAll()).thenReturn(List.of(
+                departamento(2L, "Tecnologia"),
+                departamento(1L, "Financeiro"),
+                departamento(3L, "Vazio")
+        ));
+        when(funcionarioRepository.streamSituacoesCompletas()).thenReturn(Stream.of(
+                situacao(10L, 1L, "3000.00", "2024-01-15", null),
+                situacao(11L, 1L, "5000.00", "2024-01-31", null),
+                situacao(12L, 2L, "7000.00", "2024-02-01", null),
+                situacao(13L, 2L, "9000.00", "2023-12-10", "2024-02-20")
+        ));
+        relatorio = new RelatorioColunar(funcionarioRepository, departamentoRepository);
+        relatorio.reconstruir();
+    }
+
+    @Test
+    void deveAgruparPorDepartamentoConsiderandoApenasAtivosNaFolha() {
+        List<RelatorioDepartamento> departamentos = relatorio.porDepartamento();
+
+        assertThat(departamentos).extracting(RelatorioDepartamento::departamentoId).containsExactly(1L, 2L, 3L);
+
+        RelatorioDepartamento financeiro = departamentos.get(0);
+        assertThat(financeiro.nome()).isEqualTo("Financeiro");
+        assertThat(financeiro.ativos()).isEqualTo(2);
+        assertThat(financeiro.inativos()).isZero();
+        assertThat(financeiro.folha()).isEqualByComparingTo("8000.00");
+        assertThat(financeiro.mediaSalarial()).isEqualByComparingTo("4000.00");
+        assertThat(financeiro.menorSalario()).isEqualByComparingTo("3000.00");
+        assertThat(financeiro.maiorSalario()).isEqualByComparingTo("5000.00");
+
+        RelatorioDepartamento tecnologia = departamentos.get(1);
+        assertThat(tecnologia.ativos()).isEqualTo(1);
+        assertThat(tecnologia.inativos()).isEqualTo(1);
+        assertThat(tecnologia.folha()).isEqualByComparingTo("7000.00");
+        assertThat(tecnologia.menorSalario()).isEqualByComparingTo("7000.00");
+        assertThat(tecnologia.maiorSalario()).isEqualByComparingTo("7000.00");
+
+        RelatorioDepartamento vazio = departamentos.get(2);
+        assertThat(vazio.ativos()).isZero();
+        assertThat(vazio.folha()).isEqualByComparingTo("0.00");
+        assertThat(vazio.mediaSalarial()).isNull();
+        assertThat(vazio.maiorSalario()).isNull();
+    }
+
+    @Test
+    void deveContarAdmissoesEDemissoesPorMes() {
+        List<RelatorioMensal> meses = relatorio.movimentacaoMensal("2023-12", "2024-03", null);
+
+        assertThat(meses).extracting(RelatorioMensal::mes).containsExactly(
+                YearMonth.of(2023, 12), YearMonth.of(2024, 1), YearMonth.of(2024, 2), YearMonth.of(2024, 3));
+        assertThat(meses).extracting(RelatorioMensal::admissoes).containsExactly(1L, 2L, 1L, 0L);
+        assertThat(meses).extracting(RelatorioMensal::demissoes).containsExactly(0L, 0L, 1L, 0L);
+
+        assertThat(relatorio.movimentacaoMensal("2024-01", "2024-02", 2L))
+                .extracting(RelatorioMensal::admissoes).containsExactly(0L, 1L);
+    }
+
+    @Test
+    void deveAplicarAlteracoesIncrementais() {
+        relatorio.aoAlterarFuncionario(FuncionarioAlteradoEvent.contratado(
+                situacao(14L, 3L, "2500.00", "2024-03-05", null)));
+        relatorio.aoAlterarFuncionario(new FuncionarioAlteradoEvent(
+                11L,
+                situacao(11L, 1L, "5000.00", "2024-01-31", null),
+                situacao(11L, 2L, "6000.00", "2024-01-31", null)
+        ));
+        relatorio.aoAlterarFuncionario(FuncionarioAlteradoEvent.excluido(
+                situacao(10L, 1L, "3000.00", "2024-01-15", null)));
+        relatorio.aoReajustarSalarios(new SalariosReajustadosEvent(2L, List.of(), List.of(
+                new SalarioVigente(12L, new BigDecimal("7700.00")),
+                new SalarioVigente(99L, new BigDecimal("1.00"))
+        )));
+
+        List<RelatorioDepartamento> departamentos = relatorio.porDepartamento();
+        assertThat(relatorio.funcionarios()).isEqualTo(4);
+        assertThat(departamentos.get(0).ativos()).isZero();
+        assertThat(departamentos.get(1).ativos()).isEqualTo(2);
+        assertThat(departamentos.get(1).folha()).isEqualByComparingTo("13700.00");
+        assertThat(departamentos.get(1).maiorSalario()).isEqualByComparingTo("7700.00");
+        assertThat(departamentos.get(2).folha()).isEqualByComparingTo("2500.00");
+        assertThat(relatorio.movimentacaoMensal("2024-03", "2024-03", 3L))
+                .extracting(RelatorioMensal::admissoes).containsExactly(1L);
+    }
+
+    @Test
+    void deveValidarPeriodoEDepartamento() {
+        assertThatThrownBy(() -> relatorio.movimentacaoMensal("2024-05", "2024-01", null))
+                .isInstanceOf(EntradaInvalidaException.class);
+        assertThatThrownBy(() -> relatorio.movimentacaoMensal("2000-01", "2024-01", null))
+                .isInstanceOf(EntradaInvalidaException.class);
+        assertThatThrownBy(() -> relatorio.movimentacaoMensal("janeiro", null, null))
+                .isInstanceOf(EntradaInvalidaException.class);
+        assertThatThrownBy(() -> relatorio.movimentacaoMensal(null, null, 99L))
+                .isInstanceOf(RecursoNaoEncontradoException.class);
+        assertThat(relatorio.movimentacaoMensal(null, null, null)).hasSize(12)
+                .last().extracting(RelatorioMensal::mes).isEqualTo(YearMonth.now());
+    }
+
+    @Test
+    void deveConverterDiaEpochNoMesmoMesDoCalendario() {
+        LocalDate dia = LocalDate.of(1899, 12, 1);
+        LocalDate fim = LocalDate.of(2101, 3, 1);
+        while (dia.isBefore(fim)) {
+            int esperado = dia.getYear() * 12 + dia.getMonthValue() - 1;
+            assertThat(RelatorioColunar.mesDoDia((int) dia.toEpochDay())).as(dia.toString())
+                    .isEqualTo(esperado);
+            dia = dia.plusDays(1);
+        }
+    }
+
+    private static SituacaoFuncionario situacao(
+            Long id,
+            Long departamentoId,
+            String salario,
+            String admissao,
+            String demissao
+    ) {
+        return new SituacaoFuncionario(
+                id,
+                "Funcionário " + id,
+                demissao == null ? FuncionarioStatus.ATIVO : FuncionarioStatus.INATIVO,
+                departamentoId,
+                new BigDecimal(salario),
+                LocalDate.parse(admissao),
+                demissao == null ? null : LocalDate.parse(demissao)
+        );
+    }
+
+    private static Departamento departamento(Long id, String nome) {
+        Departamento departamento = new Departamento(nome, nome.substring(0, 3).toUpperCase());
+        departamento.setId(id);
+        return departamento;
+    }
+}
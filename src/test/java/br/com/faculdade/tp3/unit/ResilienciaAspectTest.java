@@ -0,0 +1,130 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.faculdade.tp3.config.ResilienciaConfig;
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import br.com.faculdade.tp3.exception.SobrecargaSistemaException;
+import br.com.faculdade.tp3.exception.TimeoutServicoException;
+import br.com.faculdade.tp3.service.ResilienciaAspect;
+import br.com.faculdade.tp3.service.Resiliente;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.CannotAcquireLockException;
+
+class ResilienciaAspectTest {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .ignoreExceptions(EntradaInvalidaException.class)
+            .build());
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(Map.of(
+            ResilienciaConfig.LEITURA, BulkheadConfig.custom().maxConcurrentCalls(2).build(),
+            ResilienciaConfig.ESCRITA, BulkheadConfig.custom()
+                    .maxConcurrentCalls(1)
+                    .maxWaitDuration(Duration.ZERO)
+                    .build()
+    ));
+    private final Operacoes operacoes = proxy();
+
+    @Test
+    void escritasSaturadasNaoDevemBloquearLeituras() throws Exception {
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<String> escritaLenta = CompletableFuture.supplyAsync(() -> operacoes.escrever(() -> {
+            iniciada.countDown();
+            aguardar(liberar);
+            return "gravado";
+        }));
+        assertThat(iniciada.await(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> operacoes.escrever(() -> "outra"))
+                .isInstanceOf(SobrecargaSistemaException.class)
+                .hasMessageContaining("sobrecarregado");
+        assertThat(operacoes.ler(() -> "listagem")).isEqualTo("listagem");
+
+        liberar.countDown();
+        assertThat(escritaLenta.get(2, TimeUnit.SECONDS)).isEqualTo("gravado");
+        assertThat(operacoes.escrever(() -> "depois")).isEqualTo("depois");
+    }
+
+    @Test
+    void deveAbrirCircuitoDeEscritaSemAfetarLeituras() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> operacoes.escrever(() -> {
+                throw new IllegalStateException("falha no banco");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker(ResilienciaConfig.ESCRITA).getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> operacoes.escrever(() -> "bloqueada"))
+                .isInstanceOf(SobrecargaSistemaException.class)
+                .hasMessageContaining("indisponível");
+        assertThat(operacoes.ler(() -> "listagem")).isEqualTo("listagem");
+    }
+
+    @Test
+    void naoDeveContarErrosDeNegocioComoFalha() {
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> operacoes.escrever(() -> {
+                throw new EntradaInvalidaException("Dados inválidos.");
+            })).isInstanceOf(EntradaInvalidaException.class);
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker(ResilienciaConfig.ESCRITA).getState())
+                .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void deveConverterEsperaPorBloqueioEmTimeout() {
+        assertThatThrownBy(() -> operacoes.escrever(() -> {
+            throw new CannotAcquireLockException("lock timeout");
+        }))
+                .isInstanceOf(TimeoutServicoException.class)
+                .hasCauseInstanceOf(CannotAcquireLockException.class);
+    }
+
+    private Operacoes proxy() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Operacoes());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ResilienciaAspect(circuitBreakerRegistry, bulkheadRegistry));
+        return factory.getProxy();
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class Operacoes {
+
+        @Resiliente(ResilienciaConfig.LEITURA)
+        public String ler(Supplier<String> corpo) {
+            return corpo.get();
+        }
+
+        @Resiliente(ResilienciaConfig.ESCRITA)
+        public String escrever(Supplier<String> corpo) {
+            return corpo.get();
+        }
+    }
+}
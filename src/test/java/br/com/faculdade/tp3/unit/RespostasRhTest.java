@@ -0,0 +1,79 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.com.faculdade.tp3.dto.rh.DepartamentoResponse;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResponse;
+import br.com.faculdade.tp3.dto.rh.MovimentacaoResponse;
+import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.Funcionario;
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.Salario;
+import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.model.enums.TipoMovimentacaoRh;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class RespostasRhTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new BlackbirdModule())
+            .build();
+
+    @Test
+    void deveManterOMesmoJsonDaEntidadeDoFuncionario() {
+        Departamento departamento = new Departamento("Tecnologia", "TI");
+        departamento.setId(3L);
+        Funcionario funcionario = new Funcionario();
+        funcionario.setId(7L);
+        funcionario.setNome("Ana Souza");
+        funcionario.setEmail("ana@empresa.com");
+        funcionario.setCpf("12345678901");
+        funcionario.setCargo("Analista");
+        funcionario.setStatus(FuncionarioStatus.INATIVO);
+        funcionario.setDepartamento(departamento);
+        funcionario.setDataAdmissao(LocalDate.of(2023, 2, 1));
+        funcionario.setDataDemissao(LocalDate.of(2024, 5, 10));
+        funcionario.prePersist();
+        Salario salario = new Salario();
+        salario.setId(9L);
+        salario.setValorAtual(new BigDecimal("4400.00"));
+        funcionario.definirSalario(salario);
+
+        assertThat(json(FuncionarioResponse.de(funcionario)))
+                .isEqualTo(json(funcionario));
+
+        Funcionario semVinculos = new Funcionario();
+        semVinculos.setId(8L);
+        assertThat(json(FuncionarioResponse.de(semVinculos)))
+                .isEqualTo(json(semVinculos));
+        assertThat(json(DepartamentoResponse.de(departamento)))
+                .isEqualTo(json(departamento));
+    }
+
+    @Test
+    void deveManterOMesmoJsonDaEntidadeDaMovimentacao() {
+        MovimentacaoRh movimentacao = new MovimentacaoRh();
+        movimentacao.setId(11L);
+        movimentacao.setFuncionario(new Funcionario());
+        movimentacao.setTipo(TipoMovimentacaoRh.PROMOCAO);
+        movimentacao.setDescricao("Promoção por mérito");
+        movimentacao.setSalarioAnterior(new BigDecimal("4400.00"));
+        movimentacao.setSalarioNovo(new BigDecimal("4620.00"));
+        movimentacao.setCargo("Coordenadora");
+        movimentacao.setMovimentadoEm(LocalDateTime.of(2024, 3, 1, 10, 15, 30));
+
+        assertThat(json(MovimentacaoResponse.de(movimentacao)))
+                .isEqualTo(json(movimentacao));
+    }
+
+    private JsonNode json(Object valor) {
+        return objectMapper.valueToTree(valor);
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import br.com.faculdade.tp3.exception.ConflitoConcorrenciaException;
+import br.com.faculdade.tp3.exception.EntradaInvalidaException;
+import br.com.faculdade.tp3.service.RetentativaOtimista;
+import br.com.faculdade.tp3.service.RetentativaOtimistaAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class RetentativaOtimistaAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Operacoes operacoes = proxy();
+    private final AtomicInteger chamadas = new AtomicInteger();
+
+    @Test
+    void deveReexecutarAteVencerOConflito() {
+        String resultado = operacoes.gravar(() -> {
+            if (chamadas.incrementAndGet() < 3) {
+                throw conflito();
+            }
+            return "gravado";
+        });
+
+        assertThat(resultado).isEqualTo("gravado");
+        assertThat(chamadas).hasValue(3);
+        assertThat(meterRegistry.get("rh.conflitos.retentativas").tag("operacao", "gravar").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void deveDesistirAposEsgotarTentativas() {
+        assertThatThrownBy(() -> operacoes.gravar(() -> {
+            chamadas.incrementAndGet();
+            throw conflito();
+        }))
+                .isInstanceOf(ConflitoConcorrenciaException.class)
+                .hasCauseInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(chamadas).hasValue(4);
+        assertThat(meterRegistry.get("rh.conflitos.esgotados").tag("operacao", "gravar").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void naoDeveReexecutarOutrasFalhas() {
+        assertThatThrownBy(() -> operacoes.gravar(() -> {
+            chamadas.incrementAndGet();
+            throw new EntradaInvalidaException("Dados inválidos.");
+        })).isInstanceOf(EntradaInvalidaException.class);
+
+        assertThat(chamadas).hasValue(1);
+    }
+
+    @Test
+    void naoDeveReexecutarDentroDeTransacaoExterna() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> operacoes.gravar(() -> {
+                chamadas.incrementAndGet();
+                throw conflito();
+            })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertThat(chamadas).hasValue(1);
+    }
+
+    @Test
+    void deveRejeitarQuantidadeDeTentativasInvalida() {
+        assertThatThrownBy(() -> new RetentativaOtimistaAspect(meterRegistry, 0, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ObjectOptimisticLockingFailureException conflito() {
+        return new ObjectOptimisticLockingFailureException(Object.class, 1L);
+    }
+
+    private Operacoes proxy() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Operacoes());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new RetentativaOtimistaAspect(
+                meterRegistry, 4, Duration.ofMillis(1), Duration.ofMillis(4)));
+        return factory.getProxy();
+    }
+
+    public static class Operacoes {
+
+        @RetentativaOtimista
+        public String gravar(Supplier<String> corpo) {
+            return corpo.get();
+        }
+    }
+}
@@ -3,26 +3,44 @@ package br.com.faculdade.tp3.unit;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import br.com.faculdade.tp3.dto.PaginaResponse;
 import br.com.faculdade.tp3.dto.rh.AjusteSalarialPayload;
 import br.com.faculdade.tp3.dto.rh.DemissaoPayload;
 import br.com.faculdade.tp3.dto.rh.FuncionarioPayload;
+import br.com.faculdade.tp3.dto.rh.FuncionarioResumo;
 import br.com.faculdade.tp3.dto.rh.PromocaoPayload;
+import br.com.faculdade.tp3.dto.rh.ResultadoContratacaoLote;
 import br.com.faculdade.tp3.exception.EntradaInvalidaException;
 import br.com.faculdade.tp3.exception.RecursoDuplicadoException;
+import br.com.faculdade.tp3.model.ChaveFuncionario;
 import br.com.faculdade.tp3.model.Departamento;
+import br.com.faculdade.tp3.model.EstadoSalarial;
 import br.com.faculdade.tp3.model.Funcionario;
 import br.com.faculdade.tp3.model.MovimentacaoRh;
 import br.com.faculdade.tp3.model.Salario;
+import br.com.faculdade.tp3.model.ReajusteSalarial;
 import br.com.faculdade.tp3.model.enums.FuncionarioStatus;
+import br.com.faculdade.tp3.model.enums.StatusReajuste;
 import br.com.faculdade.tp3.repository.DepartamentoRepository;
 import br.com.faculdade.tp3.repository.FuncionarioRepository;
 import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.repository.ReajusteSalarialRepository;
+import br.com.faculdade.tp3.service.ConsistenciaLeitura;
+import br.com.faculdade.tp3.service.FuncionarioAlteradoEvent;
+import br.com.faculdade.tp3.service.FuncionarioSearchIndex;
+import br.com.faculdade.tp3.service.HistoricoSalarialService;
+import br.com.faculdade.tp3.service.InputSanitizer;
+import br.com.faculdade.tp3.service.JournalMovimentacoes;
+import br.com.faculdade.tp3.service.OutboxService;
+import br.com.faculdade.tp3.service.ReajusteSolicitadoEvent;
 import br.com.faculdade.tp3.service.RhService;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -34,7 +52,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 class RhServiceTest {
@@ -48,6 +69,33 @@ class RhServiceTest {
     @Mock
     private MovimentacaoRhRepository movimentacaoRhRepository;
 
+    @Mock
+    private ReajusteSalarialRepository reajusteSalarialRepository;
+
+    @Mock
+    private FuncionarioSearchIndex funcionarioSearchIndex;
+
+    @Spy
+    private InputSanitizer inputSanitizer;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private HistoricoSalarialService historicoSalarialService;
+
+    @Mock
+    private JournalMovimentacoes journalMovimentacoes;
+
+    @Spy
+    private ConsistenciaLeitura consistenciaLeitura;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private RhService rhService;
 
@@ -66,7 +114,7 @@ class RhServiceTest {
     void deveContratarFuncionarioComSucesso() {
         FuncionarioPayload payload = payloadBase();
 
-        when(funcionarioRepository.findByEmailIgnoreCase(payload.getEmail())).thenReturn(Optional.empty());
+        when(funcionarioRepository.findByEmail(payload.getEmail())).thenReturn(Optional.empty());
         when(funcionarioRepository.findByCpf(payload.getCpf())).thenReturn(Optional.empty());
         when(departamentoRepository.findById(10L)).thenReturn(Optional.of(departamento));
         when(funcionarioRepository.save(any(Funcionario.class))).thenAnswer(invocation -> {
@@ -86,6 +134,7 @@ class RhServiceTest {
         verify(funcionarioRepository).save(funcionarioCaptor.capture());
         assertThat(funcionarioCaptor.getValue().getDepartamento().getId()).isEqualTo(10L);
         verify(movimentacaoRhRepository).save(any(MovimentacaoRh.class));
+        verify(outboxService).registrar(anyList());
     }
 
     @Test
@@ -95,7 +144,7 @@ class RhServiceTest {
         Funcionario existente = new Funcionario();
         existente.setId(999L);
 
-        when(funcionarioRepository.findByEmailIgnoreCase(payload.getEmail())).thenReturn(Optional.of(existente));
+        when(funcionarioRepository.findByEmail(payload.getEmail())).thenReturn(Optional.of(existente));
 
         assertThatThrownBy(() -> rhService.contratar(payload))
                 .isInstanceOf(RecursoDuplicadoException.class)
@@ -113,7 +162,7 @@ class RhServiceTest {
         payload.setCargo("Tech Lead");
 
         when(funcionarioRepository.findById(1L)).thenReturn(Optional.of(existente));
-        when(funcionarioRepository.findByEmailIgnoreCase("ana.souza@empresa.com")).thenReturn(Optional.of(existente));
+        when(funcionarioRepository.findByEmail("ana.souza@empresa.com")).thenReturn(Optional.of(existente));
         when(funcionarioRepository.findByCpf("12345678901")).thenReturn(Optional.of(existente));
         when(departamentoRepository.findById(10L)).thenReturn(Optional.of(departamento));
         when(funcionarioRepository.save(any(Funcionario.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -152,6 +201,29 @@ class RhServiceTest {
         assertThat(atualizado.getSalario().getValorAtual()).isEqualTo(new BigDecimal("5500.00"));
     }
 
+    @Test
+    void deveCalcularAumentoAPartirDoHistoricoQuandoFonteForEventos() {
+        Funcionario funcionario = funcionarioBase();
+
+        AjusteSalarialPayload payload = new AjusteSalarialPayload();
+        payload.setPercentual(new BigDecimal("10.00"));
+        payload.setMotivo("Ajuste anual");
+
+        when(funcionarioRepository.findById(1L)).thenReturn(Optional.of(funcionario));
+        when(funcionarioRepository.save(any(Funcionario.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(historicoSalarialService.fonteEventos()).thenReturn(true);
+        when(historicoSalarialService.reconstruir(1L))
+                .thenReturn(new EstadoSalarial(1L, new BigDecimal("6000.00"), "Analista", 3, 42L));
+
+        Funcionario atualizado = rhService.aumentarSalario(1L, payload);
+
+        assertThat(atualizado.getSalario().getValorAtual()).isEqualTo(new BigDecimal("6600.00"));
+        ArgumentCaptor<MovimentacaoRh> movimentacao = ArgumentCaptor.forClass(MovimentacaoRh.class);
+        verify(movimentacaoRhRepository).save(movimentacao.capture());
+        assertThat(movimentacao.getValue().getSalarioAnterior()).isEqualTo(new BigDecimal("6000.00"));
+        verify(historicoSalarialService).registrar(List.of(movimentacao.getValue()));
+    }
+
     @Test
     void deveFalharPromocaoParaFuncionarioInativo() {
         Funcionario funcionario = funcionarioBase();
@@ -203,13 +275,81 @@ class RhServiceTest {
 
     @Test
     void deveListarComFiltroDeAtivos() {
+        FuncionarioResumo funcionario = resumo(1L, "Ana Souza");
+        when(funcionarioRepository.buscarPaginaPorStatusApos(eq(FuncionarioStatus.ATIVO), eq(""), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(funcionario));
+
+        PaginaResponse<FuncionarioResumo> ativos = rhService.listarFuncionarios(null, true, null, null);
+
+        assertThat(ativos.itens()).hasSize(1);
+        assertThat(ativos.next()).isNull();
+        verify(funcionarioRepository).buscarPaginaPorStatusApos(FuncionarioStatus.ATIVO, "", 0L, Limit.of(51));
+    }
+
+    @Test
+    void deveRetornarCursorQuandoHaProximaPagina() {
+        FuncionarioResumo primeiro = resumo(1L, "Ana Souza");
+        FuncionarioResumo segundo = resumo(2L, "Bruno Lima");
+        FuncionarioResumo terceiro = resumo(3L, "Carla Dias");
+
+        when(funcionarioRepository.buscarPaginaApos("", 0L, Limit.of(3))).thenReturn(List.of(primeiro, segundo, terceiro));
+        when(funcionarioRepository.buscarPaginaApos("Bruno Lima", 2L, Limit.of(3))).thenReturn(List.of(terceiro));
+
+        PaginaResponse<FuncionarioResumo> pagina = rhService.listarFuncionarios(null, null, null, 2);
+
+        assertThat(pagina.itens()).extracting(FuncionarioResumo::id).containsExactly(1L, 2L);
+        assertThat(pagina.next()).isNotBlank();
+
+        PaginaResponse<FuncionarioResumo> seguinte = rhService.listarFuncionarios(null, null, pagina.next(), 2);
+
+        assertThat(seguinte.itens()).extracting(FuncionarioResumo::id).containsExactly(3L);
+        assertThat(seguinte.next()).isNull();
+    }
+
+    @Test
+    void deveBuscarPorNomeNoIndiceECarregarPorId() {
+        when(funcionarioSearchIndex.buscar(eq("Ana"), eq(null), any(), eq(3))).thenReturn(List.of(
+                new FuncionarioSearchIndex.Candidato(2L, "Ana Souza", 0),
+                new FuncionarioSearchIndex.Candidato(1L, "Mariana Lopes", 2),
+                new FuncionarioSearchIndex.Candidato(3L, "Susana Dias", 2)
+        ));
+        when(funcionarioRepository.buscarResumosPorIds(List.of(2L, 1L, 3L)))
+                .thenReturn(List.of(resumo(1L, "Mariana Lopes"), resumo(2L, "Ana Souza"), resumo(3L, "Susana Dias")));
+
+        PaginaResponse<FuncionarioResumo> pagina = rhService.listarFuncionarios("Ana", null, null, 2);
+
+        assertThat(pagina.itens()).extracting(FuncionarioResumo::id).containsExactly(2L, 1L);
+        assertThat(pagina.next()).isNotBlank();
+        verify(funcionarioRepository, never()).buscarPaginaApos(any(), any(), any());
+    }
+
+    @Test
+    void devePublicarEventoAoDemitir() {
         Funcionario funcionario = funcionarioBase();
-        when(funcionarioRepository.findByStatusOrderByNomeAsc(FuncionarioStatus.ATIVO)).thenReturn(List.of(funcionario));
 
-        List<Funcionario> ativos = rhService.listarFuncionarios(null, true);
+        DemissaoPayload payload = new DemissaoPayload();
+        payload.setMotivo("Reestruturação interna");
 
-        assertThat(ativos).hasSize(1);
-        verify(funcionarioRepository).findByStatusOrderByNomeAsc(FuncionarioStatus.ATIVO);
+        when(funcionarioRepository.findById(1L)).thenReturn(Optional.of(funcionario));
+        when(funcionarioRepository.save(any(Funcionario.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        rhService.demitir(1L, payload);
+
+        ArgumentCaptor<FuncionarioAlteradoEvent> evento = ArgumentCaptor.forClass(FuncionarioAlteradoEvent.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        assertThat(evento.getValue().anterior().status()).isEqualTo(FuncionarioStatus.ATIVO);
+        assertThat(evento.getValue().atual().status()).isEqualTo(FuncionarioStatus.INATIVO);
+    }
+
+    @Test
+    void deveFalharComCursorOuTamanhoDePaginaInvalidos() {
+        assertThatThrownBy(() -> rhService.listarFuncionarios(null, null, "%%%", null))
+                .isInstanceOf(EntradaInvalidaException.class)
+                .hasMessageContaining("Cursor");
+
+        assertThatThrownBy(() -> rhService.listarFuncionarios(null, null, null, 0))
+                .isInstanceOf(EntradaInvalidaException.class)
+                .hasMessageContaining("Tamanho da página");
     }
 
     @Test
@@ -222,6 +362,91 @@ class RhServiceTest {
                 .hasMessageContaining("CPF");
     }
 
+    @Test
+    void deveContratarEmLoteComUmaConsultaDeUnicidade() {
+        FuncionarioPayload valido = payloadBase();
+        FuncionarioPayload emailExistente = payloadBase();
+        emailExistente.setEmail("existente@empresa.com");
+        emailExistente.setCpf("22222222222");
+        FuncionarioPayload repetido = payloadBase();
+        repetido.setCpf("33333333333");
+        FuncionarioPayload invalido = payloadBase();
+        invalido.setCpf("123");
+
+        when(funcionarioRepository.buscarChavesExistentes(any(), any()))
+                .thenReturn(List.of(new ChaveFuncionario("existente@empresa.com", "99999999999")));
+        when(departamentoRepository.findAllById(any())).thenReturn(List.of(departamento));
+        when(funcionarioRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<Funcionario> funcionarios = invocation.getArgument(0);
+            funcionarios.forEach(f -> f.setId(1L));
+            return List.of();
+        });
+
+        ResultadoContratacaoLote resultado = rhService.contratarEmLote(
+                List.of(valido, emailExistente, repetido, invalido));
+
+        assertThat(resultado.total()).isEqualTo(4);
+        assertThat(resultado.contratados()).isEqualTo(1);
+        assertThat(resultado.rejeitados()).isEqualTo(3);
+        assertThat(resultado.itens().get(0).funcionarioId()).isEqualTo(1L);
+        assertThat(resultado.itens().get(1).mensagem()).contains("email");
+        assertThat(resultado.itens().get(2).mensagem()).contains("repetido");
+        assertThat(resultado.itens().get(3).mensagem()).contains("CPF");
+
+        verify(funcionarioRepository).buscarChavesExistentes(any(), any());
+        verify(funcionarioRepository, never()).findByEmail(any());
+        verify(funcionarioRepository).flush();
+        verify(entityManager).clear();
+        verify(eventPublisher).publishEvent(any(FuncionarioAlteradoEvent.class));
+    }
+
+    @Test
+    void deveFalharComLoteVazio() {
+        assertThatThrownBy(() -> rhService.contratarEmLote(List.of()))
+                .isInstanceOf(EntradaInvalidaException.class)
+                .hasMessageContaining("ao menos um");
+    }
+
+    @Test
+    void deveIniciarReajusteDoDepartamento() {
+        AjusteSalarialPayload payload = new AjusteSalarialPayload();
+        payload.setPercentual(new BigDecimal("5.00"));
+        payload.setMotivo("Dissídio coletivo");
+
+        when(departamentoRepository.findById(10L)).thenReturn(Optional.of(departamento));
+        when(reajusteSalarialRepository.existsByDepartamentoIdAndStatus(10L, StatusReajuste.EM_ANDAMENTO))
+                .thenReturn(false);
+        when(funcionarioRepository.countByDepartamentoIdAndStatus(10L, FuncionarioStatus.ATIVO)).thenReturn(3L);
+        when(funcionarioRepository.buscarMaiorId()).thenReturn(42L);
+        when(reajusteSalarialRepository.save(any(ReajusteSalarial.class))).thenAnswer(invocation -> {
+            ReajusteSalarial reajuste = invocation.getArgument(0);
+            reajuste.setId(7L);
+            return reajuste;
+        });
+
+        ReajusteSalarial reajuste = rhService.iniciarReajuste(10L, payload);
+
+        assertThat(reajuste.getStatus()).isEqualTo(StatusReajuste.EM_ANDAMENTO);
+        assertThat(reajuste.getTotalFuncionarios()).isEqualTo(3L);
+        assertThat(reajuste.getLimiteFuncionarioId()).isEqualTo(42L);
+        verify(eventPublisher).publishEvent(new ReajusteSolicitadoEvent(7L));
+    }
+
+    @Test
+    void deveRecusarReajusteConcorrenteNoMesmoDepartamento() {
+        AjusteSalarialPayload payload = new AjusteSalarialPayload();
+        payload.setPercentual(new BigDecimal("5.00"));
+        payload.setMotivo("Dissídio coletivo");
+
+        when(departamentoRepository.findById(10L)).thenReturn(Optional.of(departamento));
+        when(reajusteSalarialRepository.existsByDepartamentoIdAndStatus(10L, StatusReajuste.EM_ANDAMENTO))
+                .thenReturn(true);
+
+        assertThatThrownBy(() -> rhService.iniciarReajuste(10L, payload))
+                .isInstanceOf(RecursoDuplicadoException.class);
+        verify(reajusteSalarialRepository, never()).save(any());
+    }
+
     private FuncionarioPayload payloadBase() {
         FuncionarioPayload payload = new FuncionarioPayload();
         payload.setNome("Ana Souza");
@@ -233,6 +458,10 @@ class RhServiceTest {
         return payload;
     }
 
+    private FuncionarioResumo resumo(Long id, String nome) {
+        return new FuncionarioResumo(id, nome, "Desenvolvedora", "TI", new BigDecimal("5000.00"), FuncionarioStatus.ATIVO);
+    }
+
     private Funcionario funcionarioBase() {
         Funcionario funcionario = new Funcionario();
         funcionario.setId(1L);
@@ -0,0 +1,114 @@
+package br.com.faculdade.tp3.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import br.com.faculdade.tp3.model.MovimentacaoRh;
+import br.com.faculdade.tp3.model.ResumoMovimentacoes;
+import br.com.faculdade.tp3.model.VersaoFuncionario;
+import br.com.faculdade.tp3.repository.FuncionarioRepository;
+import br.com.faculdade.tp3.repository.MovimentacaoRhRepository;
+import br.com.faculdade.tp3.service.ConsistenciaLeitura;
+import br.com.faculdade.tp3.service.JournalMovimentacoes;
+import br.com.faculdade.tp3.service.VersaoRecurso;
+import br.com.faculdade.tp3.service.Versionado;
+import br.com.faculdade.tp3.service.VersoesRecurso;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VersoesRecursoTest {
+
+    private FuncionarioRepository funcionarioRepository;
+    private MovimentacaoRhRepository movimentacaoRhRepository;
+    private JournalMovimentacoes journalMovimentacoes;
+    private ConsistenciaLeitura consistenciaLeitura;
+    private VersoesRecurso versoesRecurso;
+
+    @BeforeEach
+    void setUp() {
+        funcionarioRepository = mock(FuncionarioRepository.class);
+        movimentacaoRhRepository = mock(MovimentacaoRhRepository.class);
+        journalMovimentacoes = mock(JournalMovimentacoes.class);
+        consistenciaLeitura = new ConsistenciaLeitura();
+        versoesRecurso = new VersoesRecurso(
+                funcionarioRepository, movimentacaoRhRepository, journalMovimentacoes, consistenciaLeitura);
+    }
+
+    @Test
+    void deveDerivarVersaoDoFuncionarioDaAlteracaoMaisRecente() {
+        LocalDateTime cadastro = LocalDateTime.of(2024, 3, 1, 10, 0);
+        LocalDateTime salario = cadastro.plusHours(2);
+        when(funcionarioRepository.buscarVersao(7L))
+                .thenReturn(Optional.of(new VersaoFuncionario(3L, 5L, cadastro, salario)));
+
+        VersaoRecurso versao = versoesRecurso.funcionario(7L).orElseThrow();
+
+        assertThat(versao.etag()).isEqualTo("\"f7-3-5\"");
+        assertThat(versao.ultimaModificacao()).isEqualTo(milissegundos(salario));
+        assertThat(versoesRecurso.funcionario(8L)).isEmpty();
+        assertThat(versoesRecurso.funcionario(0L)).isEmpty();
+    }
+
+    @Test
+    void deveGerarOMesmoValidadorDoResumoEDaListaCarregada() {
+        LocalDateTime ultima = LocalDateTime.of(2024, 3, 1, 10, 0, 0, 123_456_789);
+        when(movimentacaoRhRepository.resumirPorFuncionario(7L))
+                .thenReturn(new ResumoMovimentacoes(2, ultima));
+
+        VersaoRecurso resumo = versoesRecurso.movimentacoes(7L).orElseThrow();
+        VersaoRecurso carregada = VersoesRecurso.movimentacoes(7L, List.of(
+                movimentacao(ultima.minusDays(1)), movimentacao(ultima.withNano(123_000_000))));
+
+        assertThat(resumo).isEqualTo(carregada);
+        assertThat(resumo.etag()).isEqualTo("\"m7-2-" + milissegundos(ultima) + "\"");
+        assertThat(VersoesRecurso.movimentacoes(7L, List.of()).ultimaModificacao()).isEqualTo(VersaoRecurso.SEM_DATA);
+        assertThat(versoesRecurso.movimentacoes(null)).isEmpty();
+    }
+
+    @Test
+    void deveValidarHistoricoPeloJournalQuandoEleServeALeitura() {
+        LocalDateTime ultima = LocalDateTime.of(2024, 3, 1, 10, 0);
+        when(journalMovimentacoes.disponivel()).thenReturn(true);
+        when(journalMovimentacoes.resumir(7L)).thenReturn(new ResumoMovimentacoes(1, ultima));
+
+        assertThat(versoesRecurso.movimentacoes(7L).orElseThrow().etag())
+                .isEqualTo("\"m7-1-" + milissegundos(ultima) + "\"");
+        verifyNoInteractions(movimentacaoRhRepository);
+    }
+
+    @Test
+    void deveVersionarListagemPelaVersaoQueALeituraEnxergou() {
+        VersaoRecurso atual = versoesRecurso.listagem();
+        assertThat(atual.etag()).startsWith("\"l").endsWith("-0\"");
+        assertThat(atual.ultimaModificacao()).isEqualTo(VersaoRecurso.SEM_DATA);
+
+        Versionado<String> primario = versoesRecurso.lerListagem(() -> "pagina");
+        assertThat(primario.valor()).isEqualTo("pagina");
+        assertThat(primario.versao()).isEqualTo(atual);
+
+        Versionado<String> replica = versoesRecurso.lerListagem(() -> {
+            consistenciaLeitura.registrarVersaoLida(-1);
+            return "atrasada";
+        });
+        assertThat(replica.versao().etag()).isNotEqualTo(atual.etag()).endsWith("--1\"");
+        consistenciaLeitura.registrarVersaoLida(-5);
+        assertThat(versoesRecurso.listagem()).isEqualTo(atual);
+        verifyNoInteractions(funcionarioRepository, movimentacaoRhRepository);
+    }
+
+    private static MovimentacaoRh movimentacao(LocalDateTime momento) {
+        MovimentacaoRh movimentacao = new MovimentacaoRh();
+        movimentacao.setMovimentadoEm(momento);
+        return movimentacao;
+    }
+
+    private static long milissegundos(LocalDateTime momento) {
+        return momento.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}